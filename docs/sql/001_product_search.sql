@@ -0,0 +1,28 @@
+-- =====================================================================
+-- 001. 상품 전문 검색 (product.search.engine=fulltext)
+--  - search_vector : 상품명(A) / 부제목·검색 키워드(B) 가중치 tsvector, 생성 컬럼이라 INSERT/UPDATE 시 자동 유지
+--  - pg_trgm       : LIKE/ILIKE '%검색어%' 부분 문자열 검색용 trigram GIN 인덱스
+--  한국어 형태소 사전이 없으므로 'simple' 설정(소문자화 + 공백 분리)을 사용한다.
+--  운영 DB 에서는 CONCURRENTLY 인덱스 생성을 위해 트랜잭션 밖에서 한 문장씩 실행한다.
+-- =====================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE products
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', COALESCE(name, '')), 'A') ||
+        setweight(to_tsvector('simple', COALESCE(subtitle, '')), 'B') ||
+        setweight(to_tsvector('simple', REPLACE(COALESCE(search_keywords, ''), ',', ' ')), 'B')
+    ) STORED;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_search_vector
+    ON products USING GIN (search_vector);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_name_trgm
+    ON products USING GIN (name gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_search_keywords_trgm
+    ON products USING GIN (search_keywords gin_trgm_ops);
+
+ANALYZE products;
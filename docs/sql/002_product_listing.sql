@@ -0,0 +1,187 @@
+-- =====================================================================
+-- 002. 상품 목록 읽기 모델 (product.list.source=listing)
+--  - product_listing_source : 목록 한 행을 계산하는 뷰 (노출 조건, 할인율, 카테고리 경로)
+--                             가격은 products 원본 조회(productListColumns)와 같이 p.price / p.compare_price 를 쓴다
+--  - product_listing        : 위 뷰를 그대로 저장한 테이블. 노출 가능한 상품만 담긴다.
+--  - 증분 반영              : products / categories 트리거가 영향받은 상품 행만 다시 계산
+--  - 전체 대사              : reconcile_product_listing() (ProductListingSchedule 이 주기적으로 호출)
+--  컬럼 타입은 뷰에서 가져오므로 원본 테이블 타입이 바뀌면 이 스크립트를 다시 적용한다. (DROP 후 재생성)
+-- =====================================================================
+
+CREATE OR REPLACE VIEW product_listing_source AS
+WITH RECURSIVE category_paths AS (
+    SELECT c.id, ARRAY[c.id] AS path
+    FROM categories c
+    WHERE c.parent_id IS NULL
+    UNION ALL
+    SELECT c.id, cp.path || c.id
+    FROM categories c
+    JOIN category_paths cp ON c.parent_id = cp.id
+    WHERE NOT c.id = ANY(cp.path) -- 순환 참조 방어
+)
+SELECT
+    p.id,
+    p.category_id,
+    COALESCE(cp.path, ARRAY[p.category_id]) AS category_path, -- 최상위 → 자기 자신
+    p.brand_id,
+    p.name,
+    p.slug,
+    p.subtitle,
+    p.search_keywords,
+    p.price,
+    p.compare_price,
+    CASE
+        WHEN p.compare_price IS NULL OR p.compare_price = 0 THEN 0
+        ELSE ROUND(((p.compare_price - p.price) / p.compare_price) * 100, 1)
+    END AS discount_percent,
+    p.is_preorder,
+    p.average_rating,
+    p.review_count,
+    p.sales_count,
+    p.wishlist_count,
+    p.created_at
+FROM products p
+LEFT JOIN category_paths cp ON cp.id = p.category_id
+WHERE p.status = 'active'
+  AND p.visibility = 'visible'
+  AND p.deleted_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS product_listing AS
+SELECT * FROM product_listing_source WITH NO DATA;
+
+ALTER TABLE product_listing DROP CONSTRAINT IF EXISTS product_listing_pkey;
+ALTER TABLE product_listing ADD CONSTRAINT product_listing_pkey PRIMARY KEY (id);
+
+-- productListOrderBy 정렬별 인덱스
+CREATE INDEX IF NOT EXISTS idx_product_listing_latest ON product_listing (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_product_listing_price ON product_listing (price, id);
+CREATE INDEX IF NOT EXISTS idx_product_listing_rating ON product_listing (average_rating DESC NULLS LAST, id DESC);
+CREATE INDEX IF NOT EXISTS idx_product_listing_popular ON product_listing (sales_count DESC NULLS LAST, id DESC);
+CREATE INDEX IF NOT EXISTS idx_product_listing_category ON product_listing (category_id);
+CREATE INDEX IF NOT EXISTS idx_product_listing_category_path ON product_listing USING GIN (category_path);
+
+-- 상품 한 건을 다시 계산한다. 노출 대상이 아니면 삭제
+CREATE OR REPLACE FUNCTION refresh_product_listing(p_product_id BIGINT) RETURNS VOID AS $$
+BEGIN
+    INSERT INTO product_listing
+    SELECT * FROM product_listing_source s WHERE s.id = p_product_id
+    ON CONFLICT (id) DO UPDATE SET
+        category_id      = EXCLUDED.category_id,
+        category_path    = EXCLUDED.category_path,
+        brand_id         = EXCLUDED.brand_id,
+        name             = EXCLUDED.name,
+        slug             = EXCLUDED.slug,
+        subtitle         = EXCLUDED.subtitle,
+        search_keywords  = EXCLUDED.search_keywords,
+        price            = EXCLUDED.price,
+        compare_price    = EXCLUDED.compare_price,
+        discount_percent = EXCLUDED.discount_percent,
+        is_preorder      = EXCLUDED.is_preorder,
+        average_rating   = EXCLUDED.average_rating,
+        review_count     = EXCLUDED.review_count,
+        sales_count      = EXCLUDED.sales_count,
+        wishlist_count   = EXCLUDED.wishlist_count,
+        created_at       = EXCLUDED.created_at;
+
+    IF NOT FOUND THEN
+        DELETE FROM product_listing WHERE id = p_product_id;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 원본과 다른 행만 갱신하고 노출 대상이 아닌 행은 삭제한다. 바뀐 행 수 반환
+CREATE OR REPLACE FUNCTION reconcile_product_listing() RETURNS INTEGER AS $$
+DECLARE
+    v_upserted INTEGER;
+    v_deleted  INTEGER;
+BEGIN
+    INSERT INTO product_listing
+    SELECT s.*
+    FROM product_listing_source s
+    LEFT JOIN product_listing l ON l.id = s.id
+    WHERE l.id IS NULL OR ROW(l.*) IS DISTINCT FROM ROW(s.*)
+    ON CONFLICT (id) DO UPDATE SET
+        category_id      = EXCLUDED.category_id,
+        category_path    = EXCLUDED.category_path,
+        brand_id         = EXCLUDED.brand_id,
+        name             = EXCLUDED.name,
+        slug             = EXCLUDED.slug,
+        subtitle         = EXCLUDED.subtitle,
+        search_keywords  = EXCLUDED.search_keywords,
+        price            = EXCLUDED.price,
+        compare_price    = EXCLUDED.compare_price,
+        discount_percent = EXCLUDED.discount_percent,
+        is_preorder      = EXCLUDED.is_preorder,
+        average_rating   = EXCLUDED.average_rating,
+        review_count     = EXCLUDED.review_count,
+        sales_count      = EXCLUDED.sales_count,
+        wishlist_count   = EXCLUDED.wishlist_count,
+        created_at       = EXCLUDED.created_at;
+    GET DIAGNOSTICS v_upserted = ROW_COUNT;
+
+    DELETE FROM product_listing l
+    WHERE NOT EXISTS (SELECT 1 FROM product_listing_source s WHERE s.id = l.id);
+    GET DIAGNOSTICS v_deleted = ROW_COUNT;
+
+    RETURN v_upserted + v_deleted;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 상품 변경: 목록 컬럼 값이 실제로 바뀐 경우에만 다시 계산
+CREATE OR REPLACE FUNCTION trg_product_listing_products() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM product_listing WHERE id = OLD.id;
+        RETURN OLD;
+    END IF;
+
+    PERFORM refresh_product_listing(NEW.id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS product_listing_products_ins_del ON products;
+CREATE TRIGGER product_listing_products_ins_del
+    AFTER INSERT OR DELETE ON products
+    FOR EACH ROW EXECUTE FUNCTION trg_product_listing_products();
+
+-- 목록(product_listing_source)이 읽는 컬럼이 바뀐 경우만. view_count / updated_at 만 바뀌는 갱신(조회수 플러시 등)은 제외
+-- 카운터 플러시는 sales_count / wishlist_count 도 SET 하지만 증분이 0 이면 값이 같아 WHEN 에서 걸러진다
+DROP TRIGGER IF EXISTS product_listing_products_upd ON products;
+CREATE TRIGGER product_listing_products_upd
+    AFTER UPDATE OF category_id, brand_id, name, slug, subtitle, search_keywords, price, compare_price, is_preorder,
+        average_rating, review_count, sales_count, wishlist_count, created_at, status, visibility, deleted_at ON products
+    FOR EACH ROW WHEN (
+        ROW(OLD.category_id, OLD.brand_id, OLD.name, OLD.slug, OLD.subtitle, OLD.search_keywords, OLD.price, OLD.compare_price,
+            OLD.is_preorder, OLD.average_rating, OLD.review_count, OLD.sales_count, OLD.wishlist_count, OLD.created_at,
+            OLD.status, OLD.visibility, OLD.deleted_at)
+        IS DISTINCT FROM
+        ROW(NEW.category_id, NEW.brand_id, NEW.name, NEW.slug, NEW.subtitle, NEW.search_keywords, NEW.price, NEW.compare_price,
+            NEW.is_preorder, NEW.average_rating, NEW.review_count, NEW.sales_count, NEW.wishlist_count, NEW.created_at,
+            NEW.status, NEW.visibility, NEW.deleted_at)
+    )
+    EXECUTE FUNCTION trg_product_listing_products();
+
+-- 목록 가격은 변형과 무관하므로 변형 트리거는 두지 않는다 (이전 버전 스크립트로 만든 트리거 정리)
+DROP TRIGGER IF EXISTS product_listing_variants ON product_variants;
+DROP FUNCTION IF EXISTS trg_product_listing_variants();
+
+-- 카테고리 이동: 경로에 해당 카테고리가 포함된 상품만 다시 계산 (category_path GIN 인덱스 사용)
+CREATE OR REPLACE FUNCTION trg_product_listing_categories() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_product_listing(l.id)
+    FROM product_listing l
+    WHERE l.category_path @> ARRAY[NEW.id];
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS product_listing_categories ON categories;
+CREATE TRIGGER product_listing_categories
+    AFTER UPDATE OF parent_id ON categories
+    FOR EACH ROW WHEN (OLD.parent_id IS DISTINCT FROM NEW.parent_id)
+    EXECUTE FUNCTION trg_product_listing_categories();
+
+-- 최초 적재
+SELECT reconcile_product_listing();
+ANALYZE product_listing;
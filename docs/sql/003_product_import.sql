@@ -0,0 +1,15 @@
+-- =====================================================================
+-- 003. 상품 일괄 가져오기 (POST /admin/product/import)
+--  - 피드는 COPY 로 트랜잭션 임시 테이블(product_import_staging)에 적재한 뒤
+--    INSERT ... ON CONFLICT (sku) 한 번으로 products / product_variants 에 병합한다.
+--  - ON CONFLICT 대상이 되도록 SKU 유니크 인덱스가 필요하다.
+--  - 기존 데이터에 중복 SKU 가 있으면 인덱스 생성이 실패하므로 먼저 정리한다.
+--  운영 DB 에서는 CONCURRENTLY 인덱스 생성을 위해 트랜잭션 밖에서 한 문장씩 실행한다.
+-- =====================================================================
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_products_sku ON products (sku);
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_product_variants_sku ON product_variants (sku);
+
+-- 중복 확인용
+-- SELECT sku, COUNT(*) FROM products GROUP BY sku HAVING COUNT(*) > 1;
+-- SELECT sku, COUNT(*) FROM product_variants GROUP BY sku HAVING COUNT(*) > 1;
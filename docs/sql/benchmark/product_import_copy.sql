@@ -0,0 +1,114 @@
+-- =====================================================================
+-- 상품 일괄 가져오기 벤치마크: 행 단위 upsert vs COPY 스테이징 + 집합 병합 (ProductImportLoader)
+--  psql -v ON_ERROR_STOP=1 -f docs/sql/benchmark/product_import_copy.sql
+--  별도 스키마(bench)에 기존 상품 5만 건을 두고, 상품 10만 건(절반은 기존 SKU 갱신) x 변형 2개 = 20만 행 피드를 반영한다.
+--  처리량(행/초) = 200000 / (\timing 으로 출력된 COPY + 병합 시간 합계, 초)
+--  피드 파일은 /tmp/bench_product_feed.csv 에 만든다. 운영 테이블은 건드리지 않는다. 끝나면 DROP SCHEMA bench CASCADE;
+-- =====================================================================
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+CREATE TABLE bench.products (
+    id            BIGSERIAL PRIMARY KEY,
+    sku           VARCHAR(100)   NOT NULL UNIQUE,
+    name          VARCHAR(255)   NOT NULL,
+    slug          VARCHAR(255),
+    category_id   BIGINT,
+    price         NUMERIC(12, 2) NOT NULL,
+    compare_price NUMERIC(12, 2),
+    status        VARCHAR(20)    NOT NULL DEFAULT 'active',
+    visibility    VARCHAR(20)    NOT NULL DEFAULT 'visible',
+    created_at    TIMESTAMP      NOT NULL DEFAULT NOW(),
+    updated_at    TIMESTAMP      NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE bench.product_variants (
+    id                 BIGSERIAL PRIMARY KEY,
+    product_id         BIGINT         NOT NULL REFERENCES bench.products (id),
+    sku                VARCHAR(100)   NOT NULL UNIQUE,
+    name               VARCHAR(255),
+    price              NUMERIC(12, 2),
+    inventory_quantity INTEGER        NOT NULL DEFAULT 0,
+    "options"          JSONB,
+    is_default         BOOLEAN        NOT NULL DEFAULT FALSE
+);
+
+INSERT INTO bench.products (sku, name, slug, category_id, price)
+SELECT 'P-' || g, '기존 상품 ' || g, 'p-' || g, 1 + (g % 200), 1000 + (g % 500) * 100
+FROM generate_series(1, 50000) AS g;
+
+-- 피드: P-25001 ~ P-125000 (앞 2.5만 건은 기존 상품 갱신), 상품당 변형 2개
+\copy (SELECT g * 2 + v AS line_no, 'P-' || g AS product_sku, '상품 ' || g AS name, 1 + (g % 200) AS category_id, 2000 + (g % 500) * 100 AS price, 'P-' || g || '-V' || v AS variant_sku, '옵션 ' || v AS variant_name, (g * v) % 50 AS inventory_quantity, jsonb_build_object('size', v)::TEXT AS "options", v = 1 AS is_default FROM generate_series(25001, 125000) AS g CROSS JOIN generate_series(1, 2) AS v) TO '/tmp/bench_product_feed.csv' WITH (FORMAT csv)
+
+ANALYZE bench.products;
+
+\timing on
+
+-- 1) COPY 스테이징 + 집합 병합 (애플리케이션과 같은 SQL, 한 트랜잭션)
+BEGIN;
+
+CREATE TEMP TABLE product_import_staging (
+    line_no            BIGINT         NOT NULL,
+    product_sku        VARCHAR(100)   NOT NULL,
+    name               VARCHAR(255)   NOT NULL,
+    category_id        BIGINT,
+    price              NUMERIC(12, 2) NOT NULL,
+    variant_sku        VARCHAR(100),
+    variant_name       VARCHAR(255),
+    inventory_quantity INTEGER,
+    options            TEXT,
+    is_default         BOOLEAN
+) ON COMMIT DROP;
+
+\copy product_import_staging FROM '/tmp/bench_product_feed.csv' WITH (FORMAT csv)
+
+INSERT INTO bench.products (sku, name, slug, category_id, price)
+SELECT DISTINCT ON (s.product_sku) s.product_sku, s.name, LOWER(s.product_sku), s.category_id, s.price
+FROM product_import_staging s
+ORDER BY s.product_sku, s.line_no DESC
+ON CONFLICT (sku) DO UPDATE SET
+    name = EXCLUDED.name, category_id = EXCLUDED.category_id, price = EXCLUDED.price, updated_at = NOW()
+WHERE (bench.products.name, bench.products.category_id, bench.products.price)
+    IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.category_id, EXCLUDED.price);
+
+INSERT INTO bench.product_variants (product_id, sku, name, inventory_quantity, "options", is_default)
+SELECT DISTINCT ON (s.variant_sku) p.id, s.variant_sku, s.variant_name, s.inventory_quantity, CAST(s.options AS JSONB), s.is_default
+FROM product_import_staging s
+JOIN bench.products p ON p.sku = s.product_sku
+ORDER BY s.variant_sku, s.line_no DESC
+ON CONFLICT (sku) DO UPDATE SET
+    name = EXCLUDED.name, inventory_quantity = EXCLUDED.inventory_quantity, "options" = EXCLUDED."options", is_default = EXCLUDED.is_default;
+
+COMMIT;
+
+-- 2) 비교: 같은 피드를 행 단위 upsert 로 반영 (애플리케이션의 행별 INSERT 왕복을 서버 측 루프로 근사, 네트워크 왕복 비용은 빠져 있어 실제보다 유리함)
+DO $$
+DECLARE
+    r RECORD;
+    pid BIGINT;
+BEGIN
+    FOR r IN
+        SELECT g * 2 + v AS line_no, 'P-' || g AS product_sku, '상품 ' || g || ' (2)' AS name, 1 + (g % 200) AS category_id,
+               2000 + (g % 500) * 100 AS price, 'P-' || g || '-V' || v AS variant_sku, (g * v) % 50 AS inventory_quantity
+        FROM generate_series(25001, 125000) AS g CROSS JOIN generate_series(1, 2) AS v
+        ORDER BY 1
+    LOOP
+        INSERT INTO bench.products (sku, name, category_id, price)
+        VALUES (r.product_sku, r.name, r.category_id, r.price)
+        ON CONFLICT (sku) DO UPDATE SET name = EXCLUDED.name, price = EXCLUDED.price, updated_at = NOW()
+        RETURNING id INTO pid;
+
+        INSERT INTO bench.product_variants (product_id, sku, inventory_quantity)
+        VALUES (pid, r.variant_sku, r.inventory_quantity)
+        ON CONFLICT (sku) DO UPDATE SET inventory_quantity = EXCLUDED.inventory_quantity;
+    END LOOP;
+END $$;
+
+\timing off
+
+SELECT COUNT(1) AS products FROM bench.products;
+SELECT COUNT(1) AS variants FROM bench.product_variants;
+
+DROP SCHEMA bench CASCADE;
+\! rm -f /tmp/bench_product_feed.csv
@@ -0,0 +1,92 @@
+-- =====================================================================
+-- 상품 검색 벤치마크: LIKE vs tsvector + pg_trgm (상품 100만 건)
+--  psql -v ON_ERROR_STOP=1 -f docs/sql/benchmark/product_search_1m.sql
+--  별도 스키마(bench)에 시드 데이터를 만들고 같은 조건으로 EXPLAIN ANALYZE 를 비교한다.
+--  운영 테이블은 건드리지 않는다. 끝나면 DROP SCHEMA bench CASCADE;
+-- =====================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+CREATE TABLE bench.products (
+    id              BIGSERIAL PRIMARY KEY,
+    name            VARCHAR(255) NOT NULL,
+    subtitle        VARCHAR(255),
+    search_keywords TEXT,
+    category_id     BIGINT,
+    price           NUMERIC(12, 2) NOT NULL,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'active',
+    visibility      VARCHAR(20)  NOT NULL DEFAULT 'visible',
+    deleted_at      TIMESTAMP,
+    created_at      TIMESTAMP    NOT NULL DEFAULT NOW()
+);
+
+-- 100만 건: 단어 조합으로 상품명/키워드 생성
+INSERT INTO bench.products (name, subtitle, search_keywords, category_id, price, created_at)
+SELECT
+    (ARRAY['프리미엄','무선','블루투스','스마트','초경량','방수','휴대용','게이밍'])[1 + (g % 8)] || ' ' ||
+    (ARRAY['이어폰','헤드폰','스피커','키보드','마우스','모니터','충전기','케이블','노트북','태블릿'])[1 + (g / 8 % 10)] || ' ' ||
+    'model-' || g,
+    (ARRAY['고음질','저지연','장시간 배터리','빠른 충전','인체공학'])[1 + (g % 5)],
+    (ARRAY['음향,오디오','컴퓨터,주변기기','모바일,액세서리','가전,생활'])[1 + (g % 4)],
+    1 + (g % 200),
+    1000 + (g % 500) * 100,
+    NOW() - (g || ' seconds')::INTERVAL
+FROM generate_series(1, 1000000) AS g;
+
+ALTER TABLE bench.products
+    ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', COALESCE(name, '')), 'A') ||
+        setweight(to_tsvector('simple', COALESCE(subtitle, '')), 'B') ||
+        setweight(to_tsvector('simple', REPLACE(COALESCE(search_keywords, ''), ',', ' ')), 'B')
+    ) STORED;
+
+CREATE INDEX ON bench.products USING GIN (search_vector);
+CREATE INDEX ON bench.products USING GIN (name gin_trgm_ops);
+CREATE INDEX ON bench.products USING GIN (search_keywords gin_trgm_ops);
+CREATE INDEX ON bench.products (created_at DESC, id DESC);
+ANALYZE bench.products;
+
+\timing on
+
+-- 1) 기존 방식 (LIKE, 건수 + 페이지 2회)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(1) FROM bench.products p
+WHERE p.status = 'active' AND p.visibility = 'visible' AND p.deleted_at IS NULL
+  AND (LOWER(p.name) LIKE '%이어폰%' OR LOWER(p.search_keywords) LIKE '%이어폰%');
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.name FROM bench.products p
+WHERE p.status = 'active' AND p.visibility = 'visible' AND p.deleted_at IS NULL
+  AND (LOWER(p.name) LIKE '%이어폰%' OR LOWER(p.search_keywords) LIKE '%이어폰%')
+ORDER BY p.created_at DESC, p.id DESC
+LIMIT 20 OFFSET 0;
+
+-- 2) 전문 검색 (tsvector + trigram, 건수 + 페이지 단일 쿼리, relevance 정렬)
+EXPLAIN (ANALYZE, BUFFERS)
+WITH filtered AS (
+    SELECT p.*, ts_rank_cd(p.search_vector, q) + similarity(p.name, '이어폰') AS relevance
+    FROM bench.products p
+    CROSS JOIN websearch_to_tsquery('simple', '이어폰') q
+    WHERE p.status = 'active' AND p.visibility = 'visible' AND p.deleted_at IS NULL
+      AND (p.search_vector @@ q OR p.name ILIKE '%이어폰%' OR p.search_keywords ILIKE '%이어폰%')
+)
+SELECT t.total_count, page.*
+FROM (SELECT COUNT(1) AS total_count FROM filtered) t
+LEFT JOIN LATERAL (
+    SELECT f.id, f.name FROM filtered f ORDER BY f.relevance DESC, f.id DESC LIMIT 20
+) page ON TRUE;
+
+-- 3) 결과가 적은 검색어 (선택도가 높을수록 인덱스 효과가 크다)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(1) FROM bench.products p
+WHERE (LOWER(p.name) LIKE '%model-123456%' OR LOWER(p.search_keywords) LIKE '%model-123456%');
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(1) FROM bench.products p
+WHERE (p.name ILIKE '%model-123456%' OR p.search_keywords ILIKE '%model-123456%');
+
+\timing off
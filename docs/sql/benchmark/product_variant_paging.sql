@@ -0,0 +1,121 @@
+-- =====================================================================
+-- 상품 목록 벤치마크: 변형 LEFT JOIN 페이징 vs 상품 ID 페이징 + 변형 일괄 조회
+--  psql -v ON_ERROR_STOP=1 -f docs/sql/benchmark/product_variant_paging.sql
+--  별도 스키마(bench)에 상품 10만 건, 상품당 변형 0~8개를 만들고 같은 페이지를 두 방식으로 조회한다.
+--  비교 항목: 반환 행 수(고유 상품 수), EXPLAIN ANALYZE 실행 시간/버퍼.
+--  운영 테이블은 건드리지 않는다. 끝나면 DROP SCHEMA bench CASCADE;
+-- =====================================================================
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+CREATE TABLE bench.products (
+    id            BIGSERIAL PRIMARY KEY,
+    name          VARCHAR(255)   NOT NULL,
+    category_id   BIGINT,
+    price         NUMERIC(12, 2) NOT NULL,
+    compare_price NUMERIC(12, 2),
+    status        VARCHAR(20)    NOT NULL DEFAULT 'active',
+    visibility    VARCHAR(20)    NOT NULL DEFAULT 'visible',
+    deleted_at    TIMESTAMP,
+    created_at    TIMESTAMP      NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE bench.product_variants (
+    id                 BIGSERIAL PRIMARY KEY,
+    product_id         BIGINT         NOT NULL REFERENCES bench.products (id),
+    sku                VARCHAR(100)   NOT NULL,
+    name               VARCHAR(255),
+    price              NUMERIC(12, 2),
+    compare_price      NUMERIC(12, 2),
+    inventory_quantity INTEGER        NOT NULL DEFAULT 0,
+    reserved_quantity  INTEGER        NOT NULL DEFAULT 0,
+    "options"          JSONB,
+    is_default         BOOLEAN        NOT NULL DEFAULT FALSE,
+    is_active          BOOLEAN        NOT NULL DEFAULT TRUE
+);
+
+INSERT INTO bench.products (name, category_id, price, compare_price, created_at)
+SELECT
+    '상품 ' || g,
+    1 + (g % 200),
+    1000 + (g % 500) * 100,
+    CASE WHEN g % 3 = 0 THEN 2000 + (g % 500) * 100 END,
+    NOW() - (g || ' seconds')::INTERVAL
+FROM generate_series(1, 100000) AS g;
+
+-- 상품별 변형 0~8개 (g % 9)
+INSERT INTO bench.product_variants (product_id, sku, name, price, inventory_quantity, "options", is_default)
+SELECT
+    p.id,
+    'SKU-' || p.id || '-' || v,
+    p.name || ' / 옵션 ' || v,
+    p.price + v * 1000,
+    (p.id * v) % 50,
+    jsonb_build_object('color', (ARRAY['블랙','화이트','네이비','그레이'])[1 + (v % 4)], 'size', v),
+    v = 1
+FROM bench.products p
+CROSS JOIN LATERAL generate_series(1, (p.id % 9)::INT) AS v;
+
+CREATE INDEX ON bench.products (created_at DESC, id DESC);
+CREATE INDEX ON bench.product_variants (product_id);
+ANALYZE bench.products;
+ANALYZE bench.product_variants;
+
+\timing on
+
+-- 1) 기존 방식: 변형 LEFT JOIN 후 LIMIT/OFFSET (변형 행 단위로 페이징)
+--    20행을 요청해도 고유 상품은 20개보다 적고, 다음 페이지와 같은 상품이 겹칠 수 있다.
+SELECT COUNT(1) AS row_count, COUNT(DISTINCT id) AS product_count
+FROM (
+    SELECT p.id
+    FROM bench.products p
+    LEFT JOIN bench.product_variants pv ON pv.product_id = p.id
+    WHERE p.status = 'active' AND p.visibility = 'visible' AND p.deleted_at IS NULL
+    ORDER BY p.created_at DESC, p.id DESC
+    LIMIT 20 OFFSET 2000
+) page;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, COALESCE(pv.name, p.name), COALESCE(pv.price, p.price), pv."options"
+FROM bench.products p
+LEFT JOIN bench.product_variants pv ON pv.product_id = p.id
+WHERE p.status = 'active' AND p.visibility = 'visible' AND p.deleted_at IS NULL
+ORDER BY p.created_at DESC, p.id DESC
+LIMIT 20 OFFSET 2000;
+
+-- 2) 변경 방식: 상품 ID 로 페이징한 뒤 해당 페이지 변형만 product_id = ANY(?) 로 조회
+SELECT COUNT(1) AS row_count, COUNT(DISTINCT id) AS product_count
+FROM (
+    SELECT p.id
+    FROM bench.products p
+    WHERE p.status = 'active' AND p.visibility = 'visible' AND p.deleted_at IS NULL
+    ORDER BY p.created_at DESC, p.id DESC
+    LIMIT 20 OFFSET 2000
+) page;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.name, p.price
+FROM bench.products p
+WHERE p.status = 'active' AND p.visibility = 'visible' AND p.deleted_at IS NULL
+ORDER BY p.created_at DESC, p.id DESC
+LIMIT 20 OFFSET 2000;
+
+-- 애플리케이션은 위 결과의 id 배열을 넘긴다. 여기서는 같은 페이지를 서브쿼리로 재현
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT pv.id, pv.product_id, pv.sku, pv.name, pv.price, pv."options",
+       GREATEST(pv.inventory_quantity - pv.reserved_quantity, 0) AS available_quantity
+FROM bench.product_variants pv
+WHERE pv.product_id = ANY(ARRAY(
+    SELECT p.id
+    FROM bench.products p
+    WHERE p.status = 'active' AND p.visibility = 'visible' AND p.deleted_at IS NULL
+    ORDER BY p.created_at DESC, p.id DESC
+    LIMIT 20 OFFSET 2000
+))
+  AND pv.is_active = TRUE
+ORDER BY pv.product_id, pv.is_default DESC, pv.id;
+
+\timing off
+
+DROP SCHEMA bench CASCADE;
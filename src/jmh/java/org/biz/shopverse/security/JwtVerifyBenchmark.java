@@ -0,0 +1,89 @@
+package org.biz.shopverse.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청 한 건의 토큰 처리 비용 비교.
+ * - legacy: 기존 경로. JwtFilter(isTokenValid + getUserId) + MemberService(isTokenValid + getUserId + getUserRole),
+ *   호출마다 parserBuilder 로 파서를 새로 만들고 서명을 다시 검증한다 (5회)
+ * - verifyOnce: JwtFilter 에서 캐시된 파서로 한 번 검증(VerifiedToken)하고 이후는 필드만 읽는다
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtVerifyBenchmark {
+    private static final String SECRET = "benchmark-secret-key-for-hs256-signature-0123456789";
+
+    private Key key;
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        provider = new JwtTokenProvider();
+        setField(provider, "secret", SECRET);
+        setField(provider, "issuer", "shopverse");
+        provider.init();
+        token = provider.generateAccessToken("benchmark-user", List.of("ROLE_USER"), TimeUnit.HOURS.toMillis(1));
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        // JwtFilter
+        legacyParse();
+        blackhole.consume(legacyParse().getSubject());
+        // MemberService.getProfile
+        legacyParse();
+        blackhole.consume(legacyParse().getSubject());
+        blackhole.consume(legacyParse().get("roles"));
+    }
+
+    @Benchmark
+    public void verifyOnce(Blackhole blackhole) {
+        VerifiedToken verified = provider.verify(token);
+        blackhole.consume(verified.getSubject());
+        blackhole.consume(verified.getSubject());
+        blackhole.consume(verified.getPrimaryRole());
+    }
+
+    // 변경 전 JwtTokenProvider.parseClaims
+    private Claims legacyParse() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,111 @@
+package org.biz.shopverse.service.product.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.biz.shopverse.dto.product.ProductFeedRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드 파싱 + COPY 입력 인코딩 처리량 (행/초). DB 구간은 docs/sql/benchmark/product_import_copy.sql 로 측정한다.
+ * 실행: ./gradlew jmh (결과 ops/s = 행/초)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductFeedParseBenchmark {
+    private static final int ROWS = 100_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] csv;
+    private byte[] ndjson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder csvBuilder = new StringBuilder(
+                "product_sku,name,category_id,brand_id,price,compare_price,variant_sku,variant_name,inventory_quantity,options,is_default\n");
+        StringBuilder ndjsonBuilder = new StringBuilder();
+
+        for (int i = 0; i < ROWS; i++) {
+            String sku = "P-" + (i / 4);
+            int price = 1000 + random.nextInt(500_000);
+            String color = random.nextBoolean() ? "black" : "white";
+            csvBuilder.append(sku).append(",\"상품 ").append(i / 4).append(", 무선\",")
+                    .append(1 + random.nextInt(50)).append(',').append(1 + random.nextInt(200)).append(',')
+                    .append(price).append(',').append(price + 1000).append(',')
+                    .append(sku).append("-V").append(i % 4).append(",옵션 ").append(i % 4).append(',')
+                    .append(random.nextInt(100)).append(",\"{\"\"color\"\":\"\"").append(color).append("\"\"}\",")
+                    .append(i % 4 == 0).append('\n');
+            ndjsonBuilder.append("{\"product_sku\":\"").append(sku).append("\",\"name\":\"상품 ").append(i / 4)
+                    .append("\",\"category_id\":").append(1 + random.nextInt(50))
+                    .append(",\"price\":").append(price)
+                    .append(",\"variant_sku\":\"").append(sku).append("-V").append(i % 4)
+                    .append("\",\"inventory_quantity\":").append(random.nextInt(100))
+                    .append(",\"options\":{\"color\":\"").append(color).append("\"},\"is_default\":").append(i % 4 == 0)
+                    .append("}\n");
+        }
+
+        csv = csvBuilder.toString().getBytes(StandardCharsets.UTF_8);
+        ndjson = ndjsonBuilder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long csvToCopy() throws IOException {
+        return encode(new CsvProductFeedReader(
+                new InputStreamReader(new ByteArrayInputStream(csv), StandardCharsets.UTF_8), objectMapper));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long ndjsonToCopy() throws IOException {
+        return encode(new NdjsonProductFeedReader(new ByteArrayInputStream(ndjson), objectMapper));
+    }
+
+    private long encode(ProductFeedReader reader) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        try (reader; StagingCopyWriter writer = new StagingCopyWriter(out)) {
+            ProductFeedRow row;
+            while ((row = reader.next()) != null) {
+                writer.write(row);
+            }
+        }
+        return out.count;
+    }
+
+    // COPY 전송 대신 바이트 수만 센다
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
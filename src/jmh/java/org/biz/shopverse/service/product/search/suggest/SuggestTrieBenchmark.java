@@ -0,0 +1,86 @@
+package org.biz.shopverse.service.product.search.suggest;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 트라이 조회 지연/메모리 측정.
+ * 실행: ./gradlew jmh (메모리 사용량은 보조 카운터 estimatedBytes / nodes 로 결과에 함께 기록)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuggestTrieBenchmark {
+    private static final String[] WORDS = {
+            "무선", "블루투스", "이어폰", "헤드폰", "스마트", "워치", "노트북", "거치대", "충전기", "케이블",
+            "wireless", "bluetooth", "earphone", "usb", "type-c", "pro", "max", "mini", "case", "cover"
+    };
+
+    @Param({"100000"})
+    private int terms;
+
+    private SuggestTrie trie;
+    private String[] prefixes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Map<String, SuggestTrie.Entry> entries = new HashMap<>();
+        while (entries.size() < terms) {
+            String text = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + Integer.toString(random.nextInt(1_000_000), 36);
+            ProductSuggestService.addEntry(entries, text, random.nextInt(10_000));
+        }
+
+        trie = SuggestTrie.build(entries, 10);
+
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            prefixes[i] = ProductSuggestService.normalize(word.substring(0, 1 + random.nextInt(word.length())));
+        }
+    }
+
+    @Benchmark
+    public List<String> lookup(TrieSize trieSize) {
+        String prefix = prefixes[next++ & (prefixes.length - 1)];
+        return trie.lookup(prefix, 10);
+    }
+
+    /**
+     * 트라이 크기 보조 카운터. 반복마다 값을 다시 써서 결과표에 그대로 나온다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TrieSize {
+        public long estimatedBytes;
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void record(SuggestTrieBenchmark benchmark) {
+            estimatedBytes = benchmark.trie.estimatedBytes();
+            nodes = benchmark.trie.nodeCount();
+        }
+    }
+}
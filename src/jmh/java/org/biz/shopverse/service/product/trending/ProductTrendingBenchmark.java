@@ -0,0 +1,120 @@
+package org.biz.shopverse.service.product.trending;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.biz.shopverse.service.product.CategoryTreeIndex;
+import org.biz.shopverse.service.product.counter.ProductCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트렌딩 순위 갱신 처리량 / top-N 조회 지연 측정. 로컬 Redis 필요 (-Dredis.host, -Dredis.port, 기본 localhost:6379)
+ * 실행: ./gradlew jmh  (주의: PTR:*, PTRS 키를 지우고 시작한다. 운영 Redis 에서 실행하지 않는다)
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductTrendingBenchmark {
+    private static final int CATEGORIES = 50;
+
+    @Param({"100000"})
+    private int products;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private ProductTrendingService service;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        connectionFactory = new LettuceConnectionFactory(
+                System.getProperty("redis.host", "localhost"), Integer.getInteger("redis.port", 6379));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        clear();
+
+        // 2단 카테고리 (소분류 → 대분류): 기록 한 번에 ZINCRBY 3회 (전체, 소분류, 대분류)
+        CategoryTreeIndex categoryTreeIndex = new CategoryTreeIndex(null) {
+            @Override
+            public Long[] ancestors(Long categoryId) {
+                return new Long[]{categoryId, 1000 + categoryId % 5};
+            }
+        };
+        service = new ProductTrendingService(redisTemplate, categoryTreeIndex, new SimpleMeterRegistry());
+        setField(service, "viewWeight", 1.0);
+        setField(service, "salesWeight", 10.0);
+        service.init();
+
+        // 조회 측정용 초기 순위
+        for (int i = 0; i < products; i++) {
+            service.record((long) i, (long) (i % CATEGORIES), ProductCounter.VIEW);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clear();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void record() {
+        long productId = ThreadLocalRandom.current().nextInt(products);
+        service.record(productId, productId % CATEGORIES, ProductCounter.VIEW);
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public TrendingPage top20All() {
+        return service.page(null, 0, 20);
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public TrendingPage top20Category() {
+        return service.page((long) ThreadLocalRandom.current().nextInt(CATEGORIES), 0, 20);
+    }
+
+    // @Value 필드 (스프링 컨텍스트 없이 실행)
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private void clear() {
+        var keys = redisTemplate.keys("PTR:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        redisTemplate.delete("PTRS");
+    }
+}
@@ -44,6 +44,8 @@ public class SecurityConfig {
 
                 // 5) 요청별 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 전체 카탈로그 내보내기는 스트림 동안 DB 커넥션을 점유하므로 파트너/관리자만 (/product/** 허용보다 먼저)
+                        .requestMatchers("/product/export.ndjson").hasAnyRole("ADMIN", "PARTNER")
                         .requestMatchers("/member/**", "/product/**", "/docs/**").permitAll()   // /auth/** 은 모두 허용
                         .anyRequest().authenticated()              // 그 외 인증 필요
                 )
@@ -0,0 +1,68 @@
+package org.biz.shopverse.controller.admin;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.biz.shopverse.dto.common.ApiResponse;
+import org.biz.shopverse.dto.product.response.ProductImportStatusResponse;
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.biz.shopverse.service.product.ProductImportService;
+import org.biz.shopverse.service.product.feed.FeedFormat;
+import org.biz.shopverse.service.product.feed.ProductImportJob;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+@RequestMapping("/admin/product/import")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class ProductImportController {
+    private final ProductImportService productImportService;
+
+    // 요청 본문(text/csv 또는 application/x-ndjson, Content-Encoding: gzip 가능)을 스트리밍으로 가져온다
+    @PostMapping
+    public ResponseEntity<ApiResponse<ProductImportStatusResponse>> importProducts(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request
+    ) throws IOException {
+        FeedFormat format = FeedFormat.fromContentType(contentType);
+        if (format == null) {
+            throw new CustomBusinessException("text/csv 또는 application/x-ndjson 피드만 지원합니다.",
+                    "UNSUPPORTED_FEED_FORMAT", HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+        }
+
+        boolean gzip = contentEncoding != null && contentEncoding.contains("gzip");
+        try (InputStream in = gzip ? new GZIPInputStream(request.getInputStream(), 64 * 1024) : request.getInputStream()) {
+            ProductImportJob job = productImportService.importFeed(in, format);
+            return ResponseEntity.ok(ApiResponse.success(ProductImportStatusResponse.of(job), "상품 피드를 가져왔습니다."));
+        }
+    }
+
+    // 진행 중인 작업도 조회 가능 (적재 행 수, 처리량)
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ProductImportStatusResponse>> getImportStatus(@PathVariable("jobId") String jobId) {
+        ProductImportJob job = productImportService.getJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success(ProductImportStatusResponse.of(job), "가져오기 상태를 조회했습니다."));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ProductImportStatusResponse>>> getRecentImports() {
+        List<ProductImportStatusResponse> jobs = productImportService.getRecentJobs().stream()
+                .map(ProductImportStatusResponse::of)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(jobs, "최근 가져오기 작업을 조회했습니다."));
+    }
+}
@@ -28,8 +28,8 @@ public class MemberController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<String>> logout(HttpServletResponse response) {
-        return memberService.logout(response);
+    public ResponseEntity<ApiResponse<String>> logout(HttpServletRequest request, HttpServletResponse response) {
+        return memberService.logout(request, response);
     }
 
     @PostMapping("/reissue-access-token")
@@ -1,38 +1,68 @@
 package org.biz.shopverse.controller.product;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.biz.shopverse.dto.common.ApiResponse;
 import org.biz.shopverse.dto.product.request.ProductListRequest;
-import org.biz.shopverse.dto.product.response.CategoryResponse;
 import org.biz.shopverse.dto.product.response.ProductListPageResponse;
-import org.biz.shopverse.dto.product.response.ProductResponse;
+import org.biz.shopverse.dto.product.response.ProductDetailResponse;
+import org.biz.shopverse.service.product.ProductExportService;
 import org.biz.shopverse.service.product.ProductService;
+import org.biz.shopverse.service.product.cache.CatalogVersion;
+import org.biz.shopverse.service.product.cache.CategoryCache;
+import org.biz.shopverse.service.product.search.suggest.ProductSuggestService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/product")
 @RequiredArgsConstructor
 public class ProductController {
+    private static final String NDJSON = "application/x-ndjson";
 
     private final ProductService productService;
+    private final ProductSuggestService productSuggestService;
+    private final ProductExportService productExportService;
+    private final CategoryCache categoryCache;
+    private final CatalogVersion catalogVersion;
 
+    // 카테고리 목록은 미리 직렬화된 ApiResponse<List<CategoryResponse>> JSON 을 그대로 내려준다 (CategoryCache)
+    // If-None-Match 가 카탈로그 버전 ETag 와 같으면 본문 없이 304
     @GetMapping("/categories")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories() {
-        List<CategoryResponse> categories = productService.getAllCategories();
-        return ResponseEntity.ok(ApiResponse.success(categories, "카테고리 목록을 조회했습니다."));
+    public ResponseEntity<byte[]> getAllCategories(WebRequest webRequest) {
+        String eTag = catalogVersion.categoriesETag();
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        byte[] body = categoryCache.render(CategoryCache.ALL, "카테고리 목록을 조회했습니다.");
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @GetMapping("/categories/active")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getActiveCategories() {
-        List<CategoryResponse> categories = productService.getActiveCategories();
-        return ResponseEntity.ok(ApiResponse.success(categories, "활성화된 카테고리 목록을 조회했습니다."));
+    public ResponseEntity<byte[]> getActiveCategories(WebRequest webRequest) {
+        String eTag = catalogVersion.categoriesETag();
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        byte[] body = categoryCache.render(CategoryCache.ACTIVE, "활성화된 카테고리 목록을 조회했습니다.");
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @GetMapping("/products")
@@ -41,7 +71,10 @@ public class ProductController {
             @RequestParam(value = "sort", required = false) String sort,
             @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
             @RequestParam(value = "size", required = false, defaultValue = "10") Integer size,
-            @RequestParam(value = "search", required = false) String search
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "facets", required = false) String facets,
+            WebRequest webRequest
     ) {
         ProductListRequest req = ProductListRequest.builder()
                 .categoryId(categoryId)
@@ -49,9 +82,95 @@ public class ProductController {
                 .page(page)
                 .size(size)
                 .search(search)
+                .cursor(cursor)
+                .facets(facets)
                 .build();
 
+        // 버전은 본문보다 먼저 읽는다 (CatalogVersion)
+        String eTag = catalogVersion.productListETag(req);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         ProductListPageResponse response = productService.getProductsPaged(req);
-        return ResponseEntity.ok(ApiResponse.success(response, "상품 목록을 조회했습니다."));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(response, "상품 목록을 조회했습니다."));
+    }
+
+    @GetMapping("/products/{slug}")
+    public ResponseEntity<ApiResponse<ProductDetailResponse>> getProductDetail(@PathVariable("slug") String slug) {
+        ProductDetailResponse response = productService.getProductDetail(slug);
+        return ResponseEntity.ok(ApiResponse.success(response, "상품 상세를 조회했습니다."));
+    }
+
+    // 전체 카탈로그 NDJSON 스트리밍 (파트너/검색 색인 수집용, ADMIN/PARTNER 역할 필요 - SecurityConfig). since 가 있으면 비노출/삭제 상품은 tombstone 행
+    // Accept-Encoding 이 gzip 을 허용하면(q > 0) 압축해서 내려준다
+    @GetMapping("/export.ndjson")
+    public void exportProducts(
+            @RequestParam(value = "since", required = false) Long since,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (!gzip) {
+            productExportService.export(response.getOutputStream(), since);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        try (GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), 64 * 1024)) {
+            productExportService.export(out, since);
+        }
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<String>>> suggest(
+            @RequestParam(value = "q") String q,
+            @RequestParam(value = "size", required = false, defaultValue = "10") Integer size
+    ) {
+        List<String> suggestions = productSuggestService.suggest(q, size);
+        return ResponseEntity.ok(ApiResponse.success(suggestions, "자동완성 목록을 조회했습니다."));
+    }
+
+    /**
+     * Accept-Encoding 에서 gzip 의 q 값이 0 보다 큰지. gzip(x-gzip) 항목이 없으면 * 의 q 값을 따른다.
+     * (gzip;q=0 은 거부, q 값이 잘못되면 0 으로 본다)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzipQ = null;
+        Double anyQ = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.length() >= 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzipQ = gzipQ == null ? q : Math.max(gzipQ, q);
+            } else if ("*".equals(coding)) {
+                anyQ = q;
+            }
+        }
+
+        Double effective = gzipQ != null ? gzipQ : anyQ;
+        return effective != null && effective > 0;
     }
 }
@@ -30,7 +30,7 @@ public class ApiResponse<T> {
                 .data(data)
                 .message(message)
                 .status(200)
-                .timestamp(LocalDateTime.now().format(formatter))
+                .timestamp(timestampNow())
                 .build();
     }
     
@@ -39,7 +39,7 @@ public class ApiResponse<T> {
                 .success(true)
                 .message(message)
                 .status(200)
-                .timestamp(LocalDateTime.now().format(formatter))
+                .timestamp(timestampNow())
                 .build();
     }
     
@@ -49,7 +49,14 @@ public class ApiResponse<T> {
                 .error(error)
                 .message(message)
                 .status(status)
-                .timestamp(LocalDateTime.now().format(formatter))
+                .timestamp(timestampNow())
                 .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * 응답 timestamp 형식의 현재 시각 (미리 직렬화한 응답에 시각만 채울 때 사용)
+     */
+    public static String timestampNow() {
+        return LocalDateTime.now().format(formatter);
+    }
+}
@@ -0,0 +1,19 @@
+package org.biz.shopverse.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리별 마지막 상품 변경 시각과 변경 상품 수 (CatalogChangeDetector 변경 감지용).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryChange {
+    private Long categoryId;
+    private Long updatedAtMillis;
+    private Long changeCount;
+}
@@ -0,0 +1,19 @@
+package org.biz.shopverse.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * facet 집계 쿼리(selectFacetCounts) 결과 행. facet 이름(brand/price/rating/category)별 버킷 값과 상품 수.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountRow {
+    private String facet;
+    private String bucket; // brand_id, 가격 구간 번호(width_bucket), 평점 정수부, category_id
+    private Long count;
+}
@@ -0,0 +1,20 @@
+package org.biz.shopverse.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 한 건의 미반영 카운터 증분 (ProductCounterBuffer 플러시용).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCounterDelta {
+    private Long productId;
+    private long viewCount;
+    private long salesCount;
+    private long wishlistCount;
+}
@@ -0,0 +1,105 @@
+package org.biz.shopverse.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.biz.shopverse.exception.CustomBusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 상품 목록 커서(keyset) 페이지네이션용 커서.
+ * (정렬, 정렬 키, 상품 ID, 전체 건수) 를 Base64 URL 문자열로 인코딩해 클라이언트에 불투명 값으로 전달한다.
+ * 정렬 키는 SQL 에서 CAST 되므로 디코딩할 때 정렬별 형식을 검사해 잘못된 값은 INVALID_CURSOR 로 거부한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductCursor {
+    private static final String DELIMITER = "|";
+    // PostgreSQL NUMERIC 의 ::text 표현 (지수 표기는 받지 않는다)
+    private static final Pattern NUMERIC_TEXT = Pattern.compile("-?\\d+(\\.\\d+)?");
+
+    // PostgreSQL timestamp/timestamptz 의 ::text 표현 (예: 2024-01-02 00:00:00.123456+09, 오프셋은 없을 수 있음)
+    private static final DateTimeFormatter TIMESTAMP_TEXT = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .appendLiteral(' ')
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .optionalStart()
+            .parseLenient()
+            .appendOffset("+HH:MM:ss", "+00")
+            .parseStrict()
+            .optionalEnd()
+            .toFormatter();
+
+    private final String sort;
+    private final String sortKey; // 정렬 컬럼의 텍스트 표현 (NULLS LAST 정렬에서는 null 가능)
+    private final Long id;
+    private final Long totalCount; // 첫 페이지에서 센 전체 건수 (커서 페이지마다 다시 세지 않도록, 모르면 null)
+
+    public static ProductCursor of(String sort, ProductPageRow lastRow, Long totalCount) {
+        return new ProductCursor(sort, lastRow.getSortKey(), lastRow.getId(), totalCount);
+    }
+
+    public String encode() {
+        String raw = sort + DELIMITER + (sortKey != null ? sortKey : "") + DELIMITER + id
+                + DELIMITER + (totalCount != null ? totalCount : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            // 3개: 전체 건수가 없는 이전 형식
+            if (parts.length != 3 && parts.length != 4) {
+                throw new IllegalArgumentException("invalid cursor");
+            }
+
+            String sortKey = parts[1].isEmpty() ? null : parts[1];
+            validateSortKey(parts[0], sortKey);
+            Long totalCount = parts.length == 4 && !parts[3].isEmpty() ? Long.parseLong(parts[3]) : null;
+            if (totalCount != null && totalCount < 0) {
+                throw new IllegalArgumentException("invalid cursor total");
+            }
+            return new ProductCursor(parts[0], sortKey, Long.parseLong(parts[2]), totalCount);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new CustomBusinessException("잘못된 커서 값입니다.", "INVALID_CURSOR");
+        }
+    }
+
+    // productCursorCondition 의 CAST 와 같은 기준 (price: NUMERIC, rating: NUMERIC 또는 null, popular: BIGINT 또는 null, 그 외: TIMESTAMPTZ)
+    private static void validateSortKey(String sort, String sortKey) {
+        switch (sort) {
+            case "price-low", "price-high" -> checkNumeric(required(sortKey));
+            case "rating" -> {
+                if (sortKey != null) {
+                    checkNumeric(sortKey);
+                }
+            }
+            case "popular" -> {
+                if (sortKey != null) {
+                    Long.parseLong(sortKey);
+                }
+            }
+            default -> TIMESTAMP_TEXT.parse(required(sortKey));
+        }
+    }
+
+    private static String required(String sortKey) {
+        if (sortKey == null) {
+            throw new IllegalArgumentException("missing cursor sort key");
+        }
+        return sortKey;
+    }
+
+    // 지수 표기(1e999999999 등)는 NUMERIC 범위를 넘을 수 있으므로 PostgreSQL 이 내보내는 일반 표기만 받는다
+    private static void checkNumeric(String sortKey) {
+        if (!NUMERIC_TEXT.matcher(sortKey).matches()) {
+            throw new IllegalArgumentException("invalid cursor sort key");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.biz.shopverse.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 증분 내보내기(since)에서 더 이상 노출되지 않는 상품 행. 수집 측은 deleted 가 true 인 id 를 색인에서 지운다.
+ * status / visibility / deletedAt 은 비노출 사유 확인용이다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductExportTombstone {
+    private Long id;
+    private String status;
+    private String visibility;
+    private String deletedAt;
+    private boolean deleted;
+}
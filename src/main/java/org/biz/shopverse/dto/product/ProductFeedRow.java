@@ -0,0 +1,40 @@
+package org.biz.shopverse.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 공급사 피드 한 행 (상품 + 변형 하나). 같은 상품의 변형 여러 개는 productSku 가 같은 여러 행으로 들어온다.
+ * 상품은 productSku, 변형은 variantSku 로 기존 행과 매칭한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFeedRow {
+    private long lineNo; // 피드 내 위치 (같은 SKU 가 여러 번 나오면 마지막 행 기준)
+
+    private String productSku;
+    private String name;
+    private String slug;
+    private String subtitle;
+    private Long categoryId;
+    private Long brandId;
+    private BigDecimal price;
+    private BigDecimal comparePrice;
+    private String status;
+    private String visibility;
+    private String searchKeywords;
+
+    private String variantSku; // 없으면 상품만 반영
+    private String variantName;
+    private BigDecimal variantPrice;
+    private BigDecimal variantComparePrice;
+    private Integer inventoryQuantity;
+    private String options; // JSON 문자열
+    private Boolean isDefault;
+}
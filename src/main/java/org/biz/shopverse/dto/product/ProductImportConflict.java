@@ -0,0 +1,19 @@
+package org.biz.shopverse.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가져오기 스테이징에서 slug 가 다른 SKU 와 겹치는 상품 행 (selectSlugConflicts). 병합 전에 오류 행으로 제외한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportConflict {
+    private Long lineNo;
+    private String productSku;
+    private String slug;
+}
@@ -0,0 +1,27 @@
+package org.biz.shopverse.dto.product;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.biz.shopverse.dto.product.response.ProductSummaryResponse;
+
+/**
+ * 상품 목록 쿼리 결과 행.
+ * 응답 필드 외에 다음 페이지 커서를 만들기 위한 정렬 키와 전체 건수를 함께 담는다 (응답 JSON 에는 노출하지 않음).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class ProductPageRow extends ProductSummaryResponse {
+
+    @JsonIgnore
+    private String sortKey;
+
+    @JsonIgnore
+    private Long totalCount; // selectProductsPageWithTotal 에서만 채워짐
+}
@@ -0,0 +1,27 @@
+package org.biz.shopverse.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인메모리 검색 인덱스 색인 대상 문서 (products 스트리밍 스캔 결과).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchDocument {
+    private Long id;
+    private String name;
+    private String subtitle;
+    private String searchKeywords;
+    private Long categoryId;
+    private Double price;
+    private Double averageRating;
+    private Long salesCount;
+    private Long createdAtMillis;
+    private Long updatedAtMillis;
+    private Boolean listable; // 노출 가능 여부 (변경분 스캔에서 비노출 전환/삭제 반영용)
+}
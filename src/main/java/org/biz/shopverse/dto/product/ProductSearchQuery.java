@@ -0,0 +1,21 @@
+package org.biz.shopverse.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 엔진(ProductSearchService)에 전달하는 검색 조건.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchQuery {
+    private String keyword;
+    private Long[] categoryIds; // 하위 카테고리 포함, null 이면 전체
+    private String sort;
+    private int offset;
+    private int size;
+}
@@ -0,0 +1,29 @@
+package org.biz.shopverse.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 검색/목록 쿼리 결과: 요청한 페이지의 행과 조건에 맞는 전체 건수.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSearchResult {
+    private final List<ProductPageRow> products;
+    private final long totalCount;
+
+    /**
+     * total_count 컬럼이 포함된 단일 쿼리 결과로부터 생성한다.
+     * 결과가 없는 페이지는 건수만 담긴 빈 행 하나가 내려오므로 제외한다.
+     */
+    public static ProductSearchResult fromRowsWithTotal(List<ProductPageRow> rows) {
+        long totalCount = rows.isEmpty() || rows.get(0).getTotalCount() == null ? 0 : rows.get(0).getTotalCount();
+        List<ProductPageRow> products = rows.stream()
+                .filter(row -> row.getId() != null)
+                .collect(Collectors.toList());
+        return new ProductSearchResult(products, totalCount);
+    }
+}
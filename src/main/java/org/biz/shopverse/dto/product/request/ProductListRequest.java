@@ -15,7 +15,7 @@ import lombok.NoArgsConstructor;
 public class ProductListRequest {
     private Long categoryId; // 가장 구체적으로 선택된 카테고리 ID (소분류 우선)
 
-    @Pattern(regexp = "^(latest|price-low|price-high|popular|rating)?$", message = "잘못된 정렬 값입니다.")
+    @Pattern(regexp = "^(latest|price-low|price-high|popular|rating|relevance|trending)?$", message = "잘못된 정렬 값입니다.")
     private String sort;
 
     @Min(value = 1, message = "페이지는 1 이상이어야 합니다.")
@@ -26,6 +26,11 @@ public class ProductListRequest {
     private Integer size;
 
     private String search;
+
+    private String cursor; // 이전 응답의 nextCursor (지정 시 page 대신 커서 기반으로 조회)
+
+    @Pattern(regexp = "^((brand|price|rating|category)(,(brand|price|rating|category))*)?$", message = "잘못된 facet 값입니다.")
+    private String facets; // 함께 집계할 facet 목록 (예: brand,price,rating)
 }
 
 
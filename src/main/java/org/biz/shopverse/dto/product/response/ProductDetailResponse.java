@@ -0,0 +1,25 @@
+package org.biz.shopverse.dto.product.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 상품 상세 응답: 상품 전체 정보 + 활성 변형 목록.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@Schema(description = "상품 상세 응답 DTO")
+public class ProductDetailResponse extends ProductResponse {
+
+    @Schema(description = "활성 변형 목록 (기본 변형 우선)")
+    private List<ProductVariantResponse> variants;
+}
@@ -0,0 +1,21 @@
+package org.biz.shopverse.dto.product.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 목록 facet 버킷")
+public class ProductFacetBucket {
+
+    @Schema(description = "버킷 값 (brand/category: ID, price: '최소-최대' 원 구간, rating: 평점 정수부)", example = "10000-30000")
+    private String value;
+
+    @Schema(description = "조건에 맞는 상품 수", example = "42")
+    private long count;
+}
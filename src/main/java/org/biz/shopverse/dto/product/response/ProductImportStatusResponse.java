@@ -0,0 +1,69 @@
+package org.biz.shopverse.dto.product.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.biz.shopverse.service.product.feed.ProductImportJob;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 일괄 가져오기 작업 상태")
+public class ProductImportStatusResponse {
+
+    @Schema(description = "작업 ID")
+    private String jobId;
+
+    @Schema(description = "피드 형식", example = "CSV")
+    private String format;
+
+    @Schema(description = "단계 (LOADING, MERGING, COMPLETED, FAILED)", example = "COMPLETED")
+    private String phase;
+
+    @Schema(description = "스테이징에 적재한 행 수", example = "100000")
+    private long rowsLoaded;
+
+    @Schema(description = "오류로 건너뛴 행 수", example = "3")
+    private long rowsRejected;
+
+    @Schema(description = "추가/변경된 상품 수 (값이 같은 상품은 제외)", example = "1200")
+    private int productsMerged;
+
+    @Schema(description = "추가/변경된 변형 수 (값이 같은 변형은 제외)", example = "4800")
+    private int variantsMerged;
+
+    @Schema(description = "적재 처리량 (행/초)", example = "52000.5")
+    private double rowsPerSecond;
+
+    @Schema(description = "오류 행 메시지 (앞 20건)")
+    private List<String> errorSamples;
+
+    @Schema(description = "실패 사유")
+    private String failureMessage;
+
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public static ProductImportStatusResponse of(ProductImportJob job) {
+        return ProductImportStatusResponse.builder()
+                .jobId(job.getJobId())
+                .format(job.getFormat().name())
+                .phase(job.getPhase().name())
+                .rowsLoaded(job.getRowsLoaded().get())
+                .rowsRejected(job.getRowsRejected().get())
+                .productsMerged(job.getProductsMerged())
+                .variantsMerged(job.getVariantsMerged())
+                .rowsPerSecond(Math.round(job.getRowsPerSecond() * 10) / 10.0)
+                .errorSamples(job.getErrorSamples())
+                .failureMessage(job.getFailureMessage())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -6,18 +6,22 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductListPageResponse {
-    private List<ProductResponse> products;
+    private List<ProductSummaryResponse> products;
     private long totalCount;
+    private boolean totalEstimated; // 건수 조회가 지연되어 totalCount 가 추정치인 경우 true (query-mode=parallel)
     private int currentPage;
     private int totalPages;
     private boolean hasNext;
     private boolean hasPrevious;
+    private String nextCursor; // 다음 페이지 커서 (커서 모드에서는 currentPage 를 계산하지 않음)
+    private Map<String, List<ProductFacetBucket>> facets; // facets 파라미터로 요청한 facet 만 (미요청 시 null)
 }
 
 
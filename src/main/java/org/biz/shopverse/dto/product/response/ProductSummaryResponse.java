@@ -0,0 +1,70 @@
+package org.biz.shopverse.dto.product.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 목록용 요약 응답. 한 상품이 한 항목이며 변형은 variants 로 묶어서 내려준다.
+ * 상세 정보는 GET /product/products/{slug} (ProductDetailResponse) 로 조회한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 목록 요약 응답 DTO")
+public class ProductSummaryResponse {
+
+    @Schema(description = "상품 고유 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "상품명", example = "프리미엄 무선 이어폰")
+    private String name;
+
+    @Schema(description = "SEO 친화적 URL 식별자 (상세 조회 키)", example = "premium-wireless-earphones")
+    private String slug;
+
+    @Schema(description = "상품 부제목/간단 설명", example = "고품질 음질과 편안한 착용감")
+    private String subtitle;
+
+    @Schema(description = "판매 가격 (현재 가격)", example = "199000")
+    private BigDecimal price;
+
+    @Schema(description = "할인 전 가격 표시용", example = "249000")
+    private BigDecimal comparePrice;
+
+    @Schema(description = "할인율 (소수점 1자리)", example = "20.1")
+    private Double discountPercent;
+
+    @Schema(description = "소속 카테고리 ID", example = "5")
+    private Long categoryId;
+
+    @Schema(description = "브랜드 ID", example = "3")
+    private Long brandId;
+
+    @Schema(description = "예약주문 가능 여부", example = "false")
+    private Boolean isPreorder;
+
+    @Schema(description = "평균 평점 (0.0-5.0, 자동 계산)", example = "4.5")
+    private Double averageRating;
+
+    @Schema(description = "리뷰 개수 (자동 계산)", example = "127")
+    private Integer reviewCount;
+
+    @Schema(description = "판매 수량", example = "89")
+    private Integer salesCount;
+
+    @Schema(description = "찜 횟수", example = "23")
+    private Integer wishlistCount;
+
+    @Schema(description = "상품 등록 일시", example = "2024-01-15T10:30:00")
+    private String createdAt;
+
+    @Schema(description = "판매 중인 변형 목록 (기본 변형 우선)")
+    private List<ProductVariantResponse> variants;
+}
@@ -0,0 +1,53 @@
+package org.biz.shopverse.dto.product.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 변형(옵션 조합) 응답 DTO")
+public class ProductVariantResponse {
+
+    @Schema(description = "변형 고유 ID", example = "11")
+    private Long id;
+
+    @Schema(description = "기본 상품 ID", example = "1")
+    private Long productId;
+
+    @Schema(description = "변형별 고유 SKU", example = "SKU-001-BLK-256")
+    private String sku;
+
+    @Schema(description = "변형 표시명", example = "iPhone 15 Pro 256GB 스페이스블랙")
+    private String name;
+
+    @Schema(description = "변형별 가격 (NULL 이면 기본 상품 가격 사용)", example = "1550000")
+    private BigDecimal price;
+
+    @Schema(description = "변형별 비교가격 (할인 전 가격)", example = "1650000")
+    private BigDecimal comparePrice;
+
+    @Schema(description = "변형별 바코드/EAN 번호", example = "1234567890123")
+    private String barcode;
+
+    @Schema(description = "변형별 무게 (kg, 소수점 3자리)", example = "0.187")
+    private BigDecimal weight;
+
+    @Schema(description = "JSON 형태의 옵션 조합", example = "{\"color\": \"스페이스블랙\", \"storage\": \"256GB\"}")
+    private Object options;
+
+    @Schema(description = "주문 가능 재고 (재고 - 예약 수량)", example = "12")
+    private Integer availableQuantity;
+
+    @Schema(description = "상품 페이지 기본 선택 변형 여부", example = "true")
+    private Boolean isDefault;
+
+    @Schema(description = "변형별 대표 이미지 URL", example = "https://cdn.example.com/variants/11.jpg")
+    private String imageUrl;
+}
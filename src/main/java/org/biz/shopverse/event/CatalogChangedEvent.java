@@ -0,0 +1,32 @@
+package org.biz.shopverse.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 상품/카테고리 변경 이벤트. 캐시 무효화 등에 사용한다.
+ * categoryIds 가 null 이면 전체 카탈로그 변경(카테고리 구조 변경, 대량 반영 등)으로 본다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CatalogChangedEvent {
+    private final Set<Long> categoryIds;
+
+    public static CatalogChangedEvent categories(Collection<Long> categoryIds) {
+        return new CatalogChangedEvent(Set.copyOf(categoryIds));
+    }
+
+    public static CatalogChangedEvent all() {
+        return new CatalogChangedEvent(null);
+    }
+
+    public boolean isAll() {
+        return categoryIds == null;
+    }
+}
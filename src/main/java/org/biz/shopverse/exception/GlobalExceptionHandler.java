@@ -5,6 +5,7 @@ import org.biz.shopverse.dto.common.ApiResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -85,6 +86,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    // @PreAuthorize 거부 (RuntimeException 처리기로 넘어가 400 이 되지 않도록)
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiResponse<String>> handleAccessDeniedException(AccessDeniedException ex, WebRequest request) {
+        log.warn("Access denied: {}", request.getDescription(false));
+        
+        Map<String, Object> details = new HashMap<>();
+        details.put("path", request.getDescription(false));
+        details.put("exception", ex.getClass().getSimpleName());
+        
+        ApiResponse<String> errorResponse = ApiResponse.error("Forbidden", "접근 권한이 없습니다.", 403);
+        errorResponse.setDetails(details);
+        
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<String>> handleGlobalException(Exception ex, WebRequest request) {
         log.error("Unhandled exception occurred: {}", ex.getMessage(), ex);
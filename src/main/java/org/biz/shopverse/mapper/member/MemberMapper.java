@@ -17,4 +17,6 @@ public interface MemberMapper {
     int createMember(MemberCreateRequest memberCreateRequest);
     
     int updateMember(String loginId, MemberUpdateRequest memberUpdateRequest);
+
+    int updatePassword(String loginId, String currentPassword, String newPassword);
 } 
\ No newline at end of file
@@ -0,0 +1,25 @@
+package org.biz.shopverse.mapper.product;
+
+import org.apache.ibatis.annotations.Param;
+import org.biz.shopverse.dto.product.ProductImportConflict;
+
+import java.util.List;
+
+/**
+ * 공급사 피드 일괄 가져오기 (docs/sql/003_product_import.sql).
+ * 모든 문장은 같은 트랜잭션(같은 커넥션)에서 실행해야 한다. 스테이징 테이블이 커밋 시 삭제되는 임시 테이블이기 때문.
+ */
+public interface ProductImportMapper {
+
+    void createStagingTable();
+
+    List<Long> selectStagedCategoryIds();
+
+    List<ProductImportConflict> selectSlugConflicts();
+
+    int deleteStagedProducts(@Param("productSkus") String[] productSkus);
+
+    int mergeProducts();
+
+    int mergeVariants();
+}
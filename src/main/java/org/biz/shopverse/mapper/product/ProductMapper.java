@@ -1,26 +1,129 @@
 package org.biz.shopverse.mapper.product;
 
+import org.biz.shopverse.dto.product.CategoryChange;
+import org.biz.shopverse.dto.product.FacetCountRow;
+import org.biz.shopverse.dto.product.ProductCounterDelta;
+import org.biz.shopverse.dto.product.ProductPageRow;
+import org.biz.shopverse.dto.product.ProductSearchDocument;
 import org.biz.shopverse.dto.product.response.CategoryResponse;
+import org.biz.shopverse.dto.product.response.ProductDetailResponse;
 import org.biz.shopverse.dto.product.response.ProductResponse;
+import org.biz.shopverse.dto.product.response.ProductVariantResponse;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
+import java.util.Set;
 
 public interface ProductMapper {
     List<CategoryResponse> findAllCategories();
-    
+
     List<CategoryResponse> findActiveCategories();
-    
-    List<ProductResponse> selectProductsPaged(
-            @Param("categoryId") Long categoryId,
+
+    List<ProductPageRow> selectProductsPaged(
+            @Param("categoryIds") Long[] categoryIds,
+            @Param("sort") String sort,
+            @Param("offset") Integer offset,
+            @Param("size") Integer size,
+            @Param("search") String search
+    );
+
+    List<ProductPageRow> selectProductsPageWithTotal(
+            @Param("categoryIds") Long[] categoryIds,
             @Param("sort") String sort,
             @Param("offset") Integer offset,
             @Param("size") Integer size,
             @Param("search") String search
     );
 
+    List<ProductPageRow> searchProductsFullText(
+            @Param("categoryIds") Long[] categoryIds,
+            @Param("sort") String sort,
+            @Param("keyword") String keyword,
+            @Param("offset") Integer offset,
+            @Param("size") Integer size
+    );
+
+    List<ProductPageRow> selectProductsAfter(
+            @Param("categoryIds") Long[] categoryIds,
+            @Param("sort") String sort,
+            @Param("cursorKey") String cursorKey,
+            @Param("cursorId") Long cursorId,
+            @Param("size") Integer size,
+            @Param("search") String search
+    );
+
     long countProducts(
-            @Param("categoryId") Long categoryId,
+            @Param("categoryIds") Long[] categoryIds,
             @Param("search") String search
     );
+
+    List<ProductPageRow> selectListingPaged(
+            @Param("categoryIds") Long[] categoryIds,
+            @Param("sort") String sort,
+            @Param("offset") Integer offset,
+            @Param("size") Integer size,
+            @Param("search") String search
+    );
+
+    List<ProductPageRow> selectListingPageWithTotal(
+            @Param("categoryIds") Long[] categoryIds,
+            @Param("sort") String sort,
+            @Param("offset") Integer offset,
+            @Param("size") Integer size,
+            @Param("search") String search
+    );
+
+    List<ProductPageRow> selectListingAfter(
+            @Param("categoryIds") Long[] categoryIds,
+            @Param("sort") String sort,
+            @Param("cursorKey") String cursorKey,
+            @Param("cursorId") Long cursorId,
+            @Param("size") Integer size,
+            @Param("search") String search
+    );
+
+    long countListing(
+            @Param("categoryIds") Long[] categoryIds,
+            @Param("search") String search
+    );
+
+    Long estimateRowCount(@Param("listing") boolean listing);
+
+    String setLocalStatementTimeout(@Param("timeoutMs") long timeoutMs);
+
+    int reconcileProductListing();
+
+    List<FacetCountRow> selectFacetCounts(
+            @Param("categoryIds") Long[] categoryIds,
+            @Param("search") String search,
+            @Param("facets") Set<String> facets,
+            @Param("priceBounds") Long[] priceBounds,
+            @Param("listing") boolean listing
+    );
+
+    void scanSearchDocuments(
+            @Param("since") Long sinceMillis,
+            ResultHandler<ProductSearchDocument> handler
+    );
+
+    List<ProductPageRow> selectProductsByIds(
+            @Param("ids") Long[] ids,
+            @Param("sort") String sort
+    );
+
+    Long selectProductsLastUpdatedAt();
+
+    Long selectCategoriesLastUpdatedAt();
+
+    List<CategoryChange> selectChangedCategories(@Param("since") Long sinceMillis);
+
+    ProductDetailResponse selectProductDetailBySlug(@Param("slug") String slug);
+
+    List<ProductVariantResponse> selectVariantsByProductIds(@Param("productIds") Long[] productIds);
+
+    Cursor<ProductResponse> streamProductsForExport(@Param("since") Long sinceMillis);
+
+    int addProductCounters(@Param("deltas") List<ProductCounterDelta> deltas);
 }
@@ -0,0 +1,24 @@
+package org.biz.shopverse.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.service.product.CatalogChangeDetector;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogChangeSchedule {
+    private final CatalogChangeDetector catalogChangeDetector;
+
+    // 상품/카테고리 변경 감지 (기본 10초)
+    @Scheduled(fixedDelayString = "${product.catalog-change.poll-interval-ms:10000}")
+    public void detectCatalogChanges() {
+        try {
+            catalogChangeDetector.detect();
+        } catch (Exception e) {
+            log.warn("catalog change detection failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.biz.shopverse.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.service.product.CategoryTreeIndex;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeIndexSchedule {
+    private final CategoryTreeIndex categoryTreeIndex;
+
+    // 카테고리는 자주 바뀌지 않으므로 주기적으로 전체 재구성 (기본 5분)
+    @Scheduled(fixedDelayString = "${product.category-index.refresh-interval-ms:300000}")
+    public void refreshCategoryTreeIndex() {
+        try {
+            categoryTreeIndex.refresh();
+        } catch (Exception e) {
+            // 실패해도 이전 스냅샷으로 계속 서비스
+            log.warn("category tree index refresh failed: {}", e.getMessage());
+        }
+    }
+}
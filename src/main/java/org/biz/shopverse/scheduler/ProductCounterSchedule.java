@@ -0,0 +1,27 @@
+package org.biz.shopverse.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.service.product.counter.ProductCounterBuffer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCounterSchedule {
+    private final ProductCounterBuffer productCounterBuffer;
+
+    // 조회/판매/찜 카운터 증분 반영 (기본 5초, 실패분은 버퍼에 남아 다음 주기에 재시도)
+    @Scheduled(fixedDelayString = "${product.counter.flush-interval-ms:5000}")
+    public void flushCounters() {
+        try {
+            int flushed = productCounterBuffer.flush();
+            if (flushed > 0) {
+                log.debug("product counters flushed: {} products", flushed);
+            }
+        } catch (Exception e) {
+            log.warn("product counter flush failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.biz.shopverse.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "product.list.source", havingValue = "listing")
+@RequiredArgsConstructor
+public class ProductListingSchedule {
+    private final ProductMapper productMapper;
+
+    // 트리거로 반영되지 않은 변경(카테고리 삭제, 트리거 비활성 중 적재 등)을 원본 기준으로 맞춘다 (기본 매일 03:30)
+    @Scheduled(cron = "${product.listing.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        try {
+            long start = System.currentTimeMillis();
+            int changed = productMapper.reconcileProductListing();
+            log.info("product listing reconciled: {} rows changed, {} ms", changed, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("product listing reconcile failed: {}", e.getMessage());
+        }
+    }
+}
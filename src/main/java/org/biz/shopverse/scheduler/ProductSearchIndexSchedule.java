@@ -0,0 +1,37 @@
+package org.biz.shopverse.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.service.product.search.index.ProductSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "product.search.engine", havingValue = "index")
+@RequiredArgsConstructor
+public class ProductSearchIndexSchedule {
+    private final ProductSearchIndex productSearchIndex;
+
+    // 변경분 반영 (기본 30초). 첫 실행 시에는 전체 구성
+    @Scheduled(fixedDelayString = "${product.search.index.refresh-interval-ms:30000}")
+    public void refreshChanges() {
+        try {
+            productSearchIndex.refreshChanges();
+        } catch (Exception e) {
+            // 실패해도 이전 스냅샷으로 계속 서비스
+            log.warn("product search index refresh failed: {}", e.getMessage());
+        }
+    }
+
+    // 변경분 세그먼트가 커지지 않도록 주기적으로 전체 재구성 (기본 매일 04시)
+    @Scheduled(cron = "${product.search.index.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        try {
+            productSearchIndex.rebuild();
+        } catch (Exception e) {
+            log.warn("product search index rebuild failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.biz.shopverse.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.service.product.search.suggest.ProductSuggestService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSuggestSchedule {
+    private final ProductSuggestService productSuggestService;
+
+    // 자동완성 트라이 재구성 (기본 10분, 시작 시 1회)
+    @Scheduled(fixedDelayString = "${product.suggest.refresh-interval-ms:600000}")
+    public void rebuildSuggestTrie() {
+        try {
+            productSuggestService.rebuild();
+        } catch (Exception e) {
+            // 실패해도 이전 트라이로 계속 서비스
+            log.warn("product suggest trie rebuild failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.biz.shopverse.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.service.product.trending.ProductTrendingService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductTrendingSchedule {
+    private final ProductTrendingService productTrendingService;
+
+    // 트렌딩 점수 감쇠 (기본 5분, 여러 노드 중 한 곳만 실행)
+    @Scheduled(fixedRateString = "${product.trending.decay-interval-ms:300000}")
+    public void decayTrending() {
+        try {
+            int decayed = productTrendingService.decay();
+            if (decayed >= 0) {
+                log.debug("product trending decayed: {} rankings", decayed);
+            }
+        } catch (Exception e) {
+            log.warn("product trending decay failed: {}", e.getMessage());
+        }
+    }
+}
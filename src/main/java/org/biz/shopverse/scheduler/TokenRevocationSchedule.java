@@ -0,0 +1,25 @@
+package org.biz.shopverse.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.service.auth.TokenRevocationService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationSchedule {
+    private final TokenRevocationService tokenRevocationService;
+
+    // 놓친 폐기 메시지 반영 + 만료된 jti 정리 (기동 직후 한 번, 이후 기본 1분)
+    @Scheduled(fixedDelayString = "${jwt.revocation.resync-interval-ms:60000}")
+    public void resyncRevokedTokens() {
+        try {
+            tokenRevocationService.resync();
+        } catch (Exception e) {
+            // 실패해도 기존 filter 와 pub/sub 으로 계속 동작
+            log.warn("token revocation resync failed: {}", e.getMessage());
+        }
+    }
+}
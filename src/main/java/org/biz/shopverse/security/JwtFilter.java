@@ -9,9 +9,14 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.service.auth.AuthVersionService;
 import org.biz.shopverse.service.auth.CustomUserDetailsService;
+import org.biz.shopverse.service.auth.TokenRevocationService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -20,22 +25,41 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final AuthVersionService authVersionService;
+    private final TokenRevocationService tokenRevocationService;
+
+    // database: 요청마다 회원/역할을 DB 에서 조회, stateless: 토큰의 roles 클레임으로 인증 (인증 버전만 확인)
+    @Value("${jwt.authentication-mode:database}")
+    private String authenticationMode;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
             String token = resolveToken(request);
 
-            if (token != null && jwtTokenProvider.isTokenValid(token)) {
-                String userId = jwtTokenProvider.getUserId(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
+            if (token != null) {
+                // 요청당 한 번만 검증하고, 검증 결과는 details 로 넘겨 이후 단계에서 다시 파싱하지 않게 한다 (VerifiedToken.current())
+                VerifiedToken verified = jwtTokenProvider.verify(token);
+                // 리프레시 토큰 등 roles/av 가 없는 토큰은 인증 모드와 관계없이 Bearer 로 받지 않는다 (jti 가 없어 폐기도 안 된다)
+                if (!verified.isAccessToken()) {
+                    throw new JwtInvalidException("Not an access token");
+                }
+                // 로그아웃 등으로 폐기된 토큰 (로컬 Bloom filter 에 걸릴 때만 Redis 확인)
+                if (tokenRevocationService.isRevoked(verified)) {
+                    throw new JwtInvalidException("Token revoked");
+                }
+                UserDetails userDetails = "stateless".equals(authenticationMode)
+                        ? statelessUser(verified)
+                        : userDetailsService.loadUserByUsername(verified.getSubject());
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                authToken.setDetails(verified);
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
 
@@ -47,6 +71,29 @@ public class JwtFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * 토큰 클레임으로 사용자를 만든다. 역할/상태가 바뀌어 인증 버전이 올라갔으면 거부한다. (재발급 시 DB 의 최신 역할로 발급)
+     * 인증 버전을 읽지 못하면(Redis 오류) DB 조회로 대신한다.
+     */
+    private UserDetails statelessUser(VerifiedToken verified) {
+        long currentVersion;
+        try {
+            currentVersion = authVersionService.current(verified.getSubject());
+        } catch (Exception e) {
+            log.warn("auth version lookup failed, falling back to user load: {}", e.getMessage());
+            return userDetailsService.loadUserByUsername(verified.getSubject());
+        }
+
+        if (verified.getAuthVersion() != currentVersion) {
+            throw new JwtInvalidException("Authentication version changed");
+        }
+
+        return User.withUsername(verified.getSubject())
+                .password("")
+                .authorities(verified.getRoles().toArray(String[]::new))
+                .build();
+    }
+
     private void writeJwtErrorResponse(HttpServletResponse response, String error, String message, String path) throws IOException {
         Map<String, Object> details = new HashMap<>();
         details.put("path", path);
@@ -12,10 +12,13 @@ import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
+    // 인증 버전 클레임 (AuthVersionService)
+    public static final String AUTH_VERSION_CLAIM = "av";
 
     @Value("${jwt.secret}")
     private String secret;
@@ -25,15 +28,31 @@ public class JwtTokenProvider {
 
     private Key key;
 
+    // 파서는 불변이고 스레드 안전하므로 한 번만 만든다 (요청마다 parserBuilder 로 다시 만들지 않음)
+    private JwtParser parser;
+
     @PostConstruct
     protected void init() {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String generateAccessToken(String userId, List<String> roles, long accessTokenValidityInMs) {
+        return generateAccessToken(userId, roles, 0, accessTokenValidityInMs);
+    }
+
+    /**
+     * authVersion: 발급 시점의 인증 버전. stateless 인증에서 현재 버전과 다르면 거부된다.
+     * jti 는 토큰 폐기(TokenRevocationService)에 쓴다.
+     */
+    public String generateAccessToken(String userId, List<String> roles, long authVersion, long accessTokenValidityInMs) {
         return Jwts.builder()
                 .setSubject(userId)
+                .setId(UUID.randomUUID().toString())
                 .claim("roles", roles)
+                .claim(AUTH_VERSION_CLAIM, authVersion)
                 .setIssuer(issuer)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenValidityInMs))
@@ -57,17 +76,16 @@ public class JwtTokenProvider {
     }
 
     public Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    public boolean isTokenValid(String token) {
+    /**
+     * 서명/만료를 한 번 검증하고 클레임을 돌려준다.
+     * 같은 토큰의 subject/roles 가 더 필요하면 getUserId 등을 다시 호출하지 말고 반환값을 쓴다.
+     */
+    public VerifiedToken verify(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return VerifiedToken.from(parseClaims(token));
         } catch (ExpiredJwtException e) {
             throw new JwtTokenExpiredException("Access or Refresh Token has expired");
         } catch (JwtException | IllegalArgumentException e) {
@@ -75,6 +93,11 @@ public class JwtTokenProvider {
         }
     }
 
+    public boolean isTokenValid(String token) {
+        verify(token);
+        return true;
+    }
+
     public String getUserId(String token) {
         return parseClaims(token).getSubject();
     }
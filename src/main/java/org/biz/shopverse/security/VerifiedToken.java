@@ -0,0 +1,58 @@
+package org.biz.shopverse.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 서명/만료 검증을 마친 토큰의 클레임.
+ * JwtFilter 가 요청당 한 번 검증해 인증 객체의 details 로 넘기므로, 이후 단계에서는 토큰을 다시 파싱하지 않고 current() 로 꺼내 쓴다.
+ */
+@Getter
+public final class VerifiedToken {
+    private final String subject;
+    private final String tokenId; // jti, 폐기 확인용 (없으면 null)
+    private final List<String> roles;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final long authVersion; // 발급 시점의 인증 버전 (av 클레임, 없으면 0)
+    private final boolean accessToken; // roles, av 클레임이 모두 있는 액세스 토큰인지 (리프레시 토큰은 false)
+
+    private VerifiedToken(String subject, String tokenId, List<String> roles, Date issuedAt, Date expiration, long authVersion, boolean accessToken) {
+        this.subject = subject;
+        this.tokenId = tokenId;
+        this.roles = roles;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+        this.authVersion = authVersion;
+        this.accessToken = accessToken;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static VerifiedToken from(Claims claims) {
+        List<String> roles = (List<String>) claims.get("roles");
+        Number authVersion = claims.get(JwtTokenProvider.AUTH_VERSION_CLAIM, Number.class);
+        return new VerifiedToken(claims.getSubject(), claims.getId(), roles != null ? List.copyOf(roles) : List.of(),
+                claims.getIssuedAt(), claims.getExpiration(), authVersion != null ? authVersion.longValue() : 0,
+                roles != null && authVersion != null);
+    }
+
+    /**
+     * 첫 번째 역할, 없으면 null (JwtTokenProvider.getUserRole 과 같은 규칙)
+     */
+    public String getPrimaryRole() {
+        return roles.isEmpty() ? null : roles.get(0);
+    }
+
+    /**
+     * 현재 요청에서 JwtFilter 가 검증한 토큰, 인증되지 않은 요청이면 null
+     */
+    public static VerifiedToken current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getDetails() instanceof VerifiedToken verified ? verified : null;
+    }
+}
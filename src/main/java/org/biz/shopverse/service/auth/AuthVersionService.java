@@ -0,0 +1,77 @@
+package org.biz.shopverse.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 회원별 인증 버전 (Redis AV:{loginId}, 없으면 0).
+ * 액세스 토큰에 발급 시점의 버전(av 클레임)을 넣고, stateless 인증에서는 현재 버전과 다르면 토큰을 거부한다.
+ * 역할/상태를 바꾸면 bump 로 버전을 올려 이전 토큰을 무효화한다. (DB 에서 직접 바꾼 경우 redis-cli INCR AV:{loginId})
+ * 요청마다 Redis 를 읽지 않도록 짧게 로컬 캐시하므로, 다른 노드에는 cache-ttl-ms 안에 반영된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthVersionService {
+    private static final String KEY_PREFIX = "AV:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final UserDetailsCache userDetailsCache;
+
+    @Value("${jwt.auth-version.cache-ttl-ms:5000}")
+    private long cacheTtlMs;
+
+    private Cache<String, Long> cache;
+
+    @PostConstruct
+    protected void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.version");
+    }
+
+    /**
+     * 토큰 검증용 현재 버전 (로컬 캐시 경유). Redis 오류는 그대로 던진다.
+     */
+    public long current(String loginId) {
+        return cache.get(loginId, this::load);
+    }
+
+    /**
+     * 토큰 발급용 현재 버전. 다른 노드에서 막 올린 버전을 놓치지 않도록 캐시를 거치지 않는다.
+     */
+    public long issue(String loginId) {
+        long version = load(loginId);
+        cache.put(loginId, version);
+        return version;
+    }
+
+    /**
+     * 역할/상태 변경 시 호출. 이전에 발급된 액세스 토큰은 이 노드에서 즉시, 다른 노드에서는 cache-ttl-ms 안에 거부된다.
+     * 캐시된 UserDetails 도 함께 무효화한다.
+     */
+    public long bump(String loginId) {
+        Long version = redisTemplate.opsForValue().increment(KEY_PREFIX + loginId);
+        long bumped = version != null ? version : 0;
+        cache.put(loginId, bumped);
+        userDetailsCache.invalidate(loginId);
+        return bumped;
+    }
+
+    private long load(String loginId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + loginId);
+        return value != null ? Long.parseLong(value) : 0;
+    }
+}
@@ -17,18 +17,29 @@ import java.util.stream.Collectors;
 /**
  * Service 레이어:
  * MyBatis 매퍼를 통해 DB에서 User + Roles 조회 → Spring Security 에 UserDetails 로 전달
+ * 조회 결과는 UserDetailsCache 에 두고 변경 시 무효화한다.
  */
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     private final MemberService memberService;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(String loginId) throws UsernameNotFoundException {
+        UserDetails user = userDetailsCache.get(loginId, this::load);
+
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found: " + loginId);
+        }
+        return user;
+    }
+
+    private UserDetails load(String loginId) {
         MemberWithRoles resUser = memberService.findByMemberWithRoles(loginId);
 
         if (resUser == null) {
-            throw new UsernameNotFoundException("User not found: " + loginId);
+            return null;
         }
         // DB에서 가져온 role 문자열을 GrantedAuthority 리스트로 변환
         List<GrantedAuthority> auths = resUser.getRolesList()
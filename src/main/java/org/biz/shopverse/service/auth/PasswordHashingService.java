@@ -0,0 +1,164 @@
+package org.biz.shopverse.service.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해시/비교를 전용 스레드 풀에서 실행한다.
+ * 로그인이 몰려도 요청 스레드가 BCrypt 로 모두 묶이지 않도록, 대기열이 가득 차면 바로 429, 제한 시간 안에 끝나지 않으면 503.
+ * 저장된 해시의 cost 가 설정값(auth.password.bcrypt-strength)과 다르면 로그인 성공 시 새 cost 로 다시 해시한다.
+ * 지표: auth.password.hash{op} (해시 시간), auth.password.queue.wait (대기 시간), auth.password.queue.depth, auth.password.rejected{reason}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.password.bcrypt-strength:10}")
+    private int strength;
+
+    // 해시 전용 스레드 수 / 대기열 크기
+    @Value("${auth.password.hash-threads:4}")
+    private int threads;
+
+    @Value("${auth.password.hash-queue-capacity:64}")
+    private int queueCapacity;
+
+    // 대기 + 해시 시간을 합쳐 기다리는 최대 시간 (ms)
+    @Value("${auth.password.hash-timeout-ms:3000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+    private Timer matchesTimer;
+    private Timer encodeTimer;
+    private Timer queueWaitTimer;
+    private Counter queueFullCounter;
+    private Counter timeoutCounter;
+
+    @PostConstruct
+    protected void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+
+        matchesTimer = Timer.builder("auth.password.hash").tag("op", "matches").register(meterRegistry);
+        encodeTimer = Timer.builder("auth.password.hash").tag("op", "encode").register(meterRegistry);
+        queueWaitTimer = Timer.builder("auth.password.queue.wait").register(meterRegistry);
+        queueFullCounter = Counter.builder("auth.password.rejected").tag("reason", "queue_full").register(meterRegistry);
+        timeoutCounter = Counter.builder("auth.password.rejected").tag("reason", "timeout").register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    public String encode(String rawPassword) {
+        return await(submit(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 설정값과 다르면 백그라운드에서 다시 해시해 store 로 넘긴다.
+     * 로그인 응답을 기다리게 하지 않으며, 풀이 바쁘면 건너뛰고 다음 로그인 때 다시 시도한다.
+     */
+    public void rehashIfNeeded(String rawPassword, String encodedPassword, Consumer<String> store) {
+        if (!needsRehash(encodedPassword)) {
+            return;
+        }
+        try {
+            submit(encodeTimer, () -> passwordEncoder.encode(rawPassword))
+                    .thenAccept(store)
+                    .exceptionally(e -> {
+                        log.warn("password rehash failed: {}", e.getMessage());
+                        return null;
+                    });
+        } catch (CustomBusinessException e) {
+            log.debug("password rehash skipped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * BCrypt 해시($2a$10$...)의 cost 가 설정값과 다른지. BCrypt 형식이 아니면 false.
+     */
+    boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith("$2")) {
+            return false;
+        }
+        int start = encodedPassword.indexOf('$', 1) + 1;
+        int end = encodedPassword.indexOf('$', start);
+        if (start == 0 || end < 0) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(start, end)) != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Timer hashTimer, Supplier<T> hashing) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(hashing);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw new CustomBusinessException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.",
+                    "PASSWORD_HASH_BUSY", HttpStatus.TOO_MANY_REQUESTS);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new CustomBusinessException("비밀번호 처리가 지연되고 있습니다. 잠시 후 다시 시도해 주세요.",
+                    "PASSWORD_HASH_TIMEOUT", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
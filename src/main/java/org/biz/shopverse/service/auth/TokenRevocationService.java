@@ -0,0 +1,156 @@
+package org.biz.shopverse.service.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.security.VerifiedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 액세스 토큰 폐기 목록.
+ * 폐기한 토큰의 jti 는 Redis RV:{jti} 에 남은 만료 시간만큼 두고, 재동기화용으로 RV:index (score: 만료 시각 ms) 에도 넣는다.
+ * 노드마다 로컬 Bloom filter 를 두어 요청마다 Redis 를 읽지 않고, filter 가 있다고 할 때만 Redis 로 확인한다.
+ * 다른 노드의 폐기는 pub/sub 으로 바로 받고, 메시지를 놓친 경우와 만료된 jti 정리를 위해 주기적으로 전체를 다시 만든다. (TokenRevocationSchedule)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService implements MessageListener {
+    static final String REVOKED_CHANNEL = "auth:token:revoked";
+    static final String INDEX_KEY = "RV:index";
+    private static final String KEY_PREFIX = "RV:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    // 동시에 유효한 폐기 토큰 수 예상치 / 허용 오탐률
+    @Value("${jwt.revocation.expected-tokens:100000}")
+    private long expectedTokens;
+
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // 재동기화 중 만들고 있는 filter. 그 사이 들어온 폐기도 넣어 교체 시 빠지지 않게 한다.
+    private volatile BloomFilter rebuilding;
+
+    private Counter negativeCounter;
+    private Counter revokedCounter;
+    private Counter falsePositiveCounter;
+    private Counter errorCounter;
+
+    @PostConstruct
+    protected void init() {
+        filter = newFilter();
+        negativeCounter = checkCounter("negative");
+        revokedCounter = checkCounter("revoked");
+        falsePositiveCounter = checkCounter("false_positive");
+        errorCounter = checkCounter("error");
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+    }
+
+    /**
+     * 토큰을 만료 시각까지 폐기한다. jti 가 없는(이전 형식) 토큰이나 이미 만료된 토큰은 무시한다.
+     */
+    public void revoke(VerifiedToken token) {
+        if (token.getTokenId() == null || token.getExpiration() == null) {
+            return;
+        }
+        long expiresAt = token.getExpiration().getTime();
+        long ttlMs = expiresAt - System.currentTimeMillis();
+        if (ttlMs <= 0) {
+            return;
+        }
+
+        String jti = token.getTokenId();
+        redisTemplate.opsForValue().set(KEY_PREFIX + jti, "1", Duration.ofMillis(ttlMs));
+        redisTemplate.opsForZSet().add(INDEX_KEY, jti, expiresAt);
+        add(jti);
+        try {
+            redisTemplate.convertAndSend(REVOKED_CHANNEL, jti);
+        } catch (Exception e) {
+            // 다른 노드는 다음 재동기화 때 반영
+            log.warn("token revocation publish failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 filter 에 없으면 바로 false. 있으면 Redis 로 확인하고, Redis 오류 시에는 폐기된 것으로 본다.
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        String jti = token.getTokenId();
+        if (jti == null || !filter.mightContain(jti)) {
+            negativeCounter.increment();
+            return false;
+        }
+
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jti))) {
+                revokedCounter.increment();
+                return true;
+            }
+            falsePositiveCounter.increment();
+            return false;
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("token revocation lookup failed: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 만료된 항목을 정리하고 Redis 의 폐기 목록으로 filter 를 새로 만들어 교체한다.
+     */
+    public void resync() {
+        BloomFilter next = newFilter();
+        rebuilding = next;
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+            Set<String> revoked = redisTemplate.opsForZSet().range(INDEX_KEY, 0, -1);
+            if (revoked != null) {
+                revoked.forEach(next::put);
+            }
+            filter = next;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // rebuilding 을 먼저 봐야 교체 직전에 들어온 jti 가 새 filter 에서 빠지지 않는다
+    private void add(String jti) {
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(jti);
+        }
+        filter.put(jti);
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedTokens, falsePositiveRate);
+    }
+
+    private Counter checkCounter(String result) {
+        return Counter.builder("auth.revocation.check")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,89 @@
+package org.biz.shopverse.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 회원 UserDetails(비밀번호 해시, 역할) 로컬 캐시. 크기/TTL 로 제한한다.
+ * 역할/비밀번호/상태가 바뀌면 invalidate 로 이 노드를 비우고 pub/sub 으로 다른 노드도 비운다.
+ * 지표: auth.user.cache.* (적중률, Caffeine), auth.user.cache.load (DB 로드 지연)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCache implements MessageListener {
+    static final String INVALIDATION_CHANNEL = "cache:member:invalidate";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.user-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${auth.user-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<String, UserDetails> cache;
+    private Timer loadTimer;
+
+    @PostConstruct
+    protected void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.user.cache");
+        loadTimer = Timer.builder("auth.user.cache.load")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시된 사용자, 없으면 loader 로 조회해 저장한다. (loader 가 null 을 반환하면 저장하지 않음)
+     * 호출하는 쪽이 eraseCredentials 등으로 바꿔도 캐시에 영향이 없도록 복사본을 돌려준다.
+     */
+    public UserDetails get(String loginId, Function<String, UserDetails> loader) {
+        UserDetails cached = cache.get(loginId, key -> loadTimer.record(() -> loader.apply(key)));
+        return cached != null ? User.withUserDetails(cached).build() : null;
+    }
+
+    /**
+     * 회원의 역할/비밀번호/상태 변경 시 호출. 다른 노드는 메시지를 놓치면 TTL 이 지나야 반영된다.
+     */
+    public void invalidate(String loginId) {
+        cache.invalidate(loginId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, loginId);
+        } catch (Exception e) {
+            log.warn("user cache invalidation publish failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -13,14 +13,20 @@ import org.biz.shopverse.dto.member.request.MemberLoginRequest;
 import org.biz.shopverse.dto.member.request.MemberUpdateRequest;
 import org.biz.shopverse.dto.member.response.MemberResponse;
 import org.biz.shopverse.exception.CustomBusinessException;
+import org.biz.shopverse.exception.auth.JwtInvalidException;
+import org.biz.shopverse.exception.auth.JwtTokenExpiredException;
 import org.biz.shopverse.mapper.member.MemberMapper;
 import lombok.RequiredArgsConstructor;
 import org.biz.shopverse.security.JwtTokenProvider;
+import org.biz.shopverse.security.VerifiedToken;
+import org.biz.shopverse.service.auth.AuthVersionService;
 import org.biz.shopverse.service.auth.JwtTokenRedisService;
+import org.biz.shopverse.service.auth.PasswordHashingService;
+import org.biz.shopverse.service.auth.TokenRevocationService;
+import org.biz.shopverse.service.auth.UserDetailsCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -28,9 +34,12 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MemberService {
     private final MemberMapper memberMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtTokenRedisService jwtTokenRedisService;
+    private final AuthVersionService authVersionService;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserDetailsCache userDetailsCache;
 
     @Value("${jwt.access-token-expiration}")
     private long accessTokenValidityInMs;
@@ -72,11 +81,16 @@ public class MemberService {
             throw new CustomBusinessException("권한, 정보가 존재하지 않는 사용자입니다.");
         }
 
-        if (!passwordEncoder.matches(memberLoginRequest.getPassword(), memberWithRoles.getPassword())) {
+        if (!passwordHashingService.matches(memberLoginRequest.getPassword(), memberWithRoles.getPassword())) {
             throw new CustomBusinessException("잘못된 사용자 정보를 입력 하셨습니다.");
         }
 
-        String accessToken = jwtTokenProvider.generateAccessToken(memberWithRoles.getLoginId(), memberWithRoles.getRolesList(), accessTokenValidityInMs);
+        // 설정된 cost 와 다른 해시는 백그라운드에서 다시 해시해 교체
+        passwordHashingService.rehashIfNeeded(memberLoginRequest.getPassword(), memberWithRoles.getPassword(),
+                rehashed -> replacePassword(memberWithRoles.getLoginId(), memberWithRoles.getPassword(), rehashed));
+
+        long authVersion = authVersionService.issue(memberWithRoles.getLoginId());
+        String accessToken = jwtTokenProvider.generateAccessToken(memberWithRoles.getLoginId(), memberWithRoles.getRolesList(), authVersion, accessTokenValidityInMs);
         String refreshToken = jwtTokenProvider.generateRefreshToken(memberWithRoles.getLoginId(), refreshTokenValidityInMs);
 
         jwtTokenRedisService.saveRefreshToken(memberWithRoles.getLoginId(), refreshToken, refreshTokenValidityInMs);  // 7일
@@ -96,7 +110,35 @@ public class MemberService {
         return ResponseEntity.ok(ApiResponse.success(tokenResponse, "로그인이 완료되었습니다."));
     }
 
-    public ResponseEntity<ApiResponse<String>> logout(HttpServletResponse response) {
+    public ResponseEntity<ApiResponse<String>> logout(HttpServletRequest request, HttpServletResponse response) {
+        String loginId = null;
+
+        // 액세스 토큰은 만료 전까지 쓸 수 있으므로 폐기 목록에 올린다
+        try {
+            VerifiedToken accessToken = resolveAccessToken(request);
+            if (accessToken != null) {
+                loginId = accessToken.getSubject();
+                tokenRevocationService.revoke(accessToken);
+            }
+        } catch (JwtTokenExpiredException | JwtInvalidException e) {
+            // 이미 쓸 수 없는 토큰
+        } catch (Exception e) {
+            // Redis 장애여도 로그아웃(쿠키 삭제)은 진행한다
+            log.warn("Failed to revoke access token on logout: {}", e.getMessage());
+        }
+
+        // 저장된 리프레시 토큰을 지워 쿠키가 남아 있어도 재발급되지 않게 한다
+        if (loginId == null) {
+            loginId = refreshTokenSubject(request);
+        }
+        if (loginId != null) {
+            try {
+                jwtTokenRedisService.deleteRefreshToken(loginId);
+            } catch (Exception e) {
+                log.warn("Failed to delete refresh token on logout: {}", e.getMessage());
+            }
+        }
+
         deleteCookie(response, "refreshToken");
 
         return ResponseEntity.ok(ApiResponse.success("로그아웃이 완료되었습니다."));
@@ -104,14 +146,7 @@ public class MemberService {
 
     public ResponseEntity<ApiResponse<TokenResponse>> reissueAccessToken(HttpServletRequest request, HttpServletResponse response) {
         try {
-            String refreshToken = null;
-            if (request.getCookies() != null) {
-                for (Cookie cookie : request.getCookies()) {
-                    if ("refreshToken".equals(cookie.getName())) {
-                        refreshToken = cookie.getValue();
-                    }
-                }
-            }
+            String refreshToken = refreshTokenCookie(request);
 
             if (refreshToken == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.error("인증 실패", "리프레시 토큰이 제공되지 않았습니다.", 401));
@@ -136,6 +171,7 @@ public class MemberService {
             String newAccessToken = jwtTokenProvider.generateAccessToken(
                     memberWithRoles.getLoginId(),
                     memberWithRoles.getRolesList(),
+                    authVersionService.issue(memberWithRoles.getLoginId()),
                     accessTokenValidityInMs
             );
 
@@ -162,7 +198,7 @@ public class MemberService {
             throw new CustomBusinessException("이미 사용중인 이메일 입니다.", HttpStatus.CONFLICT);
         }
 
-        String encodedPassword = passwordEncoder.encode(memberCreateRequest.getPassword());
+        String encodedPassword = passwordHashingService.encode(memberCreateRequest.getPassword());
         memberCreateRequest.setPassword(encodedPassword);
 
         return createMember(memberCreateRequest) > 0;
@@ -170,25 +206,21 @@ public class MemberService {
 
     public ResponseEntity<ApiResponse<MemberResponse>> getProfile(HttpServletRequest request) {
         try {
-            String accessToken = null;
-            
-            String bearer = request.getHeader("Authorization");
-            if (bearer != null && bearer.startsWith("Bearer ")) {
-                accessToken = bearer.substring(7);
-            }
-        
-            if (accessToken == null) {
+            VerifiedToken accessToken;
+            try {
+                accessToken = resolveAccessToken(request);
+            } catch (JwtTokenExpiredException | JwtInvalidException e) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(ApiResponse.error("인증 실패", "액세스 토큰이 제공되지 않았습니다.", 401));
+                        .body(ApiResponse.error("인증 실패", "유효하지 않은 토큰입니다.", 401));
             }
 
-            if (!jwtTokenProvider.isTokenValid(accessToken)) {
+            if (accessToken == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(ApiResponse.error("인증 실패", "유효하지 않은 토큰입니다.", 401));
+                        .body(ApiResponse.error("인증 실패", "액세스 토큰이 제공되지 않았습니다.", 401));
             }
 
-            String loginId = jwtTokenProvider.getUserId(accessToken);
-            String role = jwtTokenProvider.getUserRole(accessToken);
+            String loginId = accessToken.getSubject();
+            String role = accessToken.getPrimaryRole();
             
             MemberResponse memberResponse = findByLoginId(loginId);
             if (memberResponse == null) {
@@ -211,25 +243,21 @@ public class MemberService {
     
     public ResponseEntity<ApiResponse<MemberResponse>> updateProfile(HttpServletRequest request, MemberUpdateRequest memberUpdateRequest) {
         try {
-            String accessToken = null;
-            
-            String bearer = request.getHeader("Authorization");
-            if (bearer != null && bearer.startsWith("Bearer ")) {
-                accessToken = bearer.substring(7);
-            }
-        
-            if (accessToken == null) {
+            VerifiedToken accessToken;
+            try {
+                accessToken = resolveAccessToken(request);
+            } catch (JwtTokenExpiredException | JwtInvalidException e) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(ApiResponse.error("인증 실패", "액세스 토큰이 제공되지 않았습니다.", 401));
+                        .body(ApiResponse.error("인증 실패", "유효하지 않은 토큰입니다.", 401));
             }
 
-            if (!jwtTokenProvider.isTokenValid(accessToken)) {
+            if (accessToken == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(ApiResponse.error("인증 실패", "유효하지 않은 토큰입니다.", 401));
+                        .body(ApiResponse.error("인증 실패", "액세스 토큰이 제공되지 않았습니다.", 401));
             }
 
-            String loginId = jwtTokenProvider.getUserId(accessToken);
-            String role = jwtTokenProvider.getUserRole(accessToken);
+            String loginId = accessToken.getSubject();
+            String role = accessToken.getPrimaryRole();
             
             MemberResponse currentMember = findByLoginId(loginId);
             if (currentMember == null) {
@@ -288,4 +316,54 @@ public class MemberService {
         cookie.setMaxAge(0);
         response.addCookie(cookie);
     }
+
+    private String refreshTokenCookie(HttpServletRequest request) {
+        String refreshToken = null;
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if ("refreshToken".equals(cookie.getName())) {
+                    refreshToken = cookie.getValue();
+                }
+            }
+        }
+        return refreshToken;
+    }
+
+    // 리프레시 토큰 쿠키의 회원 ID (없거나 검증 실패면 null)
+    private String refreshTokenSubject(HttpServletRequest request) {
+        String refreshToken = refreshTokenCookie(request);
+        if (refreshToken == null) {
+            return null;
+        }
+
+        try {
+            return jwtTokenProvider.verify(refreshToken).getSubject();
+        } catch (JwtTokenExpiredException | JwtInvalidException e) {
+            return null;
+        }
+    }
+
+    /**
+     * JwtFilter 가 이미 검증한 토큰(보안 컨텍스트)을 쓰고, 없을 때만 Authorization 헤더의 토큰을 검증한다.
+     * 헤더에 토큰이 없으면 null, 검증 실패 시 JwtTokenExpiredException / JwtInvalidException.
+     */
+    private VerifiedToken resolveAccessToken(HttpServletRequest request) {
+        VerifiedToken verified = VerifiedToken.current();
+        if (verified != null) {
+            return verified;
+        }
+
+        String bearer = request.getHeader("Authorization");
+        if (bearer == null || !bearer.startsWith("Bearer ")) {
+            return null;
+        }
+        return jwtTokenProvider.verify(bearer.substring(7));
+    }
+
+    // 저장된 해시가 currentPassword 일 때만 바꾸고(compare-and-set, 동시 변경과 경합 방지), 바뀌었으면 인증 캐시를 비운다
+    private void replacePassword(String loginId, String currentPassword, String newPassword) {
+        if (memberMapper.updatePassword(loginId, currentPassword, newPassword) > 0) {
+            userDetailsCache.invalidate(loginId);
+        }
+    }
 } 
\ No newline at end of file
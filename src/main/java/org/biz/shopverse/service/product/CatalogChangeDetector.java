@@ -0,0 +1,87 @@
+package org.biz.shopverse.service.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.dto.product.CategoryChange;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * products/categories 의 updated_at 을 주기적으로 확인해 CatalogChangedEvent 를 발행한다.
+ * 애플리케이션 밖(관리 도구, 배치 등)에서 변경된 데이터도 캐시 무효화 대상이 되도록 한다.
+ * updated_at 은 트랜잭션 시작 시각이라 긴 트랜잭션(일괄 가져오기 등)은 더 늦은 변경보다 나중에 보일 수 있다.
+ * 그래서 상품은 마지막 변경 시각보다 overlap-ms 앞에서부터 다시 읽고, 카테고리별 (마지막 변경 시각, 변경 수)가
+ * 직전 확인 때와 달라진 카테고리만 발행한다. (구간을 벗어나는 변경 때문에 한 번 더 발행될 수 있다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogChangeDetector {
+    private final ProductMapper productMapper;
+    private final CategoryTreeIndex categoryTreeIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${product.catalog-change.overlap-ms:60000}")
+    private long overlapMs;
+
+    private Long productWatermark;  // 마지막으로 확인한 상품 updated_at (ms)
+    private Long categoryWatermark; // 마지막으로 확인한 카테고리 updated_at (ms)
+    private Map<Long, CategoryChange> lastChanges = new HashMap<>(); // 직전 확인 구간의 카테고리별 변경
+
+    /**
+     * 마지막 확인 이후 변경을 감지한다. 첫 호출은 기준 시각만 기록한다.
+     */
+    public synchronized void detect() {
+        Long categoryUpdatedAt = productMapper.selectCategoriesLastUpdatedAt();
+        if (categoryWatermark != null && categoryUpdatedAt != null && categoryUpdatedAt > categoryWatermark) {
+            // 카테고리 구조 변경은 모든 목록에 영향을 줄 수 있으므로 트리 재구성 후 전체 무효화
+            categoryTreeIndex.refresh();
+            eventPublisher.publishEvent(CatalogChangedEvent.all());
+            log.info("catalog change detected: categories");
+        }
+        categoryWatermark = categoryUpdatedAt != null ? categoryUpdatedAt : 0L;
+
+        if (productWatermark == null) {
+            Long productUpdatedAt = productMapper.selectProductsLastUpdatedAt();
+            productWatermark = productUpdatedAt != null ? productUpdatedAt : 0L;
+            return;
+        }
+
+        List<CategoryChange> changes = productMapper.selectChangedCategories(productWatermark - overlapMs);
+
+        List<Long> categoryIds = new ArrayList<>(changes.size());
+        boolean changed = false;
+        long watermark = productWatermark;
+        Map<Long, CategoryChange> current = new HashMap<>();
+        for (CategoryChange change : changes) {
+            current.put(change.getCategoryId(), change);
+            watermark = Math.max(watermark, change.getUpdatedAtMillis());
+            // 이미 발행한 변경을 다시 읽은 경우는 건너뛴다
+            if (Objects.equals(change, lastChanges.get(change.getCategoryId()))) {
+                continue;
+            }
+            changed = true;
+            if (change.getCategoryId() != null) {
+                categoryIds.add(change.getCategoryId());
+            }
+        }
+        productWatermark = watermark;
+        lastChanges = current;
+
+        if (!changed) {
+            return;
+        }
+
+        eventPublisher.publishEvent(CatalogChangedEvent.categories(categoryIds));
+        log.info("catalog change detected: categories {}", categoryIds);
+    }
+}
@@ -0,0 +1,133 @@
+package org.biz.shopverse.service.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.dto.product.response.CategoryResponse;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 트리 인메모리 인덱스.
+ * 카테고리별 하위 카테고리 ID 목록(자기 자신 포함)을 미리 계산해 두고,
+ * 상품 목록 쿼리에서 재귀 CTE 대신 category_id = ANY(?) 조건으로 사용한다.
+ * 재구성은 새 스냅샷을 만든 뒤 참조만 교체하므로 조회 중인 요청에 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeIndex {
+    private final ProductMapper productMapper;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 카테고리와 그 하위 카테고리 ID 목록을 반환한다. (반환 배열은 수정하지 않는다)
+     * 인덱스에 없는 카테고리(최근 추가 등)는 자기 자신만 포함한다.
+     */
+    public Long[] resolve(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+
+        Long[] ids = snapshot().descendants.get(categoryId);
+        return ids != null ? ids : new Long[]{categoryId};
+    }
+
+    /**
+     * 카테고리와 그 상위 카테고리 ID 목록을 반환한다. (자기 자신 포함, 가까운 순)
+     * 하위 카테고리 상품 변경 시 상위 카테고리 목록도 함께 무효화할 때 사용한다.
+     */
+    public Long[] ancestors(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+
+        Long[] ids = snapshot().ancestors.get(categoryId);
+        return ids != null ? ids : new Long[]{categoryId};
+    }
+
+    /**
+     * 카테고리 테이블을 다시 읽어 인덱스를 재구성한다. (스케줄러 또는 카테고리 변경 시 호출)
+     */
+    public void refresh() {
+        long start = System.currentTimeMillis();
+        List<CategoryResponse> categories = productMapper.findAllCategories();
+        this.snapshot = new Snapshot(build(categories), buildAncestors(categories));
+        log.info("category tree index rebuilt: {} categories, {} ms", categories.size(), System.currentTimeMillis() - start);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    static Map<Long, Long[]> build(List<CategoryResponse> categories) {
+        Map<Long, List<Long>> children = new HashMap<>();
+        for (CategoryResponse category : categories) {
+            if (category.getParentId() != null) {
+                children.computeIfAbsent(category.getParentId(), k -> new ArrayList<>()).add(category.getId());
+            }
+        }
+
+        Map<Long, Long[]> result = new HashMap<>(categories.size() * 2);
+        for (CategoryResponse category : categories) {
+            // 방문 집합으로 순환 참조가 있어도 무한 루프에 빠지지 않도록 한다
+            Set<Long> visited = new LinkedHashSet<>();
+            Deque<Long> stack = new ArrayDeque<>();
+            stack.push(category.getId());
+            while (!stack.isEmpty()) {
+                Long id = stack.pop();
+                if (visited.add(id)) {
+                    children.getOrDefault(id, List.of()).forEach(stack::push);
+                }
+            }
+            result.put(category.getId(), visited.toArray(new Long[0]));
+        }
+        return result;
+    }
+
+    static Map<Long, Long[]> buildAncestors(List<CategoryResponse> categories) {
+        Map<Long, Long> parents = new HashMap<>(categories.size() * 2);
+        for (CategoryResponse category : categories) {
+            parents.put(category.getId(), category.getParentId());
+        }
+
+        Map<Long, Long[]> result = new HashMap<>(categories.size() * 2);
+        for (CategoryResponse category : categories) {
+            Set<Long> visited = new LinkedHashSet<>();
+            Long id = category.getId();
+            while (id != null && visited.add(id)) {
+                id = parents.get(id);
+            }
+            result.put(category.getId(), visited.toArray(new Long[0]));
+        }
+        return result;
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, Long[]> descendants;
+        private final Map<Long, Long[]> ancestors;
+
+        private Snapshot(Map<Long, Long[]> descendants, Map<Long, Long[]> ancestors) {
+            this.descendants = descendants;
+            this.ancestors = ancestors;
+        }
+    }
+}
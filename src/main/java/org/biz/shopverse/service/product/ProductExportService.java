@@ -0,0 +1,100 @@
+package org.biz.shopverse.service.product;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.biz.shopverse.dto.product.ProductExportTombstone;
+import org.biz.shopverse.dto.product.response.ProductResponse;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 전체 카탈로그 NDJSON 내보내기 (한 줄에 상품 하나).
+ * MyBatis Cursor 로 fetchSize 단위로 읽으면서 바로 출력 스트림에 쓰므로 상품 수와 관계없이 힙 사용량이 일정하다.
+ * 페이지 API 를 OFFSET 으로 반복 호출하는 전체 수집(매 페이지 건수 쿼리 포함)을 대체한다.
+ * 증분 수집(since)에서 비노출/삭제로 바뀐 상품은 tombstone 행(ProductExportTombstone)으로 쓴다.
+ * 원가(costPrice)는 조회하지 않는다. 스트림이 끝날 때까지 DB 커넥션과 트랜잭션을 하나 점유하므로
+ * 익명 호출은 막고 파트너/관리자만 호출한다. (SecurityConfig)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+    private final ProductMapper productMapper;
+    private final ObjectMapper objectMapper;
+
+    private ObjectWriter rowWriter;
+    private ObjectWriter tombstoneWriter;
+
+    @PostConstruct
+    protected void init() {
+        // 행마다 flush 하지 않는다 (gzip 압축 효율, 시스템 콜 감소)
+        rowWriter = objectMapper.copy()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .writerFor(ProductResponse.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        tombstoneWriter = rowWriter.forType(ProductExportTombstone.class);
+    }
+
+    /**
+     * 노출 가능한 상품을 ID 순으로 out 에 쓴다. out 은 닫지 않는다.
+     * sinceMillis 가 있으면 그 이후 비노출/삭제된 상품도 tombstone 으로 함께 쓴다.
+     * PostgreSQL 드라이버는 트랜잭션 안에서만 fetchSize 로 나눠 읽으므로 readOnly 트랜잭션으로 감싼다.
+     *
+     * @param sinceMillis 지정 시 그 이후 변경된 상품만 (epoch ms)
+     * @return 내보낸 행 수 (tombstone 포함)
+     */
+    @Transactional(readOnly = true)
+    public long export(OutputStream out, Long sinceMillis) throws IOException {
+        long start = System.currentTimeMillis();
+        long count = 0;
+
+        try (Cursor<ProductResponse> cursor = productMapper.streamProductsForExport(sinceMillis);
+             JsonGenerator generator = rowWriter.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            for (ProductResponse product : cursor) {
+                if (isListable(product)) {
+                    rowWriter.writeValue(generator, product);
+                } else {
+                    tombstoneWriter.writeValue(generator, tombstoneOf(product));
+                }
+                count++;
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+
+        log.info("product export finished: {} products, {} ms", count, System.currentTimeMillis() - start);
+        return count;
+    }
+
+    // streamProductsForExport 의 노출 조건과 같다
+    private static boolean isListable(ProductResponse product) {
+        return "active".equals(product.getStatus())
+                && "visible".equals(product.getVisibility())
+                && product.getDeletedAt() == null;
+    }
+
+    private static ProductExportTombstone tombstoneOf(ProductResponse product) {
+        return ProductExportTombstone.builder()
+                .id(product.getId())
+                .status(product.getStatus())
+                .visibility(product.getVisibility())
+                .deletedAt(product.getDeletedAt())
+                .deleted(true)
+                .build();
+    }
+}
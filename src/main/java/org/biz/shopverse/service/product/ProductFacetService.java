@@ -0,0 +1,188 @@
+package org.biz.shopverse.service.product;
+
+import lombok.RequiredArgsConstructor;
+import org.biz.shopverse.dto.product.FacetCountRow;
+import org.biz.shopverse.dto.product.response.ProductFacetBucket;
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.biz.shopverse.service.product.cache.ProductFacetCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 상품 목록 facet 집계.
+ * 요청한 facet 을 GROUPING SETS 쿼리 한 번(selectFacetCounts)으로 집계하고, 필터 시그니처별로 캐시한다.
+ * 필터는 목록과 같은 카테고리(하위 포함)/LIKE 검색어 조건이고, 검색어가 없으면 목록과 같은 원본(product.list.source)을 집계한다.
+ * 검색어가 있는 요청은 LIKE 엔진(product.search.engine=like)에서만 지원한다.
+ * (index/fulltext 는 일치 집합이 LIKE 조건과 달라 집계가 결과와 맞지 않으므로 facet 을 붙이지 않는다)
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductFacetService {
+    public static final String BRAND = "brand";
+    public static final String PRICE = "price";
+    public static final String RATING = "rating";
+    public static final String CATEGORY = "category";
+
+    private static final Set<String> SUPPORTED = Set.of(BRAND, PRICE, RATING, CATEGORY);
+
+    private final ProductMapper productMapper;
+    private final CategoryTreeIndex categoryTreeIndex;
+    private final ProductFacetCache productFacetCache;
+
+    // 가격 구간 경계 (원, 오름차순)
+    @Value("${product.facet.price-bounds:10000,30000,50000,100000,300000}")
+    private Long[] priceBounds;
+
+    @Value("${product.search.engine:like}")
+    private String searchEngine;
+
+    @Value("${product.list.source:products}")
+    private String listSource;
+
+    /**
+     * 이 검색어 조건의 목록에 facet 을 집계할 수 있는지. (검색어가 없거나 LIKE 엔진)
+     */
+    public boolean supports(String search) {
+        return search == null || search.isBlank() || "like".equals(searchEngine);
+    }
+
+    /**
+     * facets: 쉼표 구분 facet 이름 (brand, price, rating, category)
+     */
+    public Map<String, List<ProductFacetBucket>> getFacets(Long categoryId, String search, String facets) {
+        Set<String> names = parse(facets);
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        String normalizedSearch = search == null || search.isBlank() ? null : search.trim();
+        ProductFacetCache.Key key = new ProductFacetCache.Key(categoryId, normalizedSearch, String.join(",", names));
+        return productFacetCache.get(key, k -> load(categoryId, normalizedSearch, names));
+    }
+
+    private Map<String, List<ProductFacetBucket>> load(Long categoryId, String search, Set<String> names) {
+        // 검색 결과는 LIKE 엔진이 products 에서 조회하므로 listing 원본은 검색어가 없을 때만 사용
+        boolean listing = search == null && "listing".equals(listSource);
+        List<FacetCountRow> rows = productMapper.selectFacetCounts(categoryTreeIndex.resolve(categoryId), search, names, priceBounds, listing);
+
+        Map<String, List<FacetCountRow>> byFacet = new HashMap<>();
+        for (FacetCountRow row : rows) {
+            // 브랜드/평점 없는 상품 등 값이 없는 버킷은 제외
+            if (row.getBucket() != null) {
+                byFacet.computeIfAbsent(row.getFacet(), k -> new ArrayList<>()).add(row);
+            }
+        }
+
+        Map<String, List<ProductFacetBucket>> result = new LinkedHashMap<>();
+        for (String name : names) {
+            List<FacetCountRow> facetRows = byFacet.getOrDefault(name, List.of());
+            switch (name) {
+                case BRAND -> result.put(name, byCountDesc(facetRows));
+                case PRICE -> result.put(name, priceBuckets(facetRows));
+                case RATING -> result.put(name, ratingBuckets(facetRows));
+                case CATEGORY -> result.put(name, childCategoryBuckets(categoryId, facetRows));
+                default -> { }
+            }
+        }
+        return result;
+    }
+
+    private List<ProductFacetBucket> byCountDesc(List<FacetCountRow> rows) {
+        List<ProductFacetBucket> buckets = new ArrayList<>(rows.size());
+        for (FacetCountRow row : rows) {
+            buckets.add(new ProductFacetBucket(row.getBucket(), row.getCount()));
+        }
+        buckets.sort(Comparator.comparingLong(ProductFacetBucket::getCount).reversed().thenComparing(ProductFacetBucket::getValue));
+        return buckets;
+    }
+
+    /**
+     * width_bucket 구간 번호를 '최소-최대' 로 바꾼다. 양 끝 구간은 한쪽 경계가 비어 있다. (예: -10000, 300000-)
+     */
+    private List<ProductFacetBucket> priceBuckets(List<FacetCountRow> rows) {
+        List<FacetCountRow> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingInt(row -> Integer.parseInt(row.getBucket())));
+
+        List<ProductFacetBucket> buckets = new ArrayList<>(sorted.size());
+        for (FacetCountRow row : sorted) {
+            int band = Integer.parseInt(row.getBucket());
+            String min = band > 0 ? String.valueOf(priceBounds[band - 1]) : "";
+            String max = band < priceBounds.length ? String.valueOf(priceBounds[band]) : "";
+            buckets.add(new ProductFacetBucket(min + "-" + max, row.getCount()));
+        }
+        return buckets;
+    }
+
+    // 평점 정수부 높은 순 (예: "4" = 4.0 이상 5.0 미만)
+    private List<ProductFacetBucket> ratingBuckets(List<FacetCountRow> rows) {
+        List<ProductFacetBucket> buckets = new ArrayList<>(rows.size());
+        for (FacetCountRow row : rows) {
+            buckets.add(new ProductFacetBucket(row.getBucket(), row.getCount()));
+        }
+        buckets.sort(Comparator.comparingInt((ProductFacetBucket bucket) -> Integer.parseInt(bucket.getValue())).reversed());
+        return buckets;
+    }
+
+    /**
+     * category_id 별 건수를 선택한 카테고리의 바로 아래 카테고리 단위로 합산한다.
+     * (카테고리 미지정이면 최상위 카테고리 단위, 선택한 카테고리에 직접 속한 상품은 제외)
+     */
+    private List<ProductFacetBucket> childCategoryBuckets(Long categoryId, List<FacetCountRow> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (FacetCountRow row : rows) {
+            Long child = childOf(categoryId, categoryTreeIndex.ancestors(Long.valueOf(row.getBucket())));
+            if (child != null) {
+                counts.merge(child, row.getCount(), Long::sum);
+            }
+        }
+
+        List<ProductFacetBucket> buckets = new ArrayList<>(counts.size());
+        counts.forEach((id, count) -> buckets.add(new ProductFacetBucket(String.valueOf(id), count)));
+        buckets.sort(Comparator.comparingLong(ProductFacetBucket::getCount).reversed().thenComparing(ProductFacetBucket::getValue));
+        return buckets;
+    }
+
+    // ancestors: 자기 자신부터 가까운 순. parentId 바로 아래 항목을 찾는다.
+    static Long childOf(Long parentId, Long[] ancestors) {
+        if (parentId == null) {
+            return ancestors[ancestors.length - 1];
+        }
+
+        for (int i = 1; i < ancestors.length; i++) {
+            if (parentId.equals(ancestors[i])) {
+                return ancestors[i - 1];
+            }
+        }
+        return null;
+    }
+
+    static Set<String> parse(String facets) {
+        Set<String> names = new TreeSet<>();
+        if (facets == null || facets.isBlank()) {
+            return names;
+        }
+
+        for (String name : facets.split(",")) {
+            String trimmed = name.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!SUPPORTED.contains(trimmed)) {
+                throw new CustomBusinessException("지원하지 않는 facet 입니다: " + trimmed, "INVALID_FACET");
+            }
+            names.add(trimmed);
+        }
+        return names;
+    }
+}
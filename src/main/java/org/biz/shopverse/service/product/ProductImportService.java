@@ -0,0 +1,124 @@
+package org.biz.shopverse.service.product;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.biz.shopverse.service.product.feed.FeedFormat;
+import org.biz.shopverse.service.product.feed.ProductImportJob;
+import org.biz.shopverse.service.product.feed.ProductImportLoader;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 공급사 피드 일괄 가져오기 (CSV / NDJSON).
+ * 요청 본문을 스트리밍으로 읽어 ProductImportLoader 로 넘기고, 진행 상태는 작업 ID 로 조회한다.
+ * 병합은 products 전체에 영향을 주므로 동시에 한 건만 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+    private static final int RECENT_JOBS = 20;
+
+    private final ProductImportLoader productImportLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<ProductImportJob> running = new AtomicReference<>();
+    private final Map<String, ProductImportJob> recentJobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ProductImportJob> eldest) {
+            return size() > RECENT_JOBS;
+        }
+    };
+
+    private Counter loadedCounter;
+    private Counter rejectedCounter;
+    private Timer durationTimer;
+
+    @PostConstruct
+    protected void init() {
+        loadedCounter = Counter.builder("product.import.rows").tag("result", "loaded").register(meterRegistry);
+        rejectedCounter = Counter.builder("product.import.rows").tag("result", "rejected").register(meterRegistry);
+        durationTimer = Timer.builder("product.import.duration").register(meterRegistry);
+    }
+
+    /**
+     * 피드를 끝까지 읽어 반영하고 완료된 작업을 반환한다. in 은 닫지 않는다.
+     */
+    public ProductImportJob importFeed(InputStream in, FeedFormat format) {
+        ProductImportJob job = new ProductImportJob(format);
+        if (!running.compareAndSet(null, job)) {
+            throw new CustomBusinessException("이미 진행 중인 상품 가져오기가 있습니다.", "IMPORT_IN_PROGRESS", HttpStatus.CONFLICT);
+        }
+        synchronized (recentJobs) {
+            recentJobs.put(job.getJobId(), job);
+        }
+
+        try {
+            Set<Long> categoryIds = productImportLoader.load(in, job);
+            job.complete();
+            // 커밋 후: 영향받은 카테고리 캐시만 무효화 (카테고리 없는 상품이 있으면 전체)
+            eventPublisher.publishEvent(categoryIds.isEmpty() && job.getProductsMerged() > 0
+                    ? CatalogChangedEvent.all()
+                    : CatalogChangedEvent.categories(categoryIds));
+            log.info("product import {} completed: {} rows/s", job.getJobId(), Math.round(job.getRowsPerSecond()));
+            return job;
+        } catch (IOException | SQLException e) {
+            job.fail(e.getMessage());
+            log.warn("product import {} failed: {}", job.getJobId(), e.getMessage());
+            throw new CustomBusinessException("상품 피드를 가져오지 못했습니다: " + e.getMessage(), "IMPORT_FAILED");
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            log.warn("product import {} failed: {}", job.getJobId(), e.getMessage());
+            throw e;
+        } finally {
+            running.set(null);
+            loadedCounter.increment(job.getRowsLoaded().get());
+            rejectedCounter.increment(job.getRowsRejected().get());
+            durationTimer.record(Duration.between(job.getStartedAt(), Instant.now()));
+        }
+    }
+
+    public ProductImportJob getJob(String jobId) {
+        ProductImportJob job;
+        synchronized (recentJobs) {
+            job = recentJobs.get(jobId);
+        }
+        if (job == null) {
+            throw new CustomBusinessException("가져오기 작업을 찾을 수 없습니다.", "IMPORT_JOB_NOT_FOUND", HttpStatus.NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 최근 작업 (최신순)
+     */
+    public List<ProductImportJob> getRecentJobs() {
+        List<ProductImportJob> jobs;
+        synchronized (recentJobs) {
+            jobs = new ArrayList<>(recentJobs.values());
+        }
+        Collections.reverse(jobs);
+        return jobs;
+    }
+}
@@ -0,0 +1,286 @@
+package org.biz.shopverse.service.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.dto.product.ProductPageRow;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 목록 건수 쿼리와 페이지 쿼리를 전용 스레드 풀에서 동시에 실행한다. (product.list.query-mode=parallel)
+ * 응답 시간은 두 쿼리의 합이 아니라 더 느린 쪽이 되고, 건수는 제한 시간(count-timeout-ms)까지만 기다린다.
+ * 건수가 늦으면 최근 정확한 건수(캐시) → pg_class.reltuples(카테고리 조건 없을 때) → 현재 페이지로 알 수 있는 최소 건수 순으로 추정한다.
+ * 늦은 건수 쿼리는 기다리지 않고 두었다가 끝나면 결과를 캐시에 넣어 다음 요청이 쓴다.
+ * 건수는 페이지와 다른 작은 풀에서 조건(countKey)마다 하나만 실행하고, DB 에서 count-statement-timeout-ms 가 지나면 끊는다.
+ * (느린 건수가 쌓여도 페이지 쿼리의 스레드/커넥션을 잡지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPageFanOut {
+    private final ProductMapper productMapper;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    // 목록 쿼리 전용 스레드 수 / 대기열 크기 (가득 차면 페이지는 호출 스레드에서, 건수는 추정치로)
+    @Value("${product.list.parallel.pool-size:16}")
+    private int poolSize;
+
+    @Value("${product.list.parallel.queue-capacity:200}")
+    private int queueCapacity;
+
+    // 건수 쿼리 전용 스레드 수 / 대기열 크기 (가득 차면 건수는 추정치로)
+    @Value("${product.list.parallel.count-pool-size:4}")
+    private int countPoolSize;
+
+    @Value("${product.list.parallel.count-queue-capacity:16}")
+    private int countQueueCapacity;
+
+    // 건수 / 페이지 쿼리를 기다리는 최대 시간 (ms, 두 쿼리 시작 시점 기준)
+    @Value("${product.list.parallel.count-timeout-ms:300}")
+    private long countTimeoutMs;
+
+    @Value("${product.list.parallel.page-timeout-ms:3000}")
+    private long pageTimeoutMs;
+
+    // 건수 쿼리 DB 제한 시간 (ms, statement_timeout). 기다리지 않은 건수가 캐시를 채울 수 있을 만큼만 둔다
+    @Value("${product.list.parallel.count-statement-timeout-ms:1000}")
+    private long countStatementTimeoutMs;
+
+    // 추정에 쓰는 최근 정확한 건수 보관 시간 (초)
+    @Value("${product.list.parallel.count-cache-ttl-seconds:300}")
+    private long countCacheTtlSeconds;
+
+    private ThreadPoolExecutor executor;
+    private ThreadPoolExecutor countExecutor;
+    private TransactionTemplate countTransaction;
+    private final ConcurrentMap<String, CompletableFuture<Long>> inFlightCounts = new ConcurrentHashMap<>();
+    private Cache<String, Long> countCache;
+    private Counter exactCounter;
+    private Counter cachedCounter;
+    private Counter estimatedCounter;
+
+    @PostConstruct
+    protected void init() {
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                daemonThreads("product-query-"));
+        executor.allowCoreThreadTimeOut(true);
+        countExecutor = new ThreadPoolExecutor(countPoolSize, countPoolSize, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(countQueueCapacity),
+                daemonThreads("product-count-"));
+        countExecutor.allowCoreThreadTimeOut(true);
+
+        // SET LOCAL statement_timeout 이 건수 쿼리에만 적용되도록 트랜잭션 안에서 실행
+        countTransaction = new TransactionTemplate(transactionManager);
+        countTransaction.setReadOnly(true);
+
+        countCache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(countCacheTtlSeconds))
+                .build();
+
+        exactCounter = Counter.builder("product.list.parallel.count").tag("result", "exact").register(meterRegistry);
+        cachedCounter = Counter.builder("product.list.parallel.count").tag("result", "cached").register(meterRegistry);
+        estimatedCounter = Counter.builder("product.list.parallel.count").tag("result", "estimated").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        countExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * offset 부터 size 건의 행과 전체 건수.
+     * 페이지 쿼리가 page-timeout-ms 를 넘기면 503.
+     */
+    public Result load(Long[] categoryIds, String sort, int offset, int size, boolean listing) {
+        String countKey = countKeyOf(categoryIds, listing);
+        long start = System.currentTimeMillis();
+
+        CompletableFuture<Long> count = countOnce(countKey, categoryIds, listing);
+        CompletableFuture<List<ProductPageRow>> page = submitPage(() -> listing
+                ? productMapper.selectListingPaged(categoryIds, sort, offset, size, null)
+                : productMapper.selectProductsPaged(categoryIds, sort, offset, size, null));
+
+        List<ProductPageRow> rows = awaitPage(page, start);
+        Long total = count != null ? awaitCount(count, start) : null;
+        if (total != null) {
+            exactCounter.increment();
+            return new Result(rows, total, false);
+        }
+
+        return estimate(countKey, categoryIds, listing, rows, offset, size);
+    }
+
+    private Result estimate(String countKey, Long[] categoryIds, boolean listing, List<ProductPageRow> rows, int offset, int size) {
+        // 마지막 페이지에 닿았으면 정확한 건수를 알 수 있다
+        if (rows.size() < size && (!rows.isEmpty() || offset == 0)) {
+            exactCounter.increment();
+            return new Result(rows, (long) offset + rows.size(), false);
+        }
+
+        // 현재 페이지가 꽉 찼으면 적어도 다음 페이지 한 건은 있다고 본다
+        long lowerBound = (long) offset + rows.size() + (rows.size() == size ? 1 : 0);
+        Long cached = countCache.getIfPresent(countKey);
+        if (cached != null) {
+            cachedCounter.increment();
+            return new Result(rows, Math.max(cached, lowerBound), true);
+        }
+
+        estimatedCounter.increment();
+        long estimated = categoryIds == null ? estimateRowCount(listing) : 0;
+        return new Result(rows, Math.max(estimated, lowerBound), true);
+    }
+
+    private long estimateRowCount(boolean listing) {
+        try {
+            Long estimated = productMapper.estimateRowCount(listing);
+            return estimated != null ? estimated : 0;
+        } catch (Exception e) {
+            log.warn("product row estimate failed: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 같은 조건의 건수 쿼리가 이미 실행 중이면 그 결과를 함께 기다린다. 대기열이 가득 차면 null (추정치 사용)
+     */
+    private CompletableFuture<Long> countOnce(String countKey, Long[] categoryIds, boolean listing) {
+        CompletableFuture<Long> pending = inFlightCounts.get(countKey);
+        if (pending != null) {
+            return pending;
+        }
+
+        CompletableFuture<Long> started = new CompletableFuture<>();
+        pending = inFlightCounts.putIfAbsent(countKey, started);
+        if (pending != null) {
+            return pending;
+        }
+
+        try {
+            CompletableFuture.supplyAsync(() -> count(categoryIds, listing), countExecutor).whenComplete((total, e) -> {
+                inFlightCounts.remove(countKey, started);
+                if (e != null) {
+                    started.completeExceptionally(e);
+                } else {
+                    countCache.put(countKey, total);
+                    started.complete(total);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightCounts.remove(countKey, started);
+            return null;
+        }
+        return started;
+    }
+
+    private Long count(Long[] categoryIds, boolean listing) {
+        return countTransaction.execute(status -> {
+            productMapper.setLocalStatementTimeout(countStatementTimeoutMs);
+            return listing ? productMapper.countListing(categoryIds, null) : productMapper.countProducts(categoryIds, null);
+        });
+    }
+
+    private CompletableFuture<List<ProductPageRow>> submitPage(Supplier<List<ProductPageRow>> query) {
+        try {
+            return CompletableFuture.supplyAsync(query, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(query.get());
+        }
+    }
+
+    private List<ProductPageRow> awaitPage(CompletableFuture<List<ProductPageRow>> page, long start) {
+        try {
+            return page.get(remaining(start, pageTimeoutMs), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 실행 중인 페이지 쿼리는 JDBC 제한 시간(productListTimeoutSeconds)에 끊긴다
+            throw new CustomBusinessException("상품 목록 조회가 지연되고 있습니다. 잠시 후 다시 시도해 주세요.",
+                    "PRODUCT_LIST_TIMEOUT", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 늦거나 실패한 건수는 null (추정치 사용)
+    private Long awaitCount(CompletableFuture<Long> count, long start) {
+        try {
+            return count.get(remaining(start, countTimeoutMs), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (ExecutionException e) {
+            log.warn("product count failed: {}", e.getCause().getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static long remaining(long start, long timeoutMs) {
+        return Math.max(0, start + timeoutMs - System.currentTimeMillis());
+    }
+
+    static String countKeyOf(Long[] categoryIds, boolean listing) {
+        return (listing ? "listing:" : "products:") + (categoryIds == null ? "all" : Arrays.toString(categoryIds));
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        // 추정용이라 카테고리별로 나누지 않고 모두 비운다
+        countCache.invalidateAll();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final List<ProductPageRow> rows;
+        private final long totalCount;
+        private final boolean estimated; // 건수 쿼리가 제한 시간 안에 끝나지 않아 추정한 건수
+    }
+}
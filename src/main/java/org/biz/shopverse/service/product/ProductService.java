@@ -3,14 +3,37 @@ package org.biz.shopverse.service.product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.biz.shopverse.domain.product.Category;
+import org.biz.shopverse.dto.product.ProductCursor;
+import org.biz.shopverse.dto.product.ProductPageRow;
+import org.biz.shopverse.dto.product.ProductSearchQuery;
+import org.biz.shopverse.dto.product.ProductSearchResult;
 import org.biz.shopverse.dto.product.request.ProductListRequest;
 import org.biz.shopverse.dto.product.response.ProductListPageResponse;
 import org.biz.shopverse.dto.product.response.CategoryResponse;
-import org.biz.shopverse.dto.product.response.ProductResponse;
+import org.biz.shopverse.dto.product.response.ProductDetailResponse;
+import org.biz.shopverse.dto.product.response.ProductVariantResponse;
+import org.biz.shopverse.exception.CustomBusinessException;
 import org.biz.shopverse.mapper.product.ProductMapper;
+import org.biz.shopverse.service.product.cache.CategoryCache;
+import org.biz.shopverse.service.product.cache.ProductDetailCache;
+import org.biz.shopverse.service.product.cache.ProductListCache;
+import org.biz.shopverse.service.product.cache.SingleFlight;
+import org.biz.shopverse.service.product.counter.ProductCounter;
+import org.biz.shopverse.service.product.counter.ProductCounterBuffer;
+import org.biz.shopverse.service.product.search.ProductSearchService;
+import org.biz.shopverse.service.product.trending.ProductTrendingService;
+import org.biz.shopverse.service.product.trending.TrendingPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -18,42 +41,388 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductService {
     private final ProductMapper productMapper;
+    private final CategoryTreeIndex categoryTreeIndex;
+    private final ProductSearchService productSearchService;
+    private final ProductListCache productListCache;
+    private final CategoryCache categoryCache;
+    private final ProductDetailCache productDetailCache;
+    private final ProductFacetService productFacetService;
+    private final ProductCounterBuffer productCounterBuffer;
+    private final ProductTrendingService productTrendingService;
+    private final ProductPageFanOut productPageFanOut;
+    private final SingleFlight<String, ProductListPageResponse> listSingleFlight = new SingleFlight<>();
+
+    // single-flight 대기 요청이 앞선 로드를 기다리는 최대 시간 (ms, 초과 시 503)
+    @Value("${product.list.single-flight.timeout-ms:3000}")
+    private long singleFlightTimeoutMs;
+
+    // combined: 건수+페이지 단일 쿼리, separate: countProducts 후 selectProductsPaged, parallel: 두 쿼리를 동시에 (ProductPageFanOut)
+    @Value("${product.list.query-mode:combined}")
+    private String listQueryMode;
+
+    // products: 상품 테이블에서 직접 조회, listing: product_listing 읽기 모델 조회 (docs/sql/002_product_listing.sql 적용 필요)
+    @Value("${product.list.source:products}")
+    private String listSource;
 
     public List<CategoryResponse> getAllCategories() {
-        return productMapper.findAllCategories();
+        return categoryCache.get(CategoryCache.ALL);
     }
 
     public List<CategoryResponse> getActiveCategories() {
-        return productMapper.findActiveCategories();
+        return categoryCache.get(CategoryCache.ACTIVE);
+    }
+
+    /**
+     * slug 로 상품 상세(활성 변형 포함)를 조회한다.
+     */
+    public ProductDetailResponse getProductDetail(String slug) {
+        ProductDetailResponse detail = productDetailCache.get(slug, this::loadProductDetail);
+        if (detail == null) {
+            throw new CustomBusinessException("상품을 찾을 수 없습니다.", "PRODUCT_NOT_FOUND", HttpStatus.NOT_FOUND);
+        }
+        // 캐시 적중이어도 조회수는 센다 (메모리 버퍼에 모아 주기적으로 반영)
+        productCounterBuffer.increment(detail.getId(), ProductCounter.VIEW);
+        productTrendingService.record(detail.getId(), detail.getCategoryId(), ProductCounter.VIEW);
+        return detail;
+    }
+
+    private ProductDetailResponse loadProductDetail(String slug) {
+        ProductDetailResponse detail = productMapper.selectProductDetailBySlug(slug);
+        if (detail != null) {
+            detail.setVariants(productMapper.selectVariantsByProductIds(new Long[]{detail.getId()}));
+        }
+        return detail;
     }
 
     public ProductListPageResponse getProductsPaged(ProductListRequest request) {
+        ProductListPageResponse response = getProductsPage(request);
+        // facet 은 페이지와 무관하게 필터 단위로 따로 캐시한다 (목록 캐시 저장 후에 붙인다)
+        // 같은 응답 객체를 동시 요청끼리 공유할 수 있으므로 복사본에 붙인다
+        // 검색 엔진이 LIKE 가 아니면 검색어가 있는 목록에는 facet 을 붙이지 않는다 (ProductFacetService 참고)
+        if (request.getFacets() != null && !request.getFacets().isBlank() && productFacetService.supports(request.getSearch())) {
+            response = response.toBuilder()
+                    .facets(productFacetService.getFacets(request.getCategoryId(), request.getSearch(), request.getFacets()))
+                    .build();
+        }
+        return response;
+    }
+
+    /**
+     * 같은 조건의 동시 요청은 이 노드에서 한 번만 로드하고 결과를 나눠 쓴다. (single-flight)
+     * 캐시 대상이면 캐시 미스(또는 조기 갱신)일 때만 로드하고, 다른 노드가 갱신 중이면 그 결과를 기다린다.
+     */
+    private ProductListPageResponse getProductsPage(ProductListRequest request) {
+        if (!productListCache.isCacheable(request)) {
+            return listSingleFlight.execute(flightKeyOf(request), () -> loadProductsPaged(request), singleFlightTimeoutMs);
+        }
+
+        ProductListPageResponse cached = productListCache.get(request);
+        if (cached != null) {
+            return cached;
+        }
+
+        return listSingleFlight.execute(flightKeyOf(request), () -> loadAndCache(request), singleFlightTimeoutMs);
+    }
+
+    private ProductListPageResponse loadAndCache(ProductListRequest request) {
+        ProductListPageResponse refreshed = productListCache.acquireOrAwait(request);
+        if (refreshed != null) {
+            return refreshed;
+        }
+
+        long start = System.currentTimeMillis();
+        ProductListPageResponse response = loadProductsPaged(request);
+        if (response.isTotalEstimated()) {
+            // 추정 건수는 정확한 값처럼 TTL 동안 남기지 않는다
+            productListCache.release(request);
+        } else {
+            productListCache.put(request, response, System.currentTimeMillis() - start);
+        }
+        return response;
+    }
+
+    // 결과에 영향을 주는 조건만 정규화해서 묶는다 (facets 는 로드 후 따로 붙이므로 제외)
+    static String flightKeyOf(ProductListRequest request) {
+        String sort = request.getSort() == null || request.getSort().isBlank() ? "latest" : request.getSort();
+        int page = request.getPage() != null ? request.getPage() : 1;
+        int size = request.getSize() != null ? request.getSize() : 10;
+        String search = request.getSearch() != null ? request.getSearch().trim().toLowerCase(Locale.ROOT) : "";
+        String cursor = request.getCursor() != null ? request.getCursor() : "";
+        return request.getCategoryId() + "|" + sort + "|" + page + "|" + size + "|" + search + "|" + cursor;
+    }
+
+    private ProductListPageResponse loadProductsPaged(ProductListRequest request) {
+        if (request.getSearch() != null && !request.getSearch().isBlank()) {
+            return searchProducts(request);
+        }
+
+        if ("trending".equals(request.getSort())) {
+            return getTrendingProducts(request);
+        }
+
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            return getProductsAfterCursor(request);
+        }
+
+        if ("separate".equals(listQueryMode)) {
+            return getProductsPagedSeparately(request);
+        }
+
+        if ("parallel".equals(listQueryMode)) {
+            return getProductsPagedParallel(request);
+        }
+
+        return getProductsPagedCombined(request);
+    }
+
+    /**
+     * 검색어가 있는 요청은 설정된 검색 엔진(product.search.engine)으로 조회한다.
+     * 검색 결과는 페이지 번호 방식으로만 제공한다. (cursor 무시, nextCursor 미반환)
+     */
+    private ProductListPageResponse searchProducts(ProductListRequest request) {
+        int requestedPage = Math.max(1, request.getPage() != null ? request.getPage() : 1);
+        int size = request.getSize() != null ? request.getSize() : 10;
+
+        ProductSearchQuery query = ProductSearchQuery.builder()
+                .keyword(request.getSearch())
+                .categoryIds(categoryTreeIndex.resolve(request.getCategoryId()))
+                .sort(request.getSort())
+                .size(size)
+                .build();
+
+        return loadPageWithTotal(requestedPage, size, null,
+                offset -> productSearchService.search(query.toBuilder().offset(offset).build()));
+    }
+
+    /**
+     * 트렌딩 순위(Redis ZSET)에서 페이지 상품 ID 를 읽고, 상품 행은 한 번의 쿼리(id = ANY(?))로 채운다.
+     * 페이지 번호 방식만 제공하며(cursor 무시), 순위를 읽을 수 없거나 아직 비어 있으면 popular 정렬로 조회한다.
+     * 전체 건수는 순위에 있는 상품 수이므로 비노출 상품만큼 실제보다 클 수 있다.
+     */
+    private ProductListPageResponse getTrendingProducts(ProductListRequest request) {
+        int requestedPage = Math.max(1, request.getPage() != null ? request.getPage() : 1);
+        int size = request.getSize() != null ? request.getSize() : 10;
+
+        TrendingPage first = productTrendingService.page(request.getCategoryId(), offsetOf(requestedPage, size), size);
+        if (first == null || first.getTotalCount() == 0) {
+            Long[] categoryIds = categoryTreeIndex.resolve(request.getCategoryId());
+            return loadPageWithTotal(requestedPage, size, null,
+                    offset -> ProductSearchResult.fromRowsWithTotal(
+                            productMapper.selectProductsPageWithTotal(categoryIds, "popular", offset, size, null)));
+        }
+
+        return loadPageWithTotal(requestedPage, size, null, offset -> {
+            TrendingPage page = offset == offsetOf(requestedPage, size)
+                    ? first
+                    : productTrendingService.page(request.getCategoryId(), offset, size);
+            return hydrateTrending(page != null ? page : new TrendingPage(List.of(), 0));
+        });
+    }
+
+    private ProductSearchResult hydrateTrending(TrendingPage page) {
+        if (page.getProductIds().isEmpty()) {
+            return new ProductSearchResult(List.of(), page.getTotalCount());
+        }
+
+        Map<Long, Integer> positions = new HashMap<>(page.getProductIds().size() * 2);
+        for (int i = 0; i < page.getProductIds().size(); i++) {
+            positions.put(page.getProductIds().get(i), i);
+        }
+
+        // 순위 순서 복원 (비노출/삭제 상품은 조회되지 않아 빠진다)
+        List<ProductPageRow> rows = new ArrayList<>(productMapper.selectProductsByIds(
+                page.getProductIds().toArray(Long[]::new), "trending"));
+        rows.sort(Comparator.comparingInt(row -> positions.getOrDefault(row.getId(), Integer.MAX_VALUE)));
+        return new ProductSearchResult(rows, page.getTotalCount());
+    }
+
+    /**
+     * 전체 건수와 페이지 행을 한 번의 쿼리로 조회한다.
+     */
+    private ProductListPageResponse getProductsPagedCombined(ProductListRequest request) {
+        int requestedPage = Math.max(1, request.getPage() != null ? request.getPage() : 1);
+        int size = request.getSize() != null ? request.getSize() : 10;
+
+        Long[] categoryIds = categoryTreeIndex.resolve(request.getCategoryId());
+        String sort = request.getSort();
+
+        return loadPageWithTotal(requestedPage, size, normalizeSort(sort),
+                offset -> ProductSearchResult.fromRowsWithTotal(useListing()
+                        ? productMapper.selectListingPageWithTotal(categoryIds, sort, offset, size, null)
+                        : productMapper.selectProductsPageWithTotal(categoryIds, sort, offset, size, null)));
+    }
+
+    private ProductListPageResponse getProductsPagedSeparately(ProductListRequest request) {
         int requestedPage = request.getPage() != null ? request.getPage() : 1;
         int size = request.getSize() != null ? request.getSize() : 10;
 
-        Long categoryId = request.getCategoryId();
+        Long[] categoryIds = categoryTreeIndex.resolve(request.getCategoryId());
         String sort = request.getSort();
-        String search = request.getSearch();
 
-        long totalCount = productMapper.countProducts(categoryId, search);
-        int totalPages = Math.max(1, (int) Math.ceil(totalCount / (double) size));
+        long totalCount = count(categoryIds);
+        int totalPages = totalPagesOf(totalCount, size);
         int currentPage = Math.max(1, Math.min(requestedPage, totalPages));
-        int offset = (currentPage - 1) * size;
+        int offset = offsetOf(currentPage, size);
+
+        List<ProductPageRow> rows;
+        if (totalCount == 0) {
+            rows = List.of();
+        } else if (useListing()) {
+            rows = productMapper.selectListingPaged(categoryIds, sort, offset, size, null);
+        } else {
+            rows = productMapper.selectProductsPaged(categoryIds, sort, offset, size, null);
+        }
+
+        return toPageResponse(rows, totalCount, false, currentPage, totalPages, normalizeSort(sort));
+    }
+
+    /**
+     * 건수와 페이지를 동시에 조회한다. 건수가 제한 시간 안에 끝나지 않으면 추정 건수로 응답한다. (totalEstimated)
+     * 요청 페이지가 (추정 건수 포함) 건수 범위를 벗어나면 마지막 페이지를 한 번 더 조회한다.
+     */
+    private ProductListPageResponse getProductsPagedParallel(ProductListRequest request) {
+        int requestedPage = Math.max(1, request.getPage() != null ? request.getPage() : 1);
+        int size = request.getSize() != null ? request.getSize() : 10;
+
+        Long[] categoryIds = categoryTreeIndex.resolve(request.getCategoryId());
+        String sort = request.getSort();
+
+        ProductPageFanOut.Result result = productPageFanOut.load(categoryIds, sort, offsetOf(requestedPage, size), size, useListing());
+        long totalCount = result.getTotalCount();
+        int totalPages = totalPagesOf(totalCount, size);
+        int currentPage = Math.min(requestedPage, totalPages);
+        List<ProductPageRow> rows = result.getRows();
 
-        List<ProductResponse> products = totalCount > 0
-                ? productMapper.selectProductsPaged(categoryId, sort, offset, size, search)
-                : List.of();
+        if (currentPage != requestedPage && totalCount > 0) {
+            int offset = offsetOf(currentPage, size);
+            rows = useListing()
+                    ? productMapper.selectListingPaged(categoryIds, sort, offset, size, null)
+                    : productMapper.selectProductsPaged(categoryIds, sort, offset, size, null);
+        }
 
+        return toPageResponse(rows, totalCount, result.isEstimated(), currentPage, totalPages, normalizeSort(sort));
+    }
+
+    /**
+     * 건수와 페이지 행을 함께 돌려주는 loader(offset -> 결과)로 페이지를 만든다.
+     * 요청 페이지가 범위를 벗어난 경우에만 마지막 페이지로 보정해 한 번 더 조회한다.
+     */
+    private ProductListPageResponse loadPageWithTotal(int requestedPage, int size, String cursorSort, IntFunction<ProductSearchResult> pageLoader) {
+        ProductSearchResult result = pageLoader.apply(offsetOf(requestedPage, size));
+        int totalPages = totalPagesOf(result.getTotalCount(), size);
+        int currentPage = Math.min(requestedPage, totalPages);
+
+        if (currentPage != requestedPage && result.getTotalCount() > 0) {
+            result = pageLoader.apply(offsetOf(currentPage, size));
+            totalPages = totalPagesOf(result.getTotalCount(), size);
+            currentPage = Math.min(currentPage, totalPages);
+        }
+
+        return toPageResponse(result.getProducts(), result.getTotalCount(), false, currentPage, totalPages, cursorSort);
+    }
+
+    /**
+     * 페이지 시작 위치. 아주 큰 page 로 int 가 넘쳐 음수 OFFSET 이 되지 않도록 long 으로 계산해 int 최대값으로 자른다.
+     * (범위를 벗어난 페이지는 빈 결과 후 마지막 페이지로 보정된다)
+     */
+    static int offsetOf(int page, int size) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) (page - 1) * size);
+    }
+
+    /**
+     * cursorSort 가 null 이면 다음 페이지 커서를 만들지 않는다.
+     * 정확한 건수는 커서에 담아 커서 페이지에서 다시 세지 않게 한다. (추정 건수는 담지 않아 첫 커서 페이지에서 센다)
+     */
+    private ProductListPageResponse toPageResponse(List<ProductPageRow> rows, long totalCount, boolean totalEstimated,
+                                                   int currentPage, int totalPages, String cursorSort) {
         boolean hasNext = currentPage < totalPages;
         boolean hasPrevious = currentPage > 1;
+        attachVariants(rows);
 
         return ProductListPageResponse.builder()
-                .products(products)
+                .products(new ArrayList<>(rows))
                 .totalCount(totalCount)
+                .totalEstimated(totalEstimated)
                 .currentPage(currentPage)
                 .totalPages(totalPages)
                 .hasNext(hasNext)
                 .hasPrevious(hasPrevious)
+                .nextCursor(cursorSort != null && hasNext && !rows.isEmpty()
+                        ? ProductCursor.of(cursorSort, rows.get(rows.size() - 1), totalEstimated ? null : totalCount).encode()
+                        : null)
+                .build();
+    }
+
+    /**
+     * 페이지에 포함된 상품의 활성 변형을 한 번의 쿼리(product_id = ANY(?))로 읽어 상품별로 묶는다.
+     * 목록 쿼리는 상품 단위로만 페이징하므로 변형 수와 관계없이 한 페이지는 size 개 상품이다.
+     */
+    private void attachVariants(List<ProductPageRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Long[] productIds = rows.stream().map(ProductPageRow::getId).toArray(Long[]::new);
+        Map<Long, List<ProductVariantResponse>> variantsByProduct = productMapper.selectVariantsByProductIds(productIds).stream()
+                .collect(Collectors.groupingBy(ProductVariantResponse::getProductId));
+
+        for (ProductPageRow row : rows) {
+            row.setVariants(variantsByProduct.getOrDefault(row.getId(), List.of()));
+        }
+    }
+
+    private int totalPagesOf(long totalCount, int size) {
+        return Math.max(1, (int) Math.ceil(totalCount / (double) size));
+    }
+
+    /**
+     * 커서(keyset) 기반 조회.
+     * OFFSET 없이 마지막으로 본 (정렬 키, id) 이후 행만 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다.
+     * 건수는 커서에 담긴 값을 쓰고, 없을 때(이전 형식, 추정 건수)만 센다.
+     */
+    private ProductListPageResponse getProductsAfterCursor(ProductListRequest request) {
+        int size = request.getSize() != null ? request.getSize() : 10;
+
+        Long[] categoryIds = categoryTreeIndex.resolve(request.getCategoryId());
+        String sort = normalizeSort(request.getSort());
+
+        ProductCursor cursor = ProductCursor.decode(request.getCursor());
+        if (!sort.equals(cursor.getSort())) {
+            throw new CustomBusinessException("정렬 조건이 커서와 일치하지 않습니다.", "INVALID_CURSOR");
+        }
+
+        long totalCount = cursor.getTotalCount() != null ? cursor.getTotalCount() : count(categoryIds);
+        int totalPages = totalPagesOf(totalCount, size);
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부를 판단
+        List<ProductPageRow> rows = useListing()
+                ? productMapper.selectListingAfter(categoryIds, sort, cursor.getSortKey(), cursor.getId(), size + 1, null)
+                : productMapper.selectProductsAfter(categoryIds, sort, cursor.getSortKey(), cursor.getId(), size + 1, null);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        attachVariants(rows);
+
+        return ProductListPageResponse.builder()
+                .products(new ArrayList<>(rows))
+                .totalCount(totalCount)
+                .totalPages(totalPages)
+                .hasNext(hasNext)
+                .hasPrevious(true)
+                .nextCursor(hasNext ? ProductCursor.of(sort, rows.get(rows.size() - 1), totalCount).encode() : null)
                 .build();
     }
+
+    private long count(Long[] categoryIds) {
+        return useListing() ? productMapper.countListing(categoryIds, null) : productMapper.countProducts(categoryIds, null);
+    }
+
+    private boolean useListing() {
+        return "listing".equals(listSource);
+    }
+
+    private String normalizeSort(String sort) {
+        return sort == null || sort.isBlank() ? "latest" : sort;
+    }
 }
@@ -0,0 +1,129 @@
+package org.biz.shopverse.service.product.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.dto.product.request.ProductListRequest;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.service.product.CategoryTreeIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 카탈로그 버전 카운터 (조건부 GET 용 ETag).
+ *
+ * - Redis 키 PCV:global(전체 버전), PCV:all(전체 목록 버전), PCV:{categoryId}(카테고리별 버전)를 변경 시 INCR 한다.
+ *   상품 변경은 해당 카테고리와 상위 카테고리, all 을 올리고, 전체 변경(카테고리 구조 등)은 global 을 올린다.
+ * - ETag = "epoch.global.카테고리버전". epoch(PCV:epoch)은 없을 때 새로 만드는 임의 값이라
+ *   Redis 데이터가 사라져 카운터가 처음부터 다시 시작해도 이전 ETag 와 겹치지 않는다.
+ * - 버전은 본문을 만들기 전에 읽는다. 그 사이 변경이 생기면 새 본문에 이전 버전이 붙을 뿐(다음 요청에서 200) 오래된 본문이 304 로 남지 않는다.
+ * - 여러 노드가 같은 변경을 감지해 각각 올려도 값이 달라질 뿐 정합성에는 문제없다.
+ * 조회수/판매수 카운터 반영은 버전을 올리지 않는다 (목록 캐시와 같은 기준).
+ * - 변경 감지는 products.updated_at 기준이라 product_variants 변경, 하드 삭제, 이전 카테고리에서 빠진 상품, 판매수(인기순) 변화는
+ *   버전을 올리지 못한다. 그래서 ETag 끝에 max-stale-seconds 단위 시간 구간을 붙여 오래된 본문이 304 로 남는 시간을
+ *   목록 캐시 TTL 과 같은 수준으로 제한한다. (0 이하면 붙이지 않음)
+ * Redis 오류 시 ETag 없이 일반 응답한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogVersion {
+    private static final String KEY_PREFIX = "PCV:";
+    private static final String EPOCH = KEY_PREFIX + "epoch";
+    private static final String GLOBAL = KEY_PREFIX + "global";
+    private static final String ALL = "all";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CategoryTreeIndex categoryTreeIndex;
+
+    // 버전이 그대로여도 ETag 가 바뀌는 주기 (초)
+    @Value("${product.etag.max-stale-seconds:300}")
+    private long maxStaleSeconds;
+
+    /**
+     * 카테고리 목록 ETag, Redis 오류면 null
+     */
+    public String categoriesETag() {
+        return eTag(null, "c");
+    }
+
+    /**
+     * 상품 목록 ETag. 카탈로그 버전만으로 결과가 정해지지 않는 요청(검색어, 트렌딩)이나 Redis 오류면 null.
+     */
+    public String productListETag(ProductListRequest request) {
+        if (request.getSearch() != null && !request.getSearch().isBlank()) {
+            return null; // 검색 색인은 변경 감지보다 늦게 반영될 수 있다
+        }
+        if ("trending".equals(request.getSort())) {
+            return null;
+        }
+        return eTag(request.getCategoryId() != null ? request.getCategoryId().toString() : ALL, "p");
+    }
+
+    private String eTag(String category, String resource) {
+        try {
+            List<String> keys = category != null ? List.of(EPOCH, GLOBAL, KEY_PREFIX + category) : List.of(EPOCH, GLOBAL);
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return null;
+            }
+            if (values.get(0) == null) {
+                redisTemplate.opsForValue().setIfAbsent(EPOCH, UUID.randomUUID().toString().substring(0, 8));
+                values = redisTemplate.opsForValue().multiGet(keys);
+                if (values == null || values.get(0) == null) {
+                    return null;
+                }
+            }
+
+            StringBuilder eTag = new StringBuilder("\"").append(resource);
+            for (String value : values) {
+                eTag.append('.').append(value != null ? value : "0");
+            }
+            if (maxStaleSeconds > 0) {
+                eTag.append('.').append(System.currentTimeMillis() / (maxStaleSeconds * 1000));
+            }
+            return eTag.append('"').toString();
+        } catch (Exception e) {
+            log.warn("catalog version read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 변경된 카테고리(상위 포함)의 버전을 올린다. (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        try {
+            if (event.isAll()) {
+                redisTemplate.opsForValue().increment(GLOBAL);
+                return;
+            }
+
+            Set<String> keys = new LinkedHashSet<>();
+            keys.add(KEY_PREFIX + ALL);
+            for (Long categoryId : event.getCategoryIds()) {
+                for (Long ancestorId : categoryTreeIndex.ancestors(categoryId)) {
+                    keys.add(KEY_PREFIX + ancestorId);
+                }
+            }
+            for (String key : keys) {
+                redisTemplate.opsForValue().increment(key);
+            }
+        } catch (Exception e) {
+            // 버전을 못 올리면 이전 ETag 로 304 가 나갈 수 있으므로 전체 버전이라도 올린다
+            log.warn("catalog version bump failed: {}", e.getMessage());
+            try {
+                redisTemplate.opsForValue().increment(GLOBAL);
+            } catch (Exception ignored) {
+                // Redis 장애 중이면 ETag 조회도 실패하므로 304 가 나가지 않는다
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package org.biz.shopverse.service.product.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.dto.common.ApiResponse;
+import org.biz.shopverse.dto.product.response.CategoryResponse;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 카테고리 목록 2단계 캐시 (로컬 Caffeine → Redis → DB).
+ *
+ * - 로컬 항목은 목록과 함께 ApiResponse 를 미리 직렬화한 바이트를 보관해, 적중 시 timestamp 만 채워 바로 응답한다.
+ * - 카테고리 변경(CatalogChangedEvent 전체 변경) 시 Redis 항목을 지우고 pub/sub 으로 모든 노드의 로컬 캐시를 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCache implements MessageListener {
+    public static final String ALL = "all";
+    public static final String ACTIVE = "active";
+
+    private static final String KEY_PREFIX = "CAT:";
+    static final String INVALIDATION_CHANNEL = "cache:category:invalidate";
+    private static final String TIMESTAMP_PLACEHOLDER = "@@TIMESTAMP@@";
+
+    private final ProductMapper productMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.category.cache.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${product.category.cache.redis-ttl-seconds:3600}")
+    private long redisTtlSeconds;
+
+    private Cache<String, CachedCategories> localCache;
+    private Counter localHitCounter;
+    private Counter redisHitCounter;
+    private Counter loadCounter;
+
+    @PostConstruct
+    protected void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(16)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+
+        localHitCounter = Counter.builder("product.category.cache.requests").tag("tier", "local").register(meterRegistry);
+        redisHitCounter = Counter.builder("product.category.cache.requests").tag("tier", "redis").register(meterRegistry);
+        loadCounter = Counter.builder("product.category.cache.requests").tag("tier", "db").register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public List<CategoryResponse> get(String name) {
+        return entry(name).categories;
+    }
+
+    /**
+     * ApiResponse.success(목록, message) 와 같은 JSON 바이트. 직렬화는 캐시 적재 시 한 번만 한다.
+     */
+    public byte[] render(String name, String message) {
+        return entry(name).render(message);
+    }
+
+    /**
+     * 전체 카탈로그 변경 시 Redis/모든 노드의 로컬 캐시를 비운다.
+     */
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.isAll()) {
+            invalidate();
+        }
+    }
+
+    public void invalidate() {
+        localCache.invalidateAll();
+        try {
+            redisTemplate.delete(List.of(KEY_PREFIX + ALL, KEY_PREFIX + ACTIVE));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, "all");
+        } catch (Exception e) {
+            // 다른 노드는 로컬 TTL 이 지나면 반영된다
+            log.warn("category cache invalidation failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidateAll();
+    }
+
+    private CachedCategories entry(String name) {
+        CachedCategories cached = localCache.getIfPresent(name);
+        if (cached != null) {
+            localHitCounter.increment();
+            return cached;
+        }
+        return localCache.get(name, this::load);
+    }
+
+    private CachedCategories load(String name) {
+        String key = KEY_PREFIX + name;
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json != null) {
+                redisHitCounter.increment();
+                return new CachedCategories(objectMapper.readValue(json, new TypeReference<List<CategoryResponse>>() {}));
+            }
+        } catch (Exception e) {
+            log.warn("category cache redis read failed: {}", e.getMessage());
+        }
+
+        loadCounter.increment();
+        List<CategoryResponse> categories = ACTIVE.equals(name)
+                ? productMapper.findActiveCategories()
+                : productMapper.findAllCategories();
+
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(categories), Duration.ofSeconds(redisTtlSeconds));
+        } catch (Exception e) {
+            log.warn("category cache redis write failed: {}", e.getMessage());
+        }
+        return new CachedCategories(categories);
+    }
+
+    private final class CachedCategories {
+        private final List<CategoryResponse> categories;
+        private volatile Rendered rendered;
+
+        private CachedCategories(List<CategoryResponse> categories) {
+            this.categories = List.copyOf(categories);
+        }
+
+        byte[] render(String message) {
+            Rendered current = rendered;
+            if (current == null || !current.message.equals(message)) {
+                current = new Rendered(message, categories);
+                rendered = current;
+            }
+            return current.withTimestamp(ApiResponse.timestampNow());
+        }
+    }
+
+    /**
+     * timestamp 자리만 비워 둔 직렬화 결과 (앞/뒤 바이트)
+     */
+    private final class Rendered {
+        private final String message;
+        private final byte[] head;
+        private final byte[] tail;
+
+        private Rendered(String message, List<CategoryResponse> categories) {
+            ApiResponse<List<CategoryResponse>> response = ApiResponse.success(categories, message);
+            response.setTimestamp(TIMESTAMP_PLACEHOLDER);
+
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(response);
+            } catch (Exception e) {
+                throw new IllegalStateException("category response serialization failed", e);
+            }
+
+            int position = json.indexOf(TIMESTAMP_PLACEHOLDER);
+            this.message = message;
+            this.head = json.substring(0, position).getBytes(StandardCharsets.UTF_8);
+            this.tail = json.substring(position + TIMESTAMP_PLACEHOLDER.length()).getBytes(StandardCharsets.UTF_8);
+        }
+
+        byte[] withTimestamp(String timestamp) {
+            byte[] time = timestamp.getBytes(StandardCharsets.US_ASCII);
+            byte[] body = new byte[head.length + time.length + tail.length];
+            System.arraycopy(head, 0, body, 0, head.length);
+            System.arraycopy(time, 0, body, head.length, time.length);
+            System.arraycopy(tail, 0, body, head.length + time.length, tail.length);
+            return body;
+        }
+    }
+}
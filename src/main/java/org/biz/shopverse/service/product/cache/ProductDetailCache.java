@@ -0,0 +1,63 @@
+package org.biz.shopverse.service.product.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.biz.shopverse.dto.product.response.ProductDetailResponse;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 상품 상세(slug → 상세 + 변형) 로컬 캐시.
+ * 카탈로그 변경 이벤트를 받으면 해당 카테고리 상품만 비운다. (각 노드의 CatalogChangeDetector 가 발행)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCache {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.detail.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${product.detail.cache.ttl-seconds:120}")
+    private long ttlSeconds;
+
+    private Cache<String, ProductDetailResponse> cache;
+
+    @PostConstruct
+    protected void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product.detail");
+    }
+
+    /**
+     * 캐시된 상세, 없으면 loader 로 조회해 저장한다. (loader 가 null 을 반환하면 저장하지 않음)
+     */
+    public ProductDetailResponse get(String slug, Function<String, ProductDetailResponse> loader) {
+        return cache.get(slug, loader);
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.isAll()) {
+            cache.invalidateAll();
+            return;
+        }
+
+        Set<Long> categoryIds = event.getCategoryIds();
+        cache.asMap().values().removeIf(detail -> categoryIds.contains(detail.getCategoryId()));
+    }
+}
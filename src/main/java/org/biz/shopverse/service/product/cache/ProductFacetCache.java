@@ -0,0 +1,86 @@
+package org.biz.shopverse.service.product.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.biz.shopverse.dto.product.response.ProductFacetBucket;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.service.product.CategoryTreeIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * facet 집계 결과 로컬 캐시. 키는 필터 시그니처(카테고리, 검색어, 정렬된 facet 목록)이다.
+ * 카탈로그 변경 시 변경된 카테고리와 그 상위 카테고리, 카테고리 미지정 항목만 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductFacetCache {
+    private final CategoryTreeIndex categoryTreeIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.facet.cache.max-size:1000}")
+    private long maxSize;
+
+    @Value("${product.facet.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<Key, Map<String, List<ProductFacetBucket>>> cache;
+
+    @PostConstruct
+    protected void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product.facet");
+    }
+
+    public Map<String, List<ProductFacetBucket>> get(Key key, Function<Key, Map<String, List<ProductFacetBucket>>> loader) {
+        return cache.get(key, loader);
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.isAll()) {
+            cache.invalidateAll();
+            return;
+        }
+
+        Set<Long> affected = new HashSet<>();
+        for (Long categoryId : event.getCategoryIds()) {
+            affected.addAll(Arrays.asList(categoryTreeIndex.ancestors(categoryId)));
+        }
+        cache.asMap().keySet().removeIf(key -> key.getCategoryId() == null || affected.contains(key.getCategoryId()));
+    }
+
+    /**
+     * 필터 시그니처. facets 는 정렬·중복 제거한 쉼표 구분 문자열 (요청 순서와 무관하게 같은 키)
+     */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    public static class Key {
+        private final Long categoryId;
+        private final String search;
+        private final String facets;
+    }
+}
@@ -0,0 +1,297 @@
+package org.biz.shopverse.service.product.cache;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.dto.product.request.ProductListRequest;
+import org.biz.shopverse.dto.product.response.ProductListPageResponse;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.service.product.CategoryTreeIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 상품 목록(검색어/커서 없는 요청) 응답 Redis 캐시.
+ *
+ * - 키: 정규화한 (categoryId, sort, page, size) → PL:{category|all}:{sort}:{page}:{size}
+ * - 값: null 필드를 뺀 ProductListPageResponse JSON
+ * - 태그: 요청 카테고리별 Set(PLT:{category|all}) 에 키를 모아 두고, 변경된 카테고리와 그 상위 카테고리 태그만 무효화한다.
+ *   태그 이름은 PLTS Set 에 모아 두어 전체 무효화 시 KEYS 스캔 없이 찾는다.
+ * - 조기 갱신(XFetch): 값과 함께 계산 시간/만료 시각을 저장하고, 만료가 가까울수록 높은 확률로 한 요청만 미스로 처리해
+ *   만료 순간 모든 요청이 한꺼번에 DB 로 몰리지 않게 한다.
+ * - 노드 간 갱신 조정: 미스 시 PLL:{key} 락(SET NX)을 잡은 노드만 로드하고, 나머지 노드는 기존 값을 쓰거나 새 값이 저장되기를 잠시 기다린다.
+ * Redis 오류는 캐시 미스로 처리해 목록 조회에는 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductListCache {
+    private static final String KEY_PREFIX = "PL:";
+    private static final String TAG_PREFIX = "PLT:";
+    private static final String TAGS_KEY = "PLTS";
+    private static final String ALL = "all";
+    private static final String LOCK_PREFIX = "PLL:";
+    private static final long LOCK_POLL_MS = 50;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CategoryTreeIndex categoryTreeIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.list.cache.enabled:true}")
+    private boolean enabled;
+
+    // 무효화 누락 대비 최대 보관 시간
+    @Value("${product.list.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 조기 갱신 강도 (XFetch beta, 0 이면 조기 갱신 안 함)
+    @Value("${product.list.cache.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta;
+
+    // 노드 간 갱신 락 보관 시간 / 다른 노드의 갱신을 기다리는 최대 시간 (ms)
+    @Value("${product.list.cache.lock-ttl-ms:5000}")
+    private long lockTtlMs;
+
+    @Value("${product.list.cache.lock-wait-ms:1000}")
+    private long lockWaitMs;
+
+    private ObjectMapper cacheMapper;
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter evictionCounter;
+    private Counter errorCounter;
+    private Counter earlyRefreshCounter;
+
+    @PostConstruct
+    protected void init() {
+        cacheMapper = objectMapper.copy()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        hitCounter = Counter.builder("product.list.cache.requests").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("product.list.cache.requests").tag("result", "miss").register(meterRegistry);
+        evictionCounter = Counter.builder("product.list.cache.evictions").register(meterRegistry);
+        errorCounter = Counter.builder("product.list.cache.errors").register(meterRegistry);
+        earlyRefreshCounter = Counter.builder("product.list.cache.requests").tag("result", "early-refresh").register(meterRegistry);
+    }
+
+    /**
+     * 캐시 대상 요청 여부 (검색어/커서 요청은 조합이 많아 캐시하지 않는다, 트렌딩은 순위가 계속 바뀌고 Redis 에서 바로 읽으므로 제외)
+     */
+    public boolean isCacheable(ProductListRequest request) {
+        return enabled
+                && !"trending".equals(request.getSort())
+                && (request.getSearch() == null || request.getSearch().isBlank())
+                && (request.getCursor() == null || request.getCursor().isBlank());
+    }
+
+    /**
+     * 캐시된 응답, 없거나 읽지 못하면 null.
+     * 만료가 가까우면 확률적으로 null 을 돌려 이 요청이 미리 갱신하게 한다. (XFetch)
+     */
+    public ProductListPageResponse get(ProductListRequest request) {
+        try {
+            Entry entry = read(keyOf(request));
+            if (entry == null) {
+                missCounter.increment();
+                return null;
+            }
+
+            if (shouldRefreshEarly(entry, System.currentTimeMillis(), ThreadLocalRandom.current().nextDouble())) {
+                earlyRefreshCounter.increment();
+                return null;
+            }
+
+            hitCounter.increment();
+            return entry.getPage();
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("product list cache read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 로드 전에 호출한다. 이 노드가 갱신 락을 잡으면 null(직접 로드 후 put),
+     * 다른 노드가 갱신 중이면 현재 캐시 값(없으면 저장될 때까지 lockWaitMs 대기)을 반환한다.
+     * 기다려도 값이 없거나 Redis 오류면 null (직접 로드).
+     */
+    public ProductListPageResponse acquireOrAwait(ProductListRequest request) {
+        String key = keyOf(request);
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + key, "1", Duration.ofMillis(lockTtlMs));
+            if (Boolean.TRUE.equals(acquired)) {
+                return null;
+            }
+
+            long deadline = System.currentTimeMillis() + lockWaitMs;
+            while (true) {
+                Entry entry = read(key);
+                if (entry != null) {
+                    return entry.getPage();
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    return null;
+                }
+                Thread.sleep(LOCK_POLL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("product list cache lock failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 응답을 저장하고 갱신 락을 푼다.
+     *
+     * @param computeMillis 응답을 만드는 데 걸린 시간 (조기 갱신 확률 계산용)
+     */
+    public void put(ProductListRequest request, ProductListPageResponse response, long computeMillis) {
+        String key = keyOf(request);
+        String tag = TAG_PREFIX + categoryOf(request);
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        Entry entry = new Entry(computeMillis, System.currentTimeMillis() + ttl.toMillis(), response);
+
+        try {
+            redisTemplate.opsForValue().set(key, cacheMapper.writeValueAsString(entry), ttl);
+            redisTemplate.opsForSet().add(tag, key);
+            redisTemplate.opsForSet().add(TAGS_KEY, tag);
+            // 태그는 항목보다 오래 남도록 만료를 갱신한다
+            redisTemplate.expire(tag, ttl.multipliedBy(2));
+            redisTemplate.delete(LOCK_PREFIX + key);
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("product list cache write failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장하지 않을 응답(추정 건수 등)을 만든 경우 갱신 락만 푼다.
+     */
+    public void release(ProductListRequest request) {
+        try {
+            redisTemplate.delete(LOCK_PREFIX + keyOf(request));
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("product list cache unlock failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 상품/카테고리 변경 시 영향받는 목록만 무효화한다. (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (event.isAll()) {
+                evictTags(redisTemplate.opsForSet().members(TAGS_KEY));
+                return;
+            }
+
+            Set<String> tags = new LinkedHashSet<>();
+            tags.add(TAG_PREFIX + ALL);
+            for (Long categoryId : event.getCategoryIds()) {
+                for (Long ancestorId : categoryTreeIndex.ancestors(categoryId)) {
+                    tags.add(TAG_PREFIX + ancestorId);
+                }
+            }
+            evictTags(tags);
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("product list cache invalidation failed: {}", e.getMessage());
+        }
+    }
+
+    private void evictTags(Set<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (String tag : tags) {
+            Set<String> members = redisTemplate.opsForSet().members(tag);
+            if (members != null) {
+                keys.addAll(members);
+            }
+        }
+
+        Long evicted = keys.isEmpty() ? 0L : redisTemplate.delete(keys);
+        redisTemplate.delete(tags);
+        redisTemplate.opsForSet().remove(TAGS_KEY, tags.toArray());
+
+        evictionCounter.increment(evicted != null ? evicted : 0);
+        log.debug("product list cache evicted {} entries for tags {}", evicted, tags);
+    }
+
+    /**
+     * XFetch: now - computeMillis * beta * ln(random) >= expiresAt 이면 조기 갱신.
+     * 계산이 오래 걸리는 응답일수록, 만료가 가까울수록 먼저 갱신된다.
+     */
+    boolean shouldRefreshEarly(Entry entry, long now, double random) {
+        if (earlyRefreshBeta <= 0 || entry.getComputeMillis() <= 0) {
+            return false;
+        }
+        return now - entry.getComputeMillis() * earlyRefreshBeta * Math.log(1 - random) >= entry.getExpiresAt();
+    }
+
+    // 배포 직후 남아 있는 이전 형식(응답 JSON 그대로)은 page 가 없으므로 미스로 본다
+    private Entry read(String key) throws JsonProcessingException {
+        String json = redisTemplate.opsForValue().get(key);
+        if (json == null) {
+            return null;
+        }
+
+        Entry entry = cacheMapper.readValue(json, Entry.class);
+        return entry.getPage() != null ? entry : null;
+    }
+
+    static String keyOf(ProductListRequest request) {
+        String sort = request.getSort() == null || request.getSort().isBlank() ? "latest" : request.getSort();
+        int page = request.getPage() != null ? request.getPage() : 1;
+        int size = request.getSize() != null ? request.getSize() : 10;
+        return KEY_PREFIX + categoryOf(request) + ":" + sort + ":" + page + ":" + size;
+    }
+
+    private static String categoryOf(ProductListRequest request) {
+        return request.getCategoryId() != null ? String.valueOf(request.getCategoryId()) : ALL;
+    }
+
+    /**
+     * 저장 형식: 응답 + 계산 시간(ms) + 만료 시각(epoch ms)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry {
+        private long computeMillis;
+        private long expiresAt;
+        private ProductListPageResponse page;
+    }
+}
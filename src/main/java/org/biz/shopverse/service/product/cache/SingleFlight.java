@@ -0,0 +1,65 @@
+package org.biz.shopverse.service.product.cache;
+
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 로드를 노드 안에서 한 번으로 합친다 (single-flight).
+ * 먼저 온 요청(리더)이 호출 스레드에서 직접 로드하고, 나머지는 리더의 결과(또는 예외)를 최대 timeout 까지 기다린다.
+ * 결과는 보관하지 않는다. 로드가 끝나면 다음 요청은 새로 로드한다. (캐시는 호출하는 쪽 책임)
+ * 대기자는 같은 결과 객체를 공유하므로 결과를 수정하지 않는다.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> loader, long timeoutMillis) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, future);
+        if (leader != null) {
+            return await(leader, timeoutMillis);
+        }
+
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 진행 중인 로드 수
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> leader, long timeoutMillis) {
+        try {
+            return leader.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new CustomBusinessException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.",
+                    "REQUEST_COALESCE_TIMEOUT", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            // 리더의 예외를 그대로 전달 (CustomBusinessException 등)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
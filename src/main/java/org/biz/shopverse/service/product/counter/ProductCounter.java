@@ -0,0 +1,10 @@
+package org.biz.shopverse.service.product.counter;
+
+/**
+ * products 의 누적 카운터 컬럼.
+ */
+public enum ProductCounter {
+    VIEW,     // view_count
+    SALES,    // sales_count
+    WISHLIST  // wishlist_count (찜 해제는 음수 증분)
+}
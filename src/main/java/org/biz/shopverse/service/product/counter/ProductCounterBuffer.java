@@ -0,0 +1,183 @@
+package org.biz.shopverse.service.product.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.dto.product.ProductCounterDelta;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 카운터(view/sales/wishlist) write-behind 버퍼.
+ *
+ * - 증분은 메모리에 모아 두고 ProductCounterSchedule 이 주기적으로 UPDATE ... FROM (VALUES ...) 로 일괄 반영한다.
+ *   인기 상품 행에 요청마다 UPDATE 를 날려 행 잠금 경합/테이블 팽창이 생기는 것을 막는다.
+ * - 스트라이프(스레드별 분산)마다 잠금과 HashMap 을 두어 증분 간 경합을 줄이고,
+ *   플러시는 스트라이프 단위로 맵을 통째로 교체해 가져가므로 증분이 누락되지 않는다.
+ * - 반영 실패 시 증분을 버퍼로 되돌려 다음 플러시에서 재시도한다. (at-least-once: 커밋 응답 유실 시 중복 반영 가능)
+ * - 비정상 종료 시 최대 플러시 주기만큼의 증분이 유실된다. 정상 종료 시에는 마지막으로 한 번 더 플러시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCounterBuffer {
+    private static final int STRIPES = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors() * 2, 2));
+
+    private final ProductMapper productMapper;
+    private final MeterRegistry meterRegistry;
+
+    // UPDATE 한 문장에 넣을 최대 상품 수
+    @Value("${product.counter.flush-batch-size:500}")
+    private int batchSize;
+
+    private final Stripe[] stripes = createStripes();
+
+    private Counter flushedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    protected void init() {
+        flushedCounter = Counter.builder("product.counter.flushed").register(meterRegistry);
+        failedCounter = Counter.builder("product.counter.flush.errors").register(meterRegistry);
+        Gauge.builder("product.counter.pending", this, ProductCounterBuffer::pendingProducts).register(meterRegistry);
+    }
+
+    public void increment(Long productId, ProductCounter counter) {
+        add(productId, counter, 1);
+    }
+
+    public void add(Long productId, ProductCounter counter, long delta) {
+        if (productId == null || delta == 0) {
+            return;
+        }
+
+        Stripe stripe = stripes[(int) Thread.currentThread().getId() & (STRIPES - 1)];
+        synchronized (stripe) {
+            stripe.deltas.computeIfAbsent(productId, id -> new long[ProductCounter.values().length])[counter.ordinal()] += delta;
+        }
+    }
+
+    /**
+     * 모인 증분을 DB 에 반영한다. 스케줄러와 종료 훅에서만 호출하므로 동시에 실행되지 않는다.
+     *
+     * @return 반영한 상품 수
+     */
+    public synchronized int flush() {
+        TreeMap<Long, long[]> pending = drain();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        int size = Math.max(batchSize, 1);
+        List<ProductCounterDelta> batch = new ArrayList<>(Math.min(size, pending.size()));
+        int flushed = 0;
+        while (!pending.isEmpty()) {
+            batch.clear();
+            while (batch.size() < size && !pending.isEmpty()) {
+                Map.Entry<Long, long[]> entry = pending.pollFirstEntry();
+                long[] deltas = entry.getValue();
+                batch.add(ProductCounterDelta.builder()
+                        .productId(entry.getKey())
+                        .viewCount(deltas[ProductCounter.VIEW.ordinal()])
+                        .salesCount(deltas[ProductCounter.SALES.ordinal()])
+                        .wishlistCount(deltas[ProductCounter.WISHLIST.ordinal()])
+                        .build());
+            }
+
+            try {
+                productMapper.addProductCounters(batch);
+                flushed += batch.size();
+            } catch (RuntimeException e) {
+                // 이번 배치와 남은 증분을 되돌리고 다음 주기에 재시도
+                failedCounter.increment();
+                restore(batch);
+                pending.forEach((productId, deltas) -> restore(productId, deltas));
+                flushedCounter.increment(flushed);
+                throw e;
+            }
+        }
+
+        flushedCounter.increment(flushed);
+        return flushed;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            int flushed = flush();
+            log.info("product counters flushed on shutdown: {} products", flushed);
+        } catch (Exception e) {
+            log.warn("product counter flush on shutdown failed: {}", e.getMessage());
+        }
+    }
+
+    private TreeMap<Long, long[]> drain() {
+        TreeMap<Long, long[]> merged = new TreeMap<>(); // id 순 반영 (행 잠금 순서 고정)
+        for (Stripe stripe : stripes) {
+            Map<Long, long[]> deltas;
+            synchronized (stripe) {
+                if (stripe.deltas.isEmpty()) {
+                    continue;
+                }
+                deltas = stripe.deltas;
+                stripe.deltas = new HashMap<>();
+            }
+            deltas.forEach((productId, values) -> merged.merge(productId, values, ProductCounterBuffer::sum));
+        }
+        return merged;
+    }
+
+    private void restore(List<ProductCounterDelta> batch) {
+        for (ProductCounterDelta delta : batch) {
+            add(delta.getProductId(), ProductCounter.VIEW, delta.getViewCount());
+            add(delta.getProductId(), ProductCounter.SALES, delta.getSalesCount());
+            add(delta.getProductId(), ProductCounter.WISHLIST, delta.getWishlistCount());
+        }
+    }
+
+    private void restore(Long productId, long[] deltas) {
+        for (ProductCounter counter : ProductCounter.values()) {
+            add(productId, counter, deltas[counter.ordinal()]);
+        }
+    }
+
+    private double pendingProducts() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.deltas.size();
+            }
+        }
+        return count;
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+        return a;
+    }
+
+    private static Stripe[] createStripes() {
+        Stripe[] stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        return stripes;
+    }
+
+    private static final class Stripe {
+        private Map<Long, long[]> deltas = new HashMap<>();
+    }
+}
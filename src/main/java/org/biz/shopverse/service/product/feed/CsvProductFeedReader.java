@@ -0,0 +1,57 @@
+package org.biz.shopverse.service.product.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.biz.shopverse.dto.product.ProductFeedRow;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 헤더가 있는 CSV 피드 리더. 컬럼 순서는 자유이고 모르는 컬럼은 무시한다.
+ */
+public class CsvProductFeedReader implements ProductFeedReader {
+    private final CsvRecordReader records;
+    private final ObjectMapper objectMapper;
+    private final String[] header;
+
+    public CsvProductFeedReader(Reader reader, ObjectMapper objectMapper) throws IOException {
+        this.records = new CsvRecordReader(reader);
+        this.objectMapper = objectMapper;
+
+        List<String> headerFields = records.next();
+        if (headerFields == null) {
+            throw new IOException("CSV 헤더가 없습니다.");
+        }
+
+        this.header = new String[headerFields.size()];
+        for (int i = 0; i < header.length; i++) {
+            // 엑셀 저장 파일의 BOM 제거
+            String column = headerFields.get(i).replace("\uFEFF", "").trim().toLowerCase();
+            header[i] = FeedRowMapper.COLUMNS.contains(column) ? column : null;
+        }
+    }
+
+    @Override
+    public ProductFeedRow next() throws IOException {
+        List<String> values = records.next();
+        if (values == null) {
+            return null;
+        }
+
+        Map<String, String> fields = new HashMap<>(header.length * 2);
+        for (int i = 0; i < header.length && i < values.size(); i++) {
+            if (header[i] != null) {
+                fields.put(header[i], values.get(i));
+            }
+        }
+        return FeedRowMapper.map(fields, records.getLineNumber(), objectMapper);
+    }
+
+    @Override
+    public void close() throws IOException {
+        records.close();
+    }
+}
@@ -0,0 +1,131 @@
+package org.biz.shopverse.service.product.feed;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 레코드를 한 건씩 읽는 스트리밍 리더.
+ * 따옴표 필드(구분자/줄바꿈 포함, "" 이스케이프)를 지원하고 전체 파일을 메모리에 올리지 않는다.
+ */
+public class CsvRecordReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long lineNumber; // 마지막으로 읽은 레코드의 시작 줄 (1부터)
+    private long currentLine = 1;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드의 필드 목록, 끝이면 null. 빈 줄은 건너뛴다.
+     */
+    public List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                consumeLineBreak(c);
+                continue;
+            }
+            position--;
+            return readRecord();
+        }
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    private List<String> readRecord() throws IOException {
+        lineNumber = currentLine;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (quoted) {
+                    throw new IOException("닫히지 않은 따옴표 (line " + lineNumber + ")");
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+
+            if (quoted) {
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (n != -1) {
+                            position--;
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        currentLine++;
+                    }
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\r' || c == '\n') {
+                consumeLineBreak(c);
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+                fieldStart = false;
+            }
+        }
+    }
+
+    // \r\n 은 줄바꿈 한 번으로 처리
+    private void consumeLineBreak(int c) throws IOException {
+        currentLine++;
+        if (c == '\r') {
+            int n = read();
+            if (n != '\n' && n != -1) {
+                position--;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (position >= limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,35 @@
+package org.biz.shopverse.service.product.feed;
+
+import java.util.Locale;
+
+public enum FeedFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    FeedFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Content-Type 으로 형식을 판단한다. (charset 등 파라미터 무시, 지원하지 않으면 null)
+     */
+    public static FeedFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+
+        String mediaType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        for (FeedFormat format : values()) {
+            if (format.mediaType.equals(mediaType)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,16 @@
+package org.biz.shopverse.service.product.feed;
+
+import lombok.Getter;
+
+/**
+ * 피드 한 행의 값 오류. 해당 행만 건너뛰고 가져오기는 계속한다.
+ */
+@Getter
+public class FeedRowException extends RuntimeException {
+    private final long lineNo;
+
+    public FeedRowException(long lineNo, String message) {
+        super("line " + lineNo + ": " + message);
+        this.lineNo = lineNo;
+    }
+}
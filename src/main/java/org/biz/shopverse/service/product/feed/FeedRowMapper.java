@@ -0,0 +1,118 @@
+package org.biz.shopverse.service.product.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.biz.shopverse.dto.product.ProductFeedRow;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 피드 필드(컬럼명 → 문자열 값)를 ProductFeedRow 로 변환하고 값을 검증한다. (CSV/NDJSON 공통)
+ * 빈 문자열은 값 없음(null)으로 본다.
+ */
+final class FeedRowMapper {
+    static final Set<String> COLUMNS = Set.of(
+            "product_sku", "name", "slug", "subtitle", "category_id", "brand_id", "price", "compare_price",
+            "status", "visibility", "search_keywords",
+            "variant_sku", "variant_name", "variant_price", "variant_compare_price", "inventory_quantity", "options", "is_default"
+    );
+
+    private FeedRowMapper() {
+    }
+
+    static ProductFeedRow map(Map<String, String> fields, long lineNo, ObjectMapper objectMapper) {
+        String productSku = text(fields, "product_sku");
+        if (productSku == null) {
+            throw new FeedRowException(lineNo, "product_sku 가 없습니다.");
+        }
+
+        String name = text(fields, "name");
+        BigDecimal price = decimal(fields, "price", lineNo);
+        if (name == null || price == null) {
+            throw new FeedRowException(lineNo, "name, price 는 필수입니다.");
+        }
+
+        String options = text(fields, "options");
+        if (options != null) {
+            try {
+                objectMapper.readTree(options);
+            } catch (JsonProcessingException e) {
+                throw new FeedRowException(lineNo, "options 가 올바른 JSON 이 아닙니다.");
+            }
+        }
+
+        return ProductFeedRow.builder()
+                .lineNo(lineNo)
+                .productSku(productSku)
+                .name(name)
+                .slug(text(fields, "slug"))
+                .subtitle(text(fields, "subtitle"))
+                .categoryId(longValue(fields, "category_id", lineNo))
+                .brandId(longValue(fields, "brand_id", lineNo))
+                .price(price)
+                .comparePrice(decimal(fields, "compare_price", lineNo))
+                .status(text(fields, "status"))
+                .visibility(text(fields, "visibility"))
+                .searchKeywords(text(fields, "search_keywords"))
+                .variantSku(text(fields, "variant_sku"))
+                .variantName(text(fields, "variant_name"))
+                .variantPrice(decimal(fields, "variant_price", lineNo))
+                .variantComparePrice(decimal(fields, "variant_compare_price", lineNo))
+                .inventoryQuantity(intValue(fields, "inventory_quantity", lineNo))
+                .options(options)
+                .isDefault(booleanValue(fields, "is_default", lineNo))
+                .build();
+    }
+
+    private static String text(Map<String, String> fields, String column) {
+        String value = fields.get(column);
+        if (value == null) {
+            return null;
+        }
+
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static BigDecimal decimal(Map<String, String> fields, String column, long lineNo) {
+        String value = text(fields, column);
+        try {
+            return value != null ? new BigDecimal(value) : null;
+        } catch (NumberFormatException e) {
+            throw new FeedRowException(lineNo, column + " 숫자 형식 오류: " + value);
+        }
+    }
+
+    private static Long longValue(Map<String, String> fields, String column, long lineNo) {
+        String value = text(fields, column);
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            throw new FeedRowException(lineNo, column + " 숫자 형식 오류: " + value);
+        }
+    }
+
+    private static Integer intValue(Map<String, String> fields, String column, long lineNo) {
+        String value = text(fields, column);
+        try {
+            return value != null ? Integer.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            throw new FeedRowException(lineNo, column + " 숫자 형식 오류: " + value);
+        }
+    }
+
+    private static Boolean booleanValue(Map<String, String> fields, String column, long lineNo) {
+        String value = text(fields, column);
+        if (value == null) {
+            return null;
+        }
+
+        return switch (value.toLowerCase()) {
+            case "true", "t", "1", "y" -> true;
+            case "false", "f", "0", "n" -> false;
+            default -> throw new FeedRowException(lineNo, column + " 불리언 형식 오류: " + value);
+        };
+    }
+}
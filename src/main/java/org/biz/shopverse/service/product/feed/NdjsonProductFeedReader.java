@@ -0,0 +1,66 @@
+package org.biz.shopverse.service.product.feed;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.biz.shopverse.dto.product.ProductFeedRow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * NDJSON 피드 리더 (한 줄에 객체 하나). Jackson 스트리밍 파서로 객체 단위로만 읽는다.
+ * options 는 객체 그대로 받아 JSON 문자열로 저장한다.
+ */
+public class NdjsonProductFeedReader implements ProductFeedReader {
+    private final JsonParser parser;
+    private final ObjectMapper objectMapper;
+
+    public NdjsonProductFeedReader(InputStream in, ObjectMapper objectMapper) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(in);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ProductFeedRow next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return null;
+        }
+
+        long lineNo = parser.currentLocation().getLineNr();
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("line " + lineNo + ": JSON 객체가 아닙니다.");
+        }
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(parser);
+        } catch (JsonProcessingException e) {
+            // 객체 중간의 문법 오류는 이후 위치를 알 수 없으므로 전체 실패로 처리
+            throw new IOException("line " + lineNo + ": JSON 형식 오류 - " + e.getOriginalMessage(), e);
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> it = node.fields();
+        while (it.hasNext()) {
+            Map.Entry<String, JsonNode> field = it.next();
+            JsonNode value = field.getValue();
+            if (value.isNull()) {
+                continue;
+            }
+            fields.put(field.getKey(), value.isContainerNode() ? value.toString() : value.asText());
+        }
+        return FeedRowMapper.map(fields, lineNo, objectMapper);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
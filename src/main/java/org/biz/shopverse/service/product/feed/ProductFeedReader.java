@@ -0,0 +1,17 @@
+package org.biz.shopverse.service.product.feed;
+
+import org.biz.shopverse.dto.product.ProductFeedRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 피드를 한 행씩 읽는다. 형식 오류 행은 FeedRowException 으로 알리고 다음 행부터 계속 읽을 수 있다.
+ */
+public interface ProductFeedReader extends Closeable {
+
+    /**
+     * 다음 행, 끝이면 null
+     */
+    ProductFeedRow next() throws IOException;
+}
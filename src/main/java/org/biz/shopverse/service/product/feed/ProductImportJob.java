@@ -0,0 +1,96 @@
+package org.biz.shopverse.service.product.feed;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가져오기 작업 한 건의 진행 상태. 가져오기 스레드가 갱신하고 상태 조회 API 가 동시에 읽는다.
+ */
+@Getter
+public class ProductImportJob {
+    private static final int MAX_ERROR_SAMPLES = 20;
+
+    public enum Phase {
+        LOADING,   // 피드 파싱 + COPY 적재
+        MERGING,   // 스테이징 → products / product_variants 병합
+        COMPLETED,
+        FAILED
+    }
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final FeedFormat format;
+    private final Instant startedAt = Instant.now();
+    private final AtomicLong rowsLoaded = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final List<String> errorSamples = new ArrayList<>();
+
+    private volatile Phase phase = Phase.LOADING;
+    private volatile Instant finishedAt;
+    private volatile int productsMerged;
+    private volatile int variantsMerged;
+    private volatile String failureMessage;
+
+    public ProductImportJob(FeedFormat format) {
+        this.format = format;
+    }
+
+    void loaded() {
+        rowsLoaded.incrementAndGet();
+    }
+
+    /**
+     * 오류 행을 기록하고 누적 오류 행 수를 반환한다. 메시지는 앞의 일부만 보관.
+     */
+    long rejected(FeedRowException e) {
+        synchronized (errorSamples) {
+            if (errorSamples.size() < MAX_ERROR_SAMPLES) {
+                errorSamples.add(e.getMessage());
+            }
+        }
+        return rowsRejected.incrementAndGet();
+    }
+
+    void merging() {
+        phase = Phase.MERGING;
+    }
+
+    void merged(int products, int variants) {
+        this.productsMerged = products;
+        this.variantsMerged = variants;
+    }
+
+    public void complete() {
+        finishedAt = Instant.now();
+        phase = Phase.COMPLETED;
+    }
+
+    public void fail(String message) {
+        failureMessage = message;
+        finishedAt = Instant.now();
+        phase = Phase.FAILED;
+    }
+
+    public boolean isFinished() {
+        return phase == Phase.COMPLETED || phase == Phase.FAILED;
+    }
+
+    public List<String> getErrorSamples() {
+        synchronized (errorSamples) {
+            return List.copyOf(errorSamples);
+        }
+    }
+
+    /**
+     * 시작부터 종료(진행 중이면 현재)까지 적재한 행 기준 처리량.
+     */
+    public double getRowsPerSecond() {
+        long millis = Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now()).toMillis();
+        return millis > 0 ? rowsLoaded.get() * 1000.0 / millis : 0;
+    }
+}
@@ -0,0 +1,131 @@
+package org.biz.shopverse.service.product.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.dto.product.ProductFeedRow;
+import org.biz.shopverse.dto.product.ProductImportConflict;
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.biz.shopverse.mapper.product.ProductImportMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 피드 스트림 → COPY 스테이징 → 집합 단위 병합을 한 트랜잭션으로 실행한다.
+ * 행 단위 INSERT 대신 COPY 로 적재하고 병합은 SQL 두 문장으로 끝내므로 왕복 횟수가 피드 크기와 무관하다.
+ * 오류 행이 허용치를 넘거나 병합이 실패하면 전체 롤백 (부분 반영 없음). 다른 SKU 와 slug 가 겹치는 상품은 오류 행으로 뺀다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductImportLoader {
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final String COPY_SQL =
+            "COPY product_import_staging (" + StagingCopyWriter.COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+    private final ProductImportMapper productImportMapper;
+    private final ObjectMapper objectMapper;
+
+    @Value("${product.import.max-rejected-rows:1000}")
+    private long maxRejectedRows;
+
+    /**
+     * @return 변경 대상 카테고리 ID (캐시 무효화용, 커밋 후 사용)
+     */
+    @Transactional
+    public Set<Long> load(InputStream in, ProductImportJob job) throws IOException, SQLException {
+        productImportMapper.createStagingTable();
+
+        // MyBatis 와 같은 트랜잭션 커넥션 (스테이징 임시 테이블이 이 커넥션에만 보인다)
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try (ProductFeedReader reader = open(in, job.getFormat());
+                 StagingCopyWriter writer = new StagingCopyWriter(new PGCopyOutputStream(copyIn, COPY_BUFFER_SIZE))) {
+                copy(reader, writer, job);
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        job.merging();
+        rejectSlugConflicts(job);
+        // 기존 상품의 이전 카테고리도 포함해야 하므로 병합 전에 조회
+        Set<Long> categoryIds = new HashSet<>(productImportMapper.selectStagedCategoryIds());
+        int products = productImportMapper.mergeProducts();
+        int variants = productImportMapper.mergeVariants();
+        job.merged(products, variants);
+
+        log.info("product import {} merged: {} rows, {} rejected, {} products, {} variants",
+                job.getJobId(), job.getRowsLoaded().get(), job.getRowsRejected().get(), products, variants);
+        return categoryIds;
+    }
+
+    // 다른 SKU 와 slug 가 겹치는 상품은 병합에서 빼고 오류 행으로 기록한다
+    private void rejectSlugConflicts(ProductImportJob job) {
+        List<ProductImportConflict> conflicts = productImportMapper.selectSlugConflicts();
+        if (conflicts.isEmpty()) {
+            return;
+        }
+
+        for (ProductImportConflict conflict : conflicts) {
+            reject(job, new FeedRowException(conflict.getLineNo(),
+                    "slug '" + conflict.getSlug() + "' 가 다른 상품에서 사용 중입니다. (sku: " + conflict.getProductSku() + ")"));
+        }
+        productImportMapper.deleteStagedProducts(conflicts.stream().map(ProductImportConflict::getProductSku).toArray(String[]::new));
+    }
+
+    private void reject(ProductImportJob job, FeedRowException e) {
+        if (job.rejected(e) > maxRejectedRows) {
+            throw new CustomBusinessException(
+                    "오류 행이 허용치(" + maxRejectedRows + ")를 넘었습니다. 마지막 오류: " + e.getMessage(),
+                    "IMPORT_TOO_MANY_ERRORS");
+        }
+    }
+
+    private void copy(ProductFeedReader reader, StagingCopyWriter writer, ProductImportJob job) throws IOException {
+        while (true) {
+            ProductFeedRow row;
+            try {
+                row = reader.next();
+            } catch (FeedRowException e) {
+                reject(job, e);
+                continue;
+            }
+
+            if (row == null) {
+                return;
+            }
+            writer.write(row);
+            job.loaded();
+        }
+    }
+
+    private ProductFeedReader open(InputStream in, FeedFormat format) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvProductFeedReader(new InputStreamReader(in, StandardCharsets.UTF_8), objectMapper);
+            case NDJSON -> new NdjsonProductFeedReader(in, objectMapper);
+        };
+    }
+}
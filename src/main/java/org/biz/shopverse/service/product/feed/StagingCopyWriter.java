@@ -0,0 +1,79 @@
+package org.biz.shopverse.service.product.feed;
+
+import org.biz.shopverse.dto.product.ProductFeedRow;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ProductFeedRow 를 COPY ... (FORMAT csv) 입력으로 쓴다.
+ * 값이 있으면 항상 따옴표로 감싸고, 값이 없으면 빈 칸(= NULL)으로 쓴다.
+ */
+public class StagingCopyWriter implements Closeable {
+
+    // COPY 컬럼 목록. write() 의 출력 순서와 같아야 한다
+    public static final String COLUMNS = "line_no, product_sku, name, slug, subtitle, category_id, brand_id, price, compare_price, "
+            + "status, visibility, search_keywords, variant_sku, variant_name, variant_price, variant_compare_price, "
+            + "inventory_quantity, options, is_default";
+
+    private final Writer writer;
+
+    public StagingCopyWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    public void write(ProductFeedRow row) throws IOException {
+        writer.write(Long.toString(row.getLineNo()));
+        field(row.getProductSku());
+        field(row.getName());
+        field(row.getSlug());
+        field(row.getSubtitle());
+        field(row.getCategoryId());
+        field(row.getBrandId());
+        field(row.getPrice());
+        field(row.getComparePrice());
+        field(row.getStatus());
+        field(row.getVisibility());
+        field(row.getSearchKeywords());
+        field(row.getVariantSku());
+        field(row.getVariantName());
+        field(row.getVariantPrice());
+        field(row.getVariantComparePrice());
+        field(row.getInventoryQuantity());
+        field(row.getOptions());
+        field(row.getIsDefault());
+        writer.write('\n');
+    }
+
+    private void field(Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    /**
+     * 남은 버퍼를 내보내고 하위 스트림(COPY)을 닫는다.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
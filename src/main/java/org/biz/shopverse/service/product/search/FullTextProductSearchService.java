@@ -0,0 +1,26 @@
+package org.biz.shopverse.service.product.search;
+
+import lombok.RequiredArgsConstructor;
+import org.biz.shopverse.dto.product.ProductSearchQuery;
+import org.biz.shopverse.dto.product.ProductSearchResult;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * PostgreSQL 전문 검색 기반 검색.
+ * 단어 일치는 products.search_vector(tsvector) GIN 인덱스, 부분 문자열 일치는 pg_trgm GIN 인덱스로 처리한다.
+ * 스키마/인덱스: docs/sql/001_product_search.sql
+ */
+@Service
+@ConditionalOnProperty(name = "product.search.engine", havingValue = "fulltext")
+@RequiredArgsConstructor
+public class FullTextProductSearchService implements ProductSearchService {
+    private final ProductMapper productMapper;
+
+    @Override
+    public ProductSearchResult search(ProductSearchQuery query) {
+        return ProductSearchResult.fromRowsWithTotal(productMapper.searchProductsFullText(
+                query.getCategoryIds(), query.getSort(), query.getKeyword().trim(), query.getOffset(), query.getSize()));
+    }
+}
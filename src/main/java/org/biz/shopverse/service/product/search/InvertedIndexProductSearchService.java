@@ -0,0 +1,56 @@
+package org.biz.shopverse.service.product.search;
+
+import lombok.RequiredArgsConstructor;
+import org.biz.shopverse.dto.product.ProductPageRow;
+import org.biz.shopverse.dto.product.ProductSearchQuery;
+import org.biz.shopverse.dto.product.ProductSearchResult;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.biz.shopverse.service.product.search.index.ProductSearchHits;
+import org.biz.shopverse.service.product.search.index.ProductSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인메모리 역색인 기반 검색 (product.search.engine=index).
+ * 매칭/정렬/페이징은 인덱스에서 처리하고, DB 에서는 해당 페이지 상품만 ID 로 조회한다.
+ * 인덱스가 아직 구성되지 않았으면 LIKE 검색으로 처리한다.
+ */
+@Service
+@ConditionalOnProperty(name = "product.search.engine", havingValue = "index")
+@RequiredArgsConstructor
+public class InvertedIndexProductSearchService implements ProductSearchService {
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductMapper productMapper;
+
+    @Override
+    public ProductSearchResult search(ProductSearchQuery query) {
+        ProductSearchHits hits = productSearchIndex.search(
+                query.getKeyword(), query.getCategoryIds(), query.getSort(), query.getOffset(), query.getSize());
+        if (hits == null) {
+            return ProductSearchResult.fromRowsWithTotal(productMapper.selectProductsPageWithTotal(
+                    query.getCategoryIds(), query.getSort(), query.getOffset(), query.getSize(), query.getKeyword()));
+        }
+
+        long[] productIds = hits.getProductIds();
+        if (productIds.length == 0) {
+            return new ProductSearchResult(List.of(), hits.getTotalHits());
+        }
+
+        Long[] ids = new Long[productIds.length];
+        Map<Long, Integer> positions = new HashMap<>(productIds.length * 2);
+        for (int i = 0; i < productIds.length; i++) {
+            ids[i] = productIds[i];
+            positions.put(productIds[i], i);
+        }
+
+        // 인덱스 정렬 순서 복원 (같은 상품의 옵션 행끼리는 조회 순서 유지)
+        List<ProductPageRow> rows = productMapper.selectProductsByIds(ids, query.getSort());
+        rows.sort(Comparator.comparingInt(row -> positions.getOrDefault(row.getId(), Integer.MAX_VALUE)));
+        return new ProductSearchResult(rows, hits.getTotalHits());
+    }
+}
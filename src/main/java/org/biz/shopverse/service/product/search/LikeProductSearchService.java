@@ -0,0 +1,25 @@
+package org.biz.shopverse.service.product.search;
+
+import lombok.RequiredArgsConstructor;
+import org.biz.shopverse.dto.product.ProductSearchQuery;
+import org.biz.shopverse.dto.product.ProductSearchResult;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * LIKE '%검색어%' 기반 검색 (인덱스를 타지 않는 기존 방식, 대체 모드).
+ * relevance 정렬은 지원하지 않으며 최신순으로 처리된다.
+ */
+@Service
+@ConditionalOnProperty(name = "product.search.engine", havingValue = "like", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LikeProductSearchService implements ProductSearchService {
+    private final ProductMapper productMapper;
+
+    @Override
+    public ProductSearchResult search(ProductSearchQuery query) {
+        return ProductSearchResult.fromRowsWithTotal(productMapper.selectProductsPageWithTotal(
+                query.getCategoryIds(), query.getSort(), query.getOffset(), query.getSize(), query.getKeyword()));
+    }
+}
@@ -0,0 +1,17 @@
+package org.biz.shopverse.service.product.search;
+
+import org.biz.shopverse.dto.product.ProductSearchQuery;
+import org.biz.shopverse.dto.product.ProductSearchResult;
+
+/**
+ * 상품 검색 엔진.
+ * product.search.engine 설정으로 구현체를 선택한다. (like: 기존 LIKE 검색, fulltext: tsvector + pg_trgm)
+ */
+public interface ProductSearchService {
+
+    /**
+     * 검색어 조건에 맞는 상품 중 offset/size 범위의 행과 전체 건수를 반환한다.
+     * 페이지 범위 보정은 호출하는 쪽(ProductService)에서 처리한다.
+     */
+    ProductSearchResult search(ProductSearchQuery query);
+}
@@ -0,0 +1,106 @@
+package org.biz.shopverse.service.product.search.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 불변 색인 세그먼트.
+ * 문서 속성은 doc 번호(0..size-1) 기준 원시 타입 배열로, 용어 사전은 정렬된 배열로,
+ * 포스팅은 PostingsCodec 으로 압축된 byte[] 로 보관한다.
+ * doc 번호는 상품 ID 오름차순으로 부여된다. (IndexSegmentBuilder 참고)
+ */
+final class IndexSegment {
+    static final double NO_VALUE = Double.NaN;   // 가격/평점 null
+    static final long NO_SALES = Long.MIN_VALUE; // 판매 수량 null
+
+    final long[] productIds;
+    final long[] categoryIds;
+    final long[] createdAt;
+    final double[] prices;
+    final double[] ratings;
+    final long[] sales;
+
+    private final int size;
+    private final String[] terms;
+    private final byte[][] postings;
+    private final int[] docFreqs;
+    private final long postingsBytes;
+
+    IndexSegment(int size, long[] productIds, long[] categoryIds, long[] createdAt, double[] prices, double[] ratings, long[] sales,
+                 String[] terms, byte[][] postings, int[] docFreqs) {
+        this.size = size;
+        this.productIds = productIds;
+        this.categoryIds = categoryIds;
+        this.createdAt = createdAt;
+        this.prices = prices;
+        this.ratings = ratings;
+        this.sales = sales;
+        this.terms = terms;
+        this.postings = postings;
+        this.docFreqs = docFreqs;
+
+        long bytes = 0;
+        for (byte[] posting : postings) {
+            bytes += posting.length;
+        }
+        this.postingsBytes = bytes;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int termCount() {
+        return terms.length;
+    }
+
+    long postingsBytes() {
+        return postingsBytes;
+    }
+
+    /**
+     * 상품 ID 의 doc 번호, 없으면 -1
+     */
+    int ordinalOf(long productId) {
+        int position = Arrays.binarySearch(productIds, productId);
+        return position >= 0 ? position : -1;
+    }
+
+    /**
+     * 용어가 정확히 일치하는 문서 (오름차순)
+     */
+    int[] exactDocs(String term) {
+        int position = Arrays.binarySearch(terms, term);
+        return position >= 0 ? PostingsCodec.decode(postings[position], docFreqs[position]) : new int[0];
+    }
+
+    /**
+     * 접두어로 시작하는 모든 용어의 포스팅 합집합 (오름차순)
+     */
+    int[] prefixDocs(String prefix) {
+        int from = Arrays.binarySearch(terms, prefix);
+        if (from < 0) {
+            from = -from - 1;
+        }
+
+        int to = from;
+        while (to < terms.length && terms[to].startsWith(prefix)) {
+            to++;
+        }
+
+        if (to == from) {
+            return new int[0];
+        }
+        if (to - from == 1) {
+            return PostingsCodec.decode(postings[from], docFreqs[from]);
+        }
+
+        BitSet union = new BitSet(size);
+        for (int i = from; i < to; i++) {
+            for (int doc : PostingsCodec.decode(postings[i], docFreqs[i])) {
+                union.set(doc);
+            }
+        }
+        return union.stream().toArray();
+    }
+}
@@ -0,0 +1,88 @@
+package org.biz.shopverse.service.product.search.index;
+
+import org.biz.shopverse.dto.product.ProductSearchDocument;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 스트리밍으로 문서를 받아 IndexSegment 를 만든다. (단일 스레드 전용)
+ * 문서는 상품 ID 오름차순으로 추가해야 한다.
+ */
+final class IndexSegmentBuilder {
+    private final Function<ProductSearchDocument, ? extends Iterable<String>> analyzer;
+    private final Map<String, IntList> postings = new HashMap<>();
+
+    private int size;
+    private long[] productIds = new long[1024];
+    private long[] categoryIds = new long[1024];
+    private long[] createdAt = new long[1024];
+    private double[] prices = new double[1024];
+    private double[] ratings = new double[1024];
+    private long[] sales = new long[1024];
+
+    IndexSegmentBuilder(Function<ProductSearchDocument, ? extends Iterable<String>> analyzer) {
+        this.analyzer = analyzer;
+    }
+
+    void add(ProductSearchDocument doc) {
+        if (size > 0 && productIds[size - 1] >= doc.getId()) {
+            throw new IllegalStateException("documents must be added in ascending id order: " + doc.getId());
+        }
+
+        if (size == productIds.length) {
+            int capacity = size * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            categoryIds = Arrays.copyOf(categoryIds, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            ratings = Arrays.copyOf(ratings, capacity);
+            sales = Arrays.copyOf(sales, capacity);
+        }
+
+        int ordinal = size++;
+        productIds[ordinal] = doc.getId();
+        categoryIds[ordinal] = doc.getCategoryId() != null ? doc.getCategoryId() : -1L;
+        createdAt[ordinal] = doc.getCreatedAtMillis() != null ? doc.getCreatedAtMillis() : 0L;
+        prices[ordinal] = doc.getPrice() != null ? doc.getPrice() : IndexSegment.NO_VALUE;
+        ratings[ordinal] = doc.getAverageRating() != null ? doc.getAverageRating() : IndexSegment.NO_VALUE;
+        sales[ordinal] = doc.getSalesCount() != null ? doc.getSalesCount() : IndexSegment.NO_SALES;
+
+        // doc 번호가 증가하는 순서로 추가되므로 포스팅은 항상 오름차순
+        for (String term : analyzer.apply(doc)) {
+            postings.computeIfAbsent(term, k -> new IntList()).add(ordinal);
+        }
+    }
+
+    IndexSegment build() {
+        String[] terms = postings.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+
+        byte[][] encoded = new byte[terms.length][];
+        int[] docFreqs = new int[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            IntList docs = postings.get(terms[i]);
+            encoded[i] = PostingsCodec.encode(docs.values, docs.size);
+            docFreqs[i] = docs.size;
+        }
+
+        return new IndexSegment(size,
+                Arrays.copyOf(productIds, size), Arrays.copyOf(categoryIds, size), Arrays.copyOf(createdAt, size),
+                Arrays.copyOf(prices, size), Arrays.copyOf(ratings, size), Arrays.copyOf(sales, size),
+                terms, encoded, docFreqs);
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.biz.shopverse.service.product.search.index;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 포스팅 리스트(오름차순 doc 번호) 압축.
+ * 인접 doc 번호의 차이(delta)를 가변 길이 정수(varint, 7bit)로 저장한다.
+ */
+final class PostingsCodec {
+
+    private PostingsCodec() {
+    }
+
+    static byte[] encode(int[] docs, int length) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length + 4);
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+            int delta = docs[i] - previous;
+            previous = docs[i];
+            while ((delta & ~0x7F) != 0) {
+                out.write((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            out.write(delta);
+        }
+        return out.toByteArray();
+    }
+
+    static int[] decode(byte[] bytes, int docFreq) {
+        int[] docs = new int[docFreq];
+        int position = 0;
+        int previous = 0;
+        for (int i = 0; i < docFreq; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous += delta;
+            docs[i] = previous;
+        }
+        return docs;
+    }
+}
@@ -0,0 +1,14 @@
+package org.biz.shopverse.service.product.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인메모리 인덱스 검색 결과: 전체 일치 건수와 요청 페이지의 상품 ID (정렬 순서대로).
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSearchHits {
+    private final long totalHits;
+    private final long[] productIds;
+}
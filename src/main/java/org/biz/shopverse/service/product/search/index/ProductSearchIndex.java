@@ -0,0 +1,467 @@
+package org.biz.shopverse.service.product.search.index;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.dto.product.ProductSearchDocument;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 상품 검색용 인메모리 역색인 (product.search.engine=index).
+ *
+ * - 기본 세그먼트: 시작 시/주기적으로 products 를 스트리밍 스캔해 전체 구성
+ * - 변경분 세그먼트: updated_at 기준 변경 행만 다시 읽어 구성, 기본 세그먼트의 이전 문서는 삭제 표시
+ * 두 세그먼트와 삭제 표시를 하나의 스냅샷으로 묶어 참조만 교체하므로 검색은 잠금 없이 동작한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "product.search.engine", havingValue = "index")
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+    private final ProductMapper productMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // 늦게 커밋된 변경을 놓치지 않도록 마지막 updated_at 보다 이만큼 앞에서부터 다시 읽는다
+    @Value("${product.search.index.refresh-overlap-ms:60000}")
+    private long refreshOverlapMs;
+
+    // 변경분 문서가 이 건수를 넘으면 전체 재구성
+    @Value("${product.search.index.max-pending-documents:50000}")
+    private int maxPendingDocuments;
+
+    private volatile Snapshot snapshot;
+
+    private TransactionTemplate readOnlyTransaction;
+    private Timer fullBuildTimer;
+    private Timer deltaBuildTimer;
+    private Timer queryTimer;
+
+    @PostConstruct
+    protected void init() {
+        // PostgreSQL 은 트랜잭션 안에서만 fetchSize 단위로 스트리밍한다
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        fullBuildTimer = Timer.builder("product.search.index.build").tag("type", "full").register(meterRegistry);
+        deltaBuildTimer = Timer.builder("product.search.index.build").tag("type", "delta").register(meterRegistry);
+        queryTimer = Timer.builder("product.search.index.query")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        Gauge.builder("product.search.index.documents", this, ProductSearchIndex::documentCount).register(meterRegistry);
+        Gauge.builder("product.search.index.terms", this, ProductSearchIndex::termCount).register(meterRegistry);
+        Gauge.builder("product.search.index.postings", this, ProductSearchIndex::postingsBytes).baseUnit("bytes").register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * products 전체를 스트리밍 스캔해 인덱스를 새로 만든다.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+
+        IndexSegmentBuilder builder = new IndexSegmentBuilder(ProductTextAnalyzer::indexTerms);
+        long maxUpdatedAt = scan(null, 0L, builder::add);
+        IndexSegment base = builder.build();
+
+        snapshot = new Snapshot(base, new BitSet(), emptySegment(), Map.of(), maxUpdatedAt);
+
+        long elapsed = System.nanoTime() - start;
+        fullBuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("product search index rebuilt: {} documents, {} terms, {} KB postings, {} ms",
+                base.size(), base.termCount(), base.postingsBytes() / 1024, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * 마지막 구성 이후 변경된 상품만 다시 읽어 변경분 세그먼트를 갱신한다.
+     */
+    public synchronized void refreshChanges() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        Map<Long, ProductSearchDocument> pending = new HashMap<>(current.pending);
+        long maxUpdatedAt = scan(current.maxUpdatedAtMillis - refreshOverlapMs, current.maxUpdatedAtMillis,
+                doc -> pending.put(doc.getId(), doc));
+
+        if (pending.size() > maxPendingDocuments) {
+            rebuild();
+            return;
+        }
+
+        List<ProductSearchDocument> docs = new ArrayList<>(pending.values());
+        docs.sort(Comparator.comparing(ProductSearchDocument::getId));
+
+        BitSet baseDeleted = new BitSet(current.base.size());
+        IndexSegmentBuilder builder = new IndexSegmentBuilder(ProductTextAnalyzer::indexTerms);
+        for (ProductSearchDocument doc : docs) {
+            int ordinal = current.base.ordinalOf(doc.getId());
+            if (ordinal >= 0) {
+                baseDeleted.set(ordinal);
+            }
+            if (Boolean.TRUE.equals(doc.getListable())) {
+                builder.add(doc);
+            }
+        }
+
+        snapshot = new Snapshot(current.base, baseDeleted, builder.build(), pending, maxUpdatedAt);
+        deltaBuildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 검색어의 모든 토큰이 접두어로 일치하는 상품을 정렬해 offset/size 범위의 ID 를 반환한다.
+     * 인덱스가 아직 구성되지 않았으면 null.
+     */
+    public ProductSearchHits search(String keyword, Long[] categoryIds, String sort, int offset, int size) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        try {
+            return search(current, ProductTextAnalyzer.queryTokens(keyword), categoryIds, sort, offset, size);
+        } finally {
+            queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private ProductSearchHits search(Snapshot current, List<String> tokens, Long[] categoryIds, String sort, int offset, int size) {
+        if (tokens.isEmpty()) {
+            return new ProductSearchHits(0, new long[0]);
+        }
+
+        long[] categoryFilter = null;
+        if (categoryIds != null) {
+            categoryFilter = Arrays.stream(categoryIds).mapToLong(Long::longValue).sorted().toArray();
+        }
+
+        IndexSegment[] segments = {current.base, current.delta};
+        boolean relevance = "relevance".equals(sort);
+        int end = (int) Math.min(Integer.MAX_VALUE, (long) offset + size); // 큰 offset 에서 int 가 넘치지 않게
+        TopK topK = new TopK(end, comparatorFor(sort, segments));
+
+        long total = 0;
+        for (int s = 0; s < segments.length; s++) {
+            IndexSegment segment = segments[s];
+            BitSet deleted = s == 0 ? current.baseDeleted : null;
+            int[][] exactDocs = relevance ? exactDocs(segment, tokens) : null;
+
+            for (int doc : match(segment, tokens)) {
+                if (deleted != null && deleted.get(doc)) {
+                    continue;
+                }
+                if (categoryFilter != null && Arrays.binarySearch(categoryFilter, segment.categoryIds[doc]) < 0) {
+                    continue;
+                }
+
+                total++;
+                topK.offer(ref(exactDocs != null ? exactMatches(exactDocs, doc) : 0, s, doc));
+            }
+        }
+
+        long[] ranked = topK.drainSorted();
+        int from = Math.min(offset, ranked.length);
+        int to = Math.min(end, ranked.length);
+        long[] productIds = new long[to - from];
+        for (int i = from; i < to; i++) {
+            productIds[i - from] = segments[segmentOf(ranked[i])].productIds[docOf(ranked[i])];
+        }
+        return new ProductSearchHits(total, productIds);
+    }
+
+    private long scan(Long sinceMillis, long initialMaxUpdatedAt, Consumer<ProductSearchDocument> consumer) {
+        long[] maxUpdatedAt = {initialMaxUpdatedAt};
+        readOnlyTransaction.executeWithoutResult(status -> productMapper.scanSearchDocuments(sinceMillis, context -> {
+            ProductSearchDocument doc = context.getResultObject();
+            consumer.accept(doc);
+            if (doc.getUpdatedAtMillis() != null) {
+                maxUpdatedAt[0] = Math.max(maxUpdatedAt[0], doc.getUpdatedAtMillis());
+            }
+        }));
+        return maxUpdatedAt[0];
+    }
+
+    // ==================== 매칭/정렬 ====================
+
+    /**
+     * 토큰별 접두어 일치 문서의 교집합
+     */
+    private static int[] match(IndexSegment segment, List<String> tokens) {
+        int[] result = null;
+        for (String token : tokens) {
+            int[] docs = segment.prefixDocs(token);
+            result = result == null ? docs : intersect(result, docs);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private static int[][] exactDocs(IndexSegment segment, List<String> tokens) {
+        int[][] exact = new int[tokens.size()][];
+        for (int i = 0; i < tokens.size(); i++) {
+            exact[i] = segment.exactDocs(tokens.get(i));
+        }
+        return exact;
+    }
+
+    /**
+     * relevance 점수: 접두어가 아니라 용어 전체가 일치한 토큰 수
+     */
+    private static int exactMatches(int[][] exactDocs, int doc) {
+        int score = 0;
+        for (int[] docs : exactDocs) {
+            if (Arrays.binarySearch(docs, doc) >= 0) {
+                score++;
+            }
+        }
+        return Math.min(score, 0xFF);
+    }
+
+    // 후보 문서 참조: [점수 8bit][세그먼트 8bit][doc 번호 32bit]
+    private static long ref(int score, int segment, int doc) {
+        return ((long) score << 40) | ((long) segment << 32) | (doc & 0xFFFFFFFFL);
+    }
+
+    private static int scoreOf(long ref) {
+        return (int) (ref >>> 40);
+    }
+
+    private static int segmentOf(long ref) {
+        return (int) ((ref >>> 32) & 0xFF);
+    }
+
+    private static int docOf(long ref) {
+        return (int) ref;
+    }
+
+    /**
+     * 정렬 기준별 비교기 (음수면 a 가 먼저). DB 정렬과 같이 정렬 키가 같으면 상품 ID 로 순서를 고정한다.
+     */
+    private static RefComparator comparatorFor(String sort, IndexSegment[] segments) {
+        RefComparator idDesc = (a, b) -> Long.compare(productId(segments, b), productId(segments, a));
+
+        switch (sort == null ? "latest" : sort) {
+            case "price-low":
+                return (a, b) -> {
+                    int c = compareAscNullsLast(segments[segmentOf(a)].prices[docOf(a)], segments[segmentOf(b)].prices[docOf(b)]);
+                    return c != 0 ? c : Long.compare(productId(segments, a), productId(segments, b));
+                };
+            case "price-high":
+                return (a, b) -> {
+                    int c = compareDescNullsLast(segments[segmentOf(a)].prices[docOf(a)], segments[segmentOf(b)].prices[docOf(b)]);
+                    return c != 0 ? c : idDesc.compare(a, b);
+                };
+            case "rating":
+                return (a, b) -> {
+                    int c = compareDescNullsLast(segments[segmentOf(a)].ratings[docOf(a)], segments[segmentOf(b)].ratings[docOf(b)]);
+                    return c != 0 ? c : idDesc.compare(a, b);
+                };
+            case "popular":
+                return (a, b) -> {
+                    int c = Long.compare(segments[segmentOf(b)].sales[docOf(b)], segments[segmentOf(a)].sales[docOf(a)]);
+                    return c != 0 ? c : idDesc.compare(a, b);
+                };
+            case "relevance":
+                return (a, b) -> {
+                    int c = Integer.compare(scoreOf(b), scoreOf(a));
+                    if (c == 0) {
+                        c = Long.compare(segments[segmentOf(b)].sales[docOf(b)], segments[segmentOf(a)].sales[docOf(a)]);
+                    }
+                    return c != 0 ? c : idDesc.compare(a, b);
+                };
+            default:
+                return (a, b) -> {
+                    int c = Long.compare(segments[segmentOf(b)].createdAt[docOf(b)], segments[segmentOf(a)].createdAt[docOf(a)]);
+                    return c != 0 ? c : idDesc.compare(a, b);
+                };
+        }
+    }
+
+    private static long productId(IndexSegment[] segments, long ref) {
+        return segments[segmentOf(ref)].productIds[docOf(ref)];
+    }
+
+    private static int compareAscNullsLast(double a, double b) {
+        if (Double.isNaN(a) || Double.isNaN(b)) {
+            return Boolean.compare(Double.isNaN(a), Double.isNaN(b));
+        }
+        return Double.compare(a, b);
+    }
+
+    private static int compareDescNullsLast(double a, double b) {
+        if (Double.isNaN(a) || Double.isNaN(b)) {
+            return Boolean.compare(Double.isNaN(a), Double.isNaN(b));
+        }
+        return Double.compare(b, a);
+    }
+
+    // ==================== 지표 ====================
+
+    private double documentCount() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.base.size() - current.baseDeleted.cardinality() + current.delta.size();
+    }
+
+    private double termCount() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.base.termCount() + current.delta.termCount();
+    }
+
+    private double postingsBytes() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.base.postingsBytes() + current.delta.postingsBytes();
+    }
+
+    private static IndexSegment emptySegment() {
+        return new IndexSegmentBuilder(ProductTextAnalyzer::indexTerms).build();
+    }
+
+    @FunctionalInterface
+    private interface RefComparator {
+        int compare(long a, long b);
+    }
+
+    /**
+     * 상위 K 개만 유지하는 원시 long 힙. 루트에 가장 뒤에 정렬될 후보를 둔다.
+     */
+    private static final class TopK {
+        private final int capacity;
+        private final RefComparator comparator;
+        private long[] heap;
+        private int size;
+
+        TopK(int capacity, RefComparator comparator) {
+            this.capacity = capacity;
+            this.comparator = comparator;
+            this.heap = new long[Math.min(Math.max(capacity, 0), 1024)];
+        }
+
+        void offer(long ref) {
+            if (capacity <= 0) {
+                return;
+            }
+
+            if (size < capacity) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, Math.min(capacity, size * 2));
+                }
+                heap[size] = ref;
+                siftUp(size++);
+            } else if (comparator.compare(ref, heap[0]) < 0) {
+                heap[0] = ref;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * 정렬 순서(앞쪽이 먼저)로 꺼낸다. 호출 후 힙은 비워진다.
+         */
+        long[] drainSorted() {
+            long[] result = new long[size];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = heap[0];
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (comparator.compare(heap[i], heap[parent]) <= 0) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int right = left + 1;
+                int worst = i;
+                if (left < size && comparator.compare(heap[left], heap[worst]) > 0) {
+                    worst = left;
+                }
+                if (right < size && comparator.compare(heap[right], heap[worst]) > 0) {
+                    worst = right;
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+    }
+
+    private static final class Snapshot {
+        private final IndexSegment base;
+        private final BitSet baseDeleted;
+        private final IndexSegment delta;
+        private final Map<Long, ProductSearchDocument> pending; // 마지막 전체 구성 이후 변경된 문서
+        private final long maxUpdatedAtMillis;
+
+        private Snapshot(IndexSegment base, BitSet baseDeleted, IndexSegment delta, Map<Long, ProductSearchDocument> pending, long maxUpdatedAtMillis) {
+            this.base = base;
+            this.baseDeleted = baseDeleted;
+            this.delta = delta;
+            this.pending = pending;
+            this.maxUpdatedAtMillis = maxUpdatedAtMillis;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.biz.shopverse.service.product.search.index;
+
+import org.biz.shopverse.dto.product.ProductSearchDocument;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 인덱스 분석기.
+ * 소문자화 후 문자/숫자가 아닌 문자를 구분자로 토큰을 나눈다. 검색은 토큰 접두어 일치로 처리한다.
+ *
+ * 한글 토큰은 음절 경계의 모든 접미사를 초성열(#c:)과 자모열(#j:)로도 색인한다.
+ * 접두어 일치와 합쳐 초성 검색(ㅇㅇㅍ → 이어폰), 입력 중인 글자(이어포), 단어 중간 일치(어폰)를 처리한다.
+ */
+public final class ProductTextAnalyzer {
+    static final String CHOSEONG_PREFIX = "#c:";
+    static final String JAMO_PREFIX = "#j:";
+
+    // 접미사 색인은 토큰 앞쪽 이 글자 수까지만 (긴 토큰의 용어 수 제한)
+    private static final int MAX_SUFFIX_START = 16;
+
+    private ProductTextAnalyzer() {
+    }
+
+    /**
+     * 문서의 상품명/부제목/검색 키워드에서 색인할 용어 목록을 만든다. (중복 제거)
+     */
+    public static Set<String> indexTerms(ProductSearchDocument doc) {
+        Set<String> terms = new LinkedHashSet<>();
+        addTerms(terms, doc.getName());
+        addTerms(terms, doc.getSubtitle());
+        addTerms(terms, doc.getSearchKeywords());
+        return terms;
+    }
+
+    /**
+     * 검색어를 질의 토큰으로 나눈다. 모든 토큰이 (접두어로) 일치하는 문서만 결과가 된다.
+     */
+    public static List<String> queryTokens(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : tokenize(keyword)) {
+            if (HangulJamo.isChoseongOnly(token)) {
+                tokens.add(CHOSEONG_PREFIX + token);
+            } else if (HangulJamo.containsHangul(token)) {
+                tokens.add(JAMO_PREFIX + HangulJamo.decompose(token));
+            } else {
+                tokens.add(token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private static void addTerms(Set<String> terms, String text) {
+        for (String token : tokenize(text)) {
+            terms.add(token);
+            if (!HangulJamo.containsHangul(token)) {
+                continue;
+            }
+
+            int limit = Math.min(token.length(), MAX_SUFFIX_START);
+            for (int i = 0; i < limit; i++) {
+                if (i > 0 && !HangulJamo.isSyllable(token.charAt(i))) {
+                    continue;
+                }
+                String suffix = token.substring(i);
+                terms.add(CHOSEONG_PREFIX + HangulJamo.choseong(suffix));
+                terms.add(JAMO_PREFIX + HangulJamo.decompose(suffix));
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i < lower.length(); i++) {
+            if (Character.isLetterOrDigit(lower.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(lower.substring(start));
+        }
+        return tokens;
+    }
+}
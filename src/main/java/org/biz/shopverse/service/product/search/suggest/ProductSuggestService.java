@@ -0,0 +1,122 @@
+package org.biz.shopverse.service.product.search.suggest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.dto.product.ProductSearchDocument;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.biz.shopverse.service.product.search.index.HangulJamo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품명/검색 키워드 자동완성.
+ * 판매량 합계를 가중치로 SuggestTrie 를 백그라운드에서 만들고 참조만 교체한다. (ProductSuggestSchedule)
+ * 키는 소문자화 + 자모 분해해 입력 중인 한글 음절(이어포 → 이어폰)도 일치시킨다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSuggestService {
+    private final ProductMapper productMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // 노드별로 미리 계산해 두는 상위 항목 수 (조회 최대 건수)
+    @Value("${product.suggest.max-results:10}")
+    private int maxResults;
+
+    private volatile SuggestTrie trie;
+
+    private TransactionTemplate readOnlyTransaction;
+    private Timer lookupTimer;
+
+    @PostConstruct
+    protected void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        lookupTimer = Timer.builder("product.suggest.lookup")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("product.suggest.terms", this, service -> service.trie == null ? 0 : service.trie.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 접두어로 시작하는 상품명/키워드를 가중치 순으로 반환한다. 트라이 구성 전이면 빈 목록.
+     * size 는 1 ~ product.suggest.max-results 로 보정한다.
+     */
+    public List<String> suggest(String prefix, int size) {
+        SuggestTrie current = trie;
+        String key = normalize(prefix);
+        if (current == null || key.isEmpty()) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        try {
+            return current.lookup(key, Math.max(1, Math.min(size, maxResults)));
+        } finally {
+            lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 노출 가능한 상품 전체를 스트리밍 스캔해 트라이를 새로 만든다.
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        Map<String, SuggestTrie.Entry> entries = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status -> productMapper.scanSearchDocuments(null, context -> {
+            ProductSearchDocument doc = context.getResultObject();
+            long weight = doc.getSalesCount() != null ? doc.getSalesCount() : 0L;
+            addEntry(entries, doc.getName(), weight);
+            if (doc.getSearchKeywords() != null) {
+                for (String keyword : doc.getSearchKeywords().split(",")) {
+                    addEntry(entries, keyword, weight);
+                }
+            }
+        }));
+
+        SuggestTrie built = SuggestTrie.build(entries, maxResults);
+        this.trie = built;
+        log.info("product suggest trie rebuilt: {} terms, {} nodes, {} ms",
+                built.size(), built.nodeCount(), System.currentTimeMillis() - start);
+    }
+
+    // 같은 키(대소문자/공백 차이)는 하나로 합치고 가중치를 더한다
+    static void addEntry(Map<String, SuggestTrie.Entry> entries, String text, long weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+
+        String display = text.trim().replaceAll("\\s+", " ");
+        String key = normalize(display);
+        SuggestTrie.Entry entry = entries.get(key);
+        if (entry == null) {
+            entries.put(key, new SuggestTrie.Entry(display, weight));
+        } else {
+            entry.addWeight(weight);
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return HangulJamo.decompose(text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,222 @@
+package org.biz.shopverse.service.product.search.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동완성용 불변 접두어 트라이.
+ * 노드는 배열로 평탄화되어 있고(자식 라벨은 정렬되어 이진 탐색), 노드마다 하위 항목 중 가중치 상위 K 개를 미리 계산해 둔다.
+ * 조회는 접두어 길이만큼 노드를 따라간 뒤 해당 노드의 상위 목록을 그대로 반환한다.
+ */
+public final class SuggestTrie {
+    private final String[] texts;        // 항목 (가중치 내림차순 정렬, 인덱스가 곧 순위)
+    private final int[] childStart;      // 노드 i 의 자식: [childStart[i], childStart[i + 1])
+    private final char[] labels;
+    private final int[] targets;
+    private final int[] topStart;        // 노드 i 의 상위 항목: topEntries[topStart[i], topStart[i + 1])
+    private final int[] topEntries;
+
+    private SuggestTrie(String[] texts, int[] childStart, char[] labels, int[] targets, int[] topStart, int[] topEntries) {
+        this.texts = texts;
+        this.childStart = childStart;
+        this.labels = labels;
+        this.targets = targets;
+        this.topStart = topStart;
+        this.topEntries = topEntries;
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    public int nodeCount() {
+        return childStart.length - 1;
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (배열 본문 + 항목 문자열, 객체 헤더 등은 근사치)
+     */
+    public long estimatedBytes() {
+        long bytes = 4L * (childStart.length + targets.length + topStart.length + topEntries.length) + 2L * labels.length;
+        for (String text : texts) {
+            bytes += 40 + text.length();
+        }
+        return bytes;
+    }
+
+    /**
+     * 정규화된 접두어로 시작하는 항목을 가중치 순으로 최대 limit 개 반환한다. (limit 이 0 이하면 빈 목록)
+     */
+    public List<String> lookup(String normalizedPrefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        int node = 0;
+        for (int i = 0; i < normalizedPrefix.length(); i++) {
+            int from = childStart[node];
+            int to = childStart[node + 1];
+            int position = Arrays.binarySearch(labels, from, to, normalizedPrefix.charAt(i));
+            if (position < 0) {
+                return List.of();
+            }
+            node = targets[position];
+        }
+
+        int from = topStart[node];
+        int to = Math.min(topStart[node + 1], from + limit);
+        List<String> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(texts[topEntries[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * (정규화 키 → 항목) 으로 트라이를 만든다. 노드마다 상위 topK 개를 보관한다.
+     */
+    public static SuggestTrie build(Map<String, Entry> entries, int topK) {
+        List<Map.Entry<String, Entry>> sorted = new ArrayList<>(entries.entrySet());
+        sorted.sort(Comparator.<Map.Entry<String, Entry>>comparingLong(e -> e.getValue().getWeight()).reversed()
+                .thenComparing(e -> e.getValue().getText()));
+
+        String[] texts = new String[sorted.size()];
+        Node root = new Node();
+        for (int i = 0; i < sorted.size(); i++) {
+            texts[i] = sorted.get(i).getValue().getText();
+            Node node = root;
+            String key = sorted.get(i).getKey();
+            for (int c = 0; c < key.length(); c++) {
+                node = node.child(key.charAt(c));
+            }
+            if (node.entry < 0) {
+                node.entry = i;
+            }
+        }
+
+        // BFS 순서로 번호를 매겨 자식이 연속된 구간에 오도록 한다
+        List<Node> order = new ArrayList<>();
+        order.add(root);
+        for (int i = 0; i < order.size(); i++) {
+            Node node = order.get(i);
+            for (int c = 0; c < node.size; c++) {
+                order.add(node.children[c]);
+            }
+        }
+
+        // 역순(자식 먼저)으로 상위 K 계산: 항목 번호가 작을수록 가중치가 높으므로 작은 번호 K 개를 고른다
+        for (int i = order.size() - 1; i >= 0; i--) {
+            order.get(i).computeTop(topK);
+        }
+
+        int nodeCount = order.size();
+        int[] childStart = new int[nodeCount + 1];
+        int[] topStart = new int[nodeCount + 1];
+        char[] labels = new char[nodeCount - 1];
+        int[] targets = new int[nodeCount - 1];
+
+        int edge = 0;
+        int next = 1;
+        int topCount = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            Node node = order.get(i);
+            childStart[i] = edge;
+            for (int c = 0; c < node.size; c++) {
+                labels[edge] = node.labels[c];
+                targets[edge] = next++;
+                edge++;
+            }
+            topStart[i] = topCount;
+            topCount += node.top.length;
+        }
+        childStart[nodeCount] = edge;
+        topStart[nodeCount] = topCount;
+
+        int[] topEntries = new int[topCount];
+        for (int i = 0; i < nodeCount; i++) {
+            int[] top = order.get(i).top;
+            System.arraycopy(top, 0, topEntries, topStart[i], top.length);
+        }
+
+        return new SuggestTrie(texts, childStart, labels, targets, topStart, topEntries);
+    }
+
+    /**
+     * 자동완성 항목: 표시 문자열과 가중치
+     */
+    public static final class Entry {
+        private final String text;
+        private long weight;
+
+        public Entry(String text, long weight) {
+            this.text = text;
+            this.weight = weight;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+
+        public void addWeight(long delta) {
+            this.weight += delta;
+        }
+    }
+
+    // 구성 전용 노드
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int size;
+        private int entry = -1;
+        private int[] top;
+
+        Node child(char label) {
+            int position = Arrays.binarySearch(labels, 0, size, label);
+            if (position >= 0) {
+                return children[position];
+            }
+
+            position = -position - 1;
+            if (size == labels.length) {
+                int capacity = Math.max(2, size * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, position, labels, position + 1, size - position);
+            System.arraycopy(children, position, children, position + 1, size - position);
+
+            Node node = new Node();
+            labels[position] = label;
+            children[position] = node;
+            size++;
+            return node;
+        }
+
+        void computeTop(int topK) {
+            int count = entry >= 0 ? 1 : 0;
+            for (int c = 0; c < size; c++) {
+                count += children[c].top.length;
+            }
+
+            int[] candidates = new int[count];
+            int n = 0;
+            if (entry >= 0) {
+                candidates[n++] = entry;
+            }
+            for (int c = 0; c < size; c++) {
+                int[] childTop = children[c].top;
+                System.arraycopy(childTop, 0, candidates, n, childTop.length);
+                n += childTop.length;
+            }
+            Arrays.sort(candidates);
+            top = candidates.length > topK ? Arrays.copyOf(candidates, topK) : candidates;
+        }
+    }
+}
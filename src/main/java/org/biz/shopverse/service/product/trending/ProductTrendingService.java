@@ -0,0 +1,184 @@
+package org.biz.shopverse.service.product.trending;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.biz.shopverse.service.product.CategoryTreeIndex;
+import org.biz.shopverse.service.product.counter.ProductCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 시간 감쇠 트렌딩 순위 (sort=trending).
+ *
+ * - 전체(PTR:all)와 카테고리별(PTR:{categoryId}) ZSET 에 상품 ID 를 멤버로 두고, 조회/판매 시 가중치만큼 ZINCRBY 한다.
+ *   하위 카테고리 상품은 상위 카테고리 순위에도 반영한다.
+ * - 감쇠: ProductTrendingSchedule 이 주기마다 모든 순위 점수에 0.5^(주기/반감기)를 곱한다. (ZUNIONSTORE 자기 자신 WEIGHTS)
+ *   여러 노드 중 한 곳만 실행하도록 Redis 락(SET NX)을 잡는다. 감쇠 후 작은 점수와 상한 밖의 순위는 잘라낸다.
+ * Redis 오류는 기록을 건너뛰거나(record) null 로 알려(page) 목록 조회에는 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductTrendingService {
+    private static final String KEY_PREFIX = "PTR:";
+    private static final String KEYS_KEY = "PTRS";
+    private static final String DECAY_LOCK_KEY = "PTR-LOCK:decay";
+    private static final String ALL = "all";
+    private static final double MIN_SCORE = 0.01;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CategoryTreeIndex categoryTreeIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.trending.view-weight:1}")
+    private double viewWeight;
+
+    @Value("${product.trending.sales-weight:10}")
+    private double salesWeight;
+
+    @Value("${product.trending.half-life-minutes:180}")
+    private long halfLifeMinutes;
+
+    @Value("${product.trending.decay-interval-ms:300000}")
+    private long decayIntervalMs;
+
+    // 순위별 최대 보관 상품 수
+    @Value("${product.trending.max-size:1000}")
+    private long maxSize;
+
+    private Counter errorCounter;
+
+    @PostConstruct
+    protected void init() {
+        errorCounter = Counter.builder("product.trending.errors").register(meterRegistry);
+    }
+
+    /**
+     * 조회/판매를 전체와 카테고리(상위 포함) 순위에 반영한다. 찜은 반영하지 않는다.
+     */
+    public void record(Long productId, Long categoryId, ProductCounter event) {
+        double weight = switch (event) {
+            case VIEW -> viewWeight;
+            case SALES -> salesWeight;
+            case WISHLIST -> 0;
+        };
+        if (productId == null || weight <= 0) {
+            return;
+        }
+
+        List<byte[]> keys = new ArrayList<>();
+        for (String key : keysOf(categoryId)) {
+            keys.add(key.getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] member = productId.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] keysKey = KEYS_KEY.getBytes(StandardCharsets.UTF_8);
+
+        try {
+            // 한 번의 왕복으로 모든 순위 갱신
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (byte[] key : keys) {
+                    connection.zSetCommands().zIncrBy(key, weight, member);
+                }
+                connection.setCommands().sAdd(keysKey, keys.toArray(new byte[0][]));
+                return null;
+            });
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("product trending record failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 카테고리(null 이면 전체) 트렌딩 순위의 offset 부터 size 개. Redis 오류면 null.
+     */
+    public TrendingPage page(Long categoryId, int offset, int size) {
+        String key = KEY_PREFIX + (categoryId != null ? categoryId : ALL);
+        try {
+            Long total = redisTemplate.opsForZSet().zCard(key);
+            if (total == null || total == 0 || offset >= total) {
+                return new TrendingPage(List.of(), total != null ? total : 0);
+            }
+
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(key, offset, offset + size - 1L);
+            List<Long> productIds = new ArrayList<>(members != null ? members.size() : 0);
+            if (members != null) {
+                for (String member : members) {
+                    productIds.add(Long.valueOf(member));
+                }
+            }
+            return new TrendingPage(productIds, total);
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("product trending read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 모든 순위에 감쇠를 적용한다. 다른 노드가 이번 주기에 이미 적용했으면 건너뛴다.
+     *
+     * @return 감쇠를 적용한 순위 수 (건너뛰면 -1)
+     */
+    public int decay() {
+        // 락은 주기보다 조금 짧게 잡아 다음 주기에는 어느 노드든 실행할 수 있게 한다
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(DECAY_LOCK_KEY, "1", Duration.ofMillis(Math.max(decayIntervalMs * 9 / 10, 1000)));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return -1;
+        }
+
+        Set<String> keys = redisTemplate.opsForSet().members(KEYS_KEY);
+        if (keys == null || keys.isEmpty()) {
+            return 0;
+        }
+
+        double factor = decayFactor(decayIntervalMs, halfLifeMinutes * 60_000);
+        for (String key : keys) {
+            // 같은 키로 ZUNIONSTORE: 원자적으로 모든 점수에 factor 를 곱한다
+            Long size = redisTemplate.opsForZSet().unionAndStore(key, List.of(), key, Aggregate.SUM, Weights.of(factor));
+            if (size == null || size == 0) {
+                redisTemplate.opsForSet().remove(KEYS_KEY, key);
+                continue;
+            }
+
+            redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, MIN_SCORE);
+            if (size > maxSize) {
+                // 오름차순 0 ~ (size - maxSize - 1): 하위 순위 제거
+                redisTemplate.opsForZSet().removeRange(key, 0, -(maxSize + 1));
+            }
+        }
+        return keys.size();
+    }
+
+    /**
+     * 주기 intervalMs 마다 곱할 값. 반감기 동안 누적하면 0.5 가 된다.
+     */
+    static double decayFactor(long intervalMs, long halfLifeMs) {
+        return Math.pow(0.5, (double) intervalMs / Math.max(halfLifeMs, 1));
+    }
+
+    private Set<String> keysOf(Long categoryId) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(KEY_PREFIX + ALL);
+        if (categoryId != null) {
+            for (Long ancestorId : categoryTreeIndex.ancestors(categoryId)) {
+                keys.add(KEY_PREFIX + ancestorId);
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,16 @@
+package org.biz.shopverse.service.product.trending;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 트렌딩 순위 한 페이지: 점수 내림차순 상품 ID 와 순위에 있는 전체 상품 수.
+ */
+@Getter
+@AllArgsConstructor
+public class TrendingPage {
+    private final List<Long> productIds;
+    private final long totalCount;
+}
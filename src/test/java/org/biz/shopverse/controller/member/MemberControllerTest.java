@@ -177,7 +177,7 @@ class MemberControllerTest {
                 ApiResponse.success("로그아웃이 완료되었습니다.")
         );
 
-        when(memberService.logout(any())).thenReturn(successResponse);
+        when(memberService.logout(any(), any())).thenReturn(successResponse);
 
         // When & Then
         mockMvc.perform(post("/member/logout"))
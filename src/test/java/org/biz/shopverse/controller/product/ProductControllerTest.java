@@ -1,10 +1,15 @@
 package org.biz.shopverse.controller.product;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.biz.shopverse.dto.product.response.ProductDetailResponse;
 import org.biz.shopverse.dto.product.response.ProductListPageResponse;
-import org.biz.shopverse.dto.product.response.ProductResponse;
+import org.biz.shopverse.dto.product.response.ProductSummaryResponse;
 import org.biz.shopverse.exception.GlobalExceptionHandler;
+import org.biz.shopverse.service.product.ProductExportService;
 import org.biz.shopverse.service.product.ProductService;
+import org.biz.shopverse.service.product.cache.CatalogVersion;
+import org.biz.shopverse.service.product.cache.CategoryCache;
+import org.biz.shopverse.service.product.search.suggest.ProductSuggestService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,14 +17,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -30,6 +45,18 @@ class ProductControllerTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private ProductSuggestService productSuggestService;
+
+    @Mock
+    private CategoryCache categoryCache;
+
+    @Mock
+    private ProductExportService productExportService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
     @InjectMocks
     private ProductController productController;
 
@@ -50,8 +77,8 @@ class ProductControllerTest {
         // Given
         ProductListPageResponse response = ProductListPageResponse.builder()
                 .products(Arrays.asList(
-                        ProductResponse.builder().id(1L).name("상품1").categoryId(1L).price(new BigDecimal("1000")).build(),
-                        ProductResponse.builder().id(2L).name("상품2").categoryId(1L).price(new BigDecimal("2000")).build()
+                        ProductSummaryResponse.builder().id(1L).name("상품1").categoryId(1L).price(new BigDecimal("1000")).build(),
+                        ProductSummaryResponse.builder().id(2L).name("상품2").categoryId(1L).price(new BigDecimal("2000")).build()
                 ))
                 .totalCount(12)
                 .currentPage(1)
@@ -79,6 +106,165 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.data.hasNext").value(true))
                 .andExpect(jsonPath("$.data.hasPrevious").value(false));
     }
-}
 
+    @Test
+    @DisplayName("자동완성 조회 성공")
+    void suggest_Success() throws Exception {
+        // Given
+        when(productSuggestService.suggest(eq("이어"), eq(5))).thenReturn(Arrays.asList("이어폰", "이어링"));
 
+        // When & Then
+        mockMvc.perform(get("/product/suggest")
+                        .queryParam("q", "이어")
+                        .queryParam("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0]").value("이어폰"))
+                .andExpect(jsonPath("$.data[1]").value("이어링"));
+    }
+
+    @Test
+    @DisplayName("카테고리 목록 조회 - 미리 직렬화된 응답을 그대로 반환")
+    void getAllCategories_PreRendered() throws Exception {
+        // Given
+        byte[] body = "{\"success\":true,\"data\":[{\"id\":1,\"name\":\"전자기기\"}],\"message\":\"카테고리 목록을 조회했습니다.\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        when(categoryCache.render(CategoryCache.ALL, "카테고리 목록을 조회했습니다.")).thenReturn(body);
+
+        // When & Then
+        mockMvc.perform(get("/product/categories"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].name").value("전자기기"));
+    }
+
+    @Test
+    @DisplayName("카테고리 목록 조회 - 응답에 카탈로그 버전 ETag")
+    void getAllCategories_ETag() throws Exception {
+        // Given
+        when(catalogVersion.categoriesETag()).thenReturn("\"c.ab12cd34.3\"");
+        when(categoryCache.render(CategoryCache.ALL, "카테고리 목록을 조회했습니다.")).thenReturn("{}".getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        mockMvc.perform(get("/product/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"c.ab12cd34.3\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - If-None-Match 가 현재 버전과 같으면 조회 없이 304")
+    void getAllProducts_NotModified() throws Exception {
+        // Given
+        when(catalogVersion.productListETag(any())).thenReturn("\"p.ab12cd34.3.7\"");
+
+        // When & Then
+        mockMvc.perform(get("/product/products")
+                        .queryParam("categoryId", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"p.ab12cd34.3.7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"p.ab12cd34.3.7\""))
+                .andExpect(content().string(""));
+        verify(productService, never()).getProductsPaged(any());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 버전이 바뀌었으면 새 ETag 와 본문")
+    void getAllProducts_Modified() throws Exception {
+        // Given
+        when(catalogVersion.productListETag(any())).thenReturn("\"p.ab12cd34.3.8\"");
+        when(productService.getProductsPaged(any())).thenReturn(ProductListPageResponse.builder().totalCount(0).build());
+
+        // When & Then
+        mockMvc.perform(get("/product/products")
+                        .queryParam("categoryId", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"p.ab12cd34.3.7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"p.ab12cd34.3.8\""))
+                .andExpect(jsonPath("$.data.totalCount").value(0));
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 성공")
+    void getProductDetail_Success() throws Exception {
+        // Given
+        ProductDetailResponse detail = new ProductDetailResponse();
+        detail.setId(1L);
+        detail.setSlug("wireless-earphones");
+        detail.setDescription("<p>상세 설명</p>");
+        when(productService.getProductDetail("wireless-earphones")).thenReturn(detail);
+
+        // When & Then
+        mockMvc.perform(get("/product/products/wireless-earphones"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(1))
+                .andExpect(jsonPath("$.data.description").value("<p>상세 설명</p>"));
+    }
+
+    @Test
+    @DisplayName("전체 내보내기 - NDJSON 스트리밍")
+    void exportProducts_Ndjson() throws Exception {
+        // Given
+        givenExport("{\"id\":1}\n{\"id\":2}\n");
+
+        // When & Then
+        mockMvc.perform(get("/product/export.ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    @DisplayName("전체 내보내기 - Accept-Encoding: gzip 이면 압축")
+    void exportProducts_Gzip() throws Exception {
+        // Given
+        givenExport("{\"id\":1}\n");
+
+        // When
+        byte[] body = mockMvc.perform(get("/product/export.ndjson").param("since", "1700000000000").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n");
+        }
+        verify(productExportService).export(any(OutputStream.class), eq(1700000000000L));
+    }
+
+    @Test
+    @DisplayName("전체 내보내기 - gzip;q=0 이면 압축하지 않는다")
+    void exportProducts_GzipRefused() throws Exception {
+        // Given
+        givenExport("{\"id\":1}\n");
+
+        // When & Then
+        mockMvc.perform(get("/product/export.ndjson").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding q 값 해석")
+    void acceptsGzip() {
+        assertThat(ProductController.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(ProductController.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(ProductController.acceptsGzip("br;q=1.0, *;q=0.1")).isTrue();
+        assertThat(ProductController.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(ProductController.acceptsGzip("gzip; q=0.000")).isFalse();
+        assertThat(ProductController.acceptsGzip("gzip;q=abc")).isFalse();
+        assertThat(ProductController.acceptsGzip("identity")).isFalse();
+        assertThat(ProductController.acceptsGzip(null)).isFalse();
+    }
+
+    private void givenExport(String ndjson) throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(productExportService).export(any(OutputStream.class), any());
+    }
+}
@@ -1,17 +1,25 @@
 package org.biz.shopverse.mapper.product;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.biz.shopverse.dto.product.ProductPageRow;
 import org.biz.shopverse.dto.product.response.ProductResponse;
+import org.biz.shopverse.dto.product.response.ProductVariantResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.sql.DataSource;
+
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @MybatisTest
 @ActiveProfiles("test")
@@ -21,11 +29,14 @@ class ProductMapperIT {
     @Autowired
     private ProductMapper productMapper;
 
+    @Autowired
+    private DataSource dataSource;
+
     @Test
     @DisplayName("selectProductsPaged - 기본 조회(최신순) 정상 동작")
     void selectProductsPaged_latest_ok() {
-        List<ProductResponse> results = productMapper.selectProductsPaged(
-                null, // categoryId
+        List<ProductPageRow> results = productMapper.selectProductsPaged(
+                null, // categoryIds
                 "latest",
                 0,
                 10,
@@ -40,7 +51,7 @@ class ProductMapperIT {
     @DisplayName("selectProductsPaged - 정렬 옵션(price-low/high, rating, popular) 정상 동작")
     void selectProductsPaged_sort_options_ok() {
         for (String sort : Arrays.asList("price-low", "price-high", "rating", "popular")) {
-            List<ProductResponse> results = productMapper.selectProductsPaged(
+            List<ProductPageRow> results = productMapper.selectProductsPaged(
                     null,
                     sort,
                     0,
@@ -57,8 +68,8 @@ class ProductMapperIT {
     @DisplayName("selectProductsPaged - 카테고리/검색어/페이징 조합 호출 시 예외 없이 결과 반환")
     void selectProductsPaged_with_filters_ok() {
         // 카테고리와 검색어는 테스트 DB 상황에 따라 결과가 없을 수 있으므로 크기만 방어적으로 검증
-        List<ProductResponse> page1 = productMapper.selectProductsPaged(1L, "latest", 0, 3, "");
-        List<ProductResponse> page2 = productMapper.selectProductsPaged(1L, "latest", 3, 3, "");
+        List<ProductPageRow> page1 = productMapper.selectProductsPaged(new Long[]{1L}, "latest", 0, 3, "");
+        List<ProductPageRow> page2 = productMapper.selectProductsPaged(new Long[]{1L}, "latest", 3, 3, "");
 
         assertThat(page1).isNotNull();
         assertThat(page2).isNotNull();
@@ -66,15 +77,119 @@ class ProductMapperIT {
         assertThat(page2.size()).isBetween(0, 3);
     }
 
+    @Test
+    @DisplayName("selectProductsAfter - 커서 이후 행이 offset 조회의 다음 페이지와 일치")
+    void selectProductsAfter_matches_offset_paging() {
+        for (String sort : Arrays.asList("latest", "price-low", "price-high", "rating", "popular")) {
+            List<ProductPageRow> firstPage = productMapper.selectProductsPaged(null, sort, 0, 3, null);
+            if (firstPage.isEmpty()) {
+                continue;
+            }
+
+            ProductPageRow last = firstPage.get(firstPage.size() - 1);
+            List<ProductPageRow> afterCursor = productMapper.selectProductsAfter(null, sort, last.getSortKey(), last.getId(), 3, null);
+
+            assertThat(afterCursor).isNotNull();
+            assertThat(afterCursor.size()).isBetween(0, 3);
+            assertThat(afterCursor).extracting(ProductPageRow::getId).doesNotContain(last.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("selectProductsPageWithTotal - 전체 건수가 countProducts 와 일치하고 빈 페이지에도 건수 행 반환")
+    void selectProductsPageWithTotal_ok() {
+        long count = productMapper.countProducts(null, null);
+
+        List<ProductPageRow> firstPage = productMapper.selectProductsPageWithTotal(null, "latest", 0, 10, null);
+        List<ProductPageRow> beyondLastPage = productMapper.selectProductsPageWithTotal(null, "latest", Integer.MAX_VALUE, 10, null);
+
+        assertThat(firstPage).isNotEmpty();
+        assertThat(firstPage.get(0).getTotalCount()).isEqualTo(count);
+        assertThat(beyondLastPage).hasSize(1);
+        assertThat(beyondLastPage.get(0).getId()).isNull();
+        assertThat(beyondLastPage.get(0).getTotalCount()).isEqualTo(count);
+    }
+
+    @Test
+    @DisplayName("selectProductsPaged - 변형이 여러 개인 상품도 페이지 안에서 한 번만 나오고 페이지가 겹치지 않음")
+    void selectProductsPaged_one_row_per_product() {
+        List<ProductPageRow> page1 = productMapper.selectProductsPaged(null, "latest", 0, 5, null);
+        List<ProductPageRow> page2 = productMapper.selectProductsPaged(null, "latest", 5, 5, null);
+
+        List<Long> ids = new ArrayList<>();
+        page1.forEach(row -> ids.add(row.getId()));
+        page2.forEach(row -> ids.add(row.getId()));
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(page1.size()).isEqualTo((int) Math.min(5, productMapper.countProducts(null, null)));
+    }
+
+    @Test
+    @DisplayName("selectVariantsByProductIds - 요청한 상품의 변형만 상품 순으로 반환")
+    void selectVariantsByProductIds_ok() {
+        List<ProductPageRow> page = productMapper.selectProductsPaged(null, "latest", 0, 5, null);
+        Long[] productIds = page.stream().map(ProductPageRow::getId).toArray(Long[]::new);
+
+        List<ProductVariantResponse> variants = productMapper.selectVariantsByProductIds(productIds);
+
+        assertThat(variants).allMatch(variant -> Arrays.asList(productIds).contains(variant.getProductId()));
+        assertThat(variants).extracting(ProductVariantResponse::getProductId).isSorted();
+    }
+
+    @Test
+    @DisplayName("streamProductsForExport - 원가(cost_price)는 내보내지 않는다")
+    void streamProductsForExport_excludes_cost_price() throws Exception {
+        // @MybatisTest 는 트랜잭션 안에서 실행되므로 Cursor 를 그대로 읽을 수 있다
+        List<ProductResponse> rows = new ArrayList<>();
+        try (Cursor<ProductResponse> cursor = productMapper.streamProductsForExport(null)) {
+            cursor.forEach(rows::add);
+        }
+
+        assertThat(rows).extracting(ProductResponse::getCostPrice).containsOnlyNulls();
+        assertThat(rows).extracting(ProductResponse::getId).isSorted();
+    }
+
     @Test
     @DisplayName("countProducts - 카운트가 0 이상으로 반환")
     void countProducts_ok() {
         long countAll = productMapper.countProducts(null, null);
-        long countByCategory = productMapper.countProducts(1L, null);
+        long countByCategory = productMapper.countProducts(new Long[]{1L}, null);
 
         assertThat(countAll).isGreaterThanOrEqualTo(0);
         assertThat(countByCategory).isGreaterThanOrEqualTo(0);
     }
-}
 
+    @Test
+    @DisplayName("selectListingPaged - 기본 변형 가격이 달라도 products 원본 조회와 같은 행(가격/할인율/정렬 키)을 반환")
+    void selectListingPaged_matches_products_source() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // docs/sql/002_product_listing.sql 이 적용된 DB 에서만 검증
+        assumeTrue(Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass('product_listing') IS NOT NULL", Boolean.class)));
+
+        List<Long> productIds = jdbcTemplate.queryForList(
+                "SELECT pv.product_id FROM product_variants pv"
+                        + " JOIN products p ON p.id = pv.product_id"
+                        + " WHERE pv.is_active = true AND p.status = 'active' AND p.visibility = 'visible' AND p.deleted_at IS NULL"
+                        + " LIMIT 1", Long.class);
+        assumeTrue(!productIds.isEmpty());
+        Long productId = productIds.get(0);
+        Long categoryId = jdbcTemplate.queryForObject("SELECT category_id FROM products WHERE id = ?", Long.class, productId);
+
+        // 기본 변형 가격을 상품 가격과 다르게 바꾸고 읽기 모델을 맞춘다 (테스트 트랜잭션은 롤백)
+        jdbcTemplate.update("UPDATE product_variants SET is_default = (id = (SELECT MIN(id) FROM product_variants"
+                + " WHERE product_id = ? AND is_active = true)) WHERE product_id = ?", productId, productId);
+        jdbcTemplate.update("UPDATE product_variants SET price = price + 1234, compare_price = COALESCE(compare_price, 0) + 5678"
+                + " WHERE product_id = ? AND is_default = true", productId);
+        productMapper.reconcileProductListing();
 
+        Long[] categoryIds = {categoryId};
+        int size = (int) productMapper.countProducts(categoryIds, null);
+        for (String sort : Arrays.asList("latest", "price-low", "price-high", "rating", "popular")) {
+            List<ProductPageRow> products = productMapper.selectProductsPaged(categoryIds, sort, 0, size, null);
+            List<ProductPageRow> listing = productMapper.selectListingPaged(categoryIds, sort, 0, size, null);
+
+            assertThat(listing).extracting(ProductPageRow::getId).contains(productId);
+            assertThat(listing).as(sort).isEqualTo(products);
+        }
+    }
+}
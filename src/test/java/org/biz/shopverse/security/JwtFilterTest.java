@@ -0,0 +1,211 @@
+package org.biz.shopverse.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.biz.shopverse.exception.auth.JwtInvalidException;
+import org.biz.shopverse.service.auth.AuthVersionService;
+import org.biz.shopverse.service.auth.CustomUserDetailsService;
+import org.biz.shopverse.service.auth.TokenRevocationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private AuthVersionService authVersionService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private JwtFilter jwtFilter;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtFilter, "authenticationMode", "stateless");
+        request = new MockHttpServletRequest("GET", "/order");
+        request.addHeader("Authorization", "Bearer access-token");
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("stateless - 토큰의 역할로 인증하고 DB 를 조회하지 않는다")
+    void stateless_AuthenticatesFromClaims() throws Exception {
+        // Given
+        VerifiedToken verified = token("testuser", 3L, "ROLE_USER", "ROLE_ADMIN");
+        when(jwtTokenProvider.verify("access-token")).thenReturn(verified);
+        when(authVersionService.current("testuser")).thenReturn(3L);
+
+        // When
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getName()).isEqualTo("testuser");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        assertThat(VerifiedToken.current()).isSameAs(verified);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("stateless - 인증 버전이 바뀐 토큰은 401")
+    void stateless_RejectsStaleVersion() throws Exception {
+        // Given
+        when(jwtTokenProvider.verify("access-token")).thenReturn(token("testuser", 3L, "ROLE_ADMIN"));
+        when(authVersionService.current("testuser")).thenReturn(4L);
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        jwtFilter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString()).contains("유효하지 않은 토큰입니다.");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("stateless - roles/av 클레임이 없는 토큰(리프레시 토큰)은 401")
+    void stateless_RejectsRefreshToken() throws Exception {
+        // Given
+        when(jwtTokenProvider.verify("access-token")).thenReturn(VerifiedToken.from(Jwts.claims().setSubject("testuser")));
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        jwtFilter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        verify(authVersionService, never()).current(anyString());
+    }
+
+    @Test
+    @DisplayName("stateless - 인증 버전을 읽지 못하면 DB 조회로 대신한다")
+    void stateless_FallsBackToUserLoad() throws Exception {
+        // Given
+        when(jwtTokenProvider.verify("access-token")).thenReturn(token("testuser", 0L, "ROLE_ADMIN"));
+        when(authVersionService.current("testuser")).thenThrow(new RedisConnectionFailureException("down"));
+        when(userDetailsService.loadUserByUsername("testuser"))
+                .thenReturn(User.withUsername("testuser").password("pw").authorities("ROLE_USER").build());
+
+        // When
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        // Then: DB 의 역할 사용
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("database - 요청마다 회원/역할을 조회한다")
+    void database_LoadsUser() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(jwtFilter, "authenticationMode", "database");
+        when(jwtTokenProvider.verify("access-token")).thenReturn(token("testuser", 0L, "ROLE_ADMIN"));
+        when(userDetailsService.loadUserByUsername("testuser"))
+                .thenReturn(User.withUsername("testuser").password("pw").authorities("ROLE_USER").build());
+
+        // When
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("testuser");
+        verify(authVersionService, never()).current(anyString());
+    }
+
+    @Test
+    @DisplayName("database - 리프레시 토큰을 Bearer 로 보내면 401, 회원을 조회하지 않는다")
+    void database_RejectsRefreshToken() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(jwtFilter, "authenticationMode", "database");
+        when(jwtTokenProvider.verify("access-token")).thenReturn(VerifiedToken.from(Jwts.claims().setSubject("testuser")));
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        jwtFilter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 401, 사용자/인증 버전을 조회하지 않는다")
+    void revokedToken() throws Exception {
+        // Given
+        VerifiedToken verified = token("testuser", 0L, "ROLE_USER");
+        when(jwtTokenProvider.verify("access-token")).thenReturn(verified);
+        when(tokenRevocationService.isRevoked(verified)).thenReturn(true);
+
+        // When
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(401);
+        verify(authVersionService, never()).current(anyString());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 401")
+    void invalidToken() throws Exception {
+        // Given
+        when(jwtTokenProvider.verify("access-token")).thenThrow(new JwtInvalidException("JWT is invalid"));
+
+        // When
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    private static VerifiedToken token(String subject, long authVersion, String... roles) {
+        Claims claims = Jwts.claims().setSubject(subject);
+        claims.put("roles", List.of(roles));
+        claims.put(JwtTokenProvider.AUTH_VERSION_CLAIM, authVersion);
+        return VerifiedToken.from(claims);
+    }
+}
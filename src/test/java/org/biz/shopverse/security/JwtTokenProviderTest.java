@@ -0,0 +1,90 @@
+package org.biz.shopverse.security;
+
+import org.biz.shopverse.exception.auth.JwtInvalidException;
+import org.biz.shopverse.exception.auth.JwtTokenExpiredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret", "test-secret-key-for-hs256-signature-0123456789");
+        ReflectionTestUtils.setField(jwtTokenProvider, "issuer", "shopverse");
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("한 번의 검증으로 subject/역할/만료 시각을 모두 얻는다")
+    void verify_Success() {
+        // Given
+        String token = jwtTokenProvider.generateAccessToken("testuser", List.of("ROLE_USER", "ROLE_ADMIN"), 60_000L);
+
+        // When
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+
+        // Then
+        assertThat(verified.getSubject()).isEqualTo("testuser");
+        assertThat(verified.getRoles()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(verified.getPrimaryRole()).isEqualTo("ROLE_USER");
+        assertThat(verified.getExpiration()).isAfter(verified.getIssuedAt());
+        assertThat(verified.getAuthVersion()).isZero();
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.getTokenId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰마다 다른 jti")
+    void verify_UniqueTokenId() {
+        String first = jwtTokenProvider.generateAccessToken("testuser", List.of("ROLE_USER"), 60_000L);
+        String second = jwtTokenProvider.generateAccessToken("testuser", List.of("ROLE_USER"), 60_000L);
+
+        assertThat(jwtTokenProvider.verify(first).getTokenId()).isNotEqualTo(jwtTokenProvider.verify(second).getTokenId());
+    }
+
+    @Test
+    @DisplayName("발급 시점의 인증 버전을 av 클레임으로 싣는다")
+    void verify_AuthVersion() {
+        String token = jwtTokenProvider.generateAccessToken("testuser", List.of("ROLE_USER"), 7L, 60_000L);
+
+        assertThat(jwtTokenProvider.verify(token).getAuthVersion()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("역할 클레임이 없는 토큰(리프레시 토큰)은 빈 역할")
+    void verify_NoRoles() {
+        VerifiedToken verified = jwtTokenProvider.verify(jwtTokenProvider.generateRefreshToken("testuser", 60_000L));
+
+        assertThat(verified.getRoles()).isEmpty();
+        assertThat(verified.getPrimaryRole()).isNull();
+        assertThat(verified.isAccessToken()).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 JwtTokenExpiredException")
+    void verify_Expired() {
+        String token = jwtTokenProvider.generateAccessToken("testuser", List.of("ROLE_USER"), -1_000L);
+
+        assertThrows(JwtTokenExpiredException.class, () -> jwtTokenProvider.verify(token));
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않거나 형식이 잘못된 토큰은 JwtInvalidException")
+    void verify_Invalid() {
+        String token = jwtTokenProvider.generateAccessToken("testuser", List.of("ROLE_USER"), 60_000L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtInvalidException.class, () -> jwtTokenProvider.verify(tampered));
+        assertThrows(JwtInvalidException.class, () -> jwtTokenProvider.verify("not-a-jwt"));
+    }
+}
@@ -0,0 +1,81 @@
+package org.biz.shopverse.service.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthVersionServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    private AuthVersionService authVersionService;
+
+    @BeforeEach
+    void setUp() {
+        authVersionService = new AuthVersionService(redisTemplate, new SimpleMeterRegistry(), userDetailsCache);
+        ReflectionTestUtils.setField(authVersionService, "cacheTtlMs", 60_000L);
+        authVersionService.init();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("검증용 버전은 로컬 캐시해 요청마다 Redis 를 읽지 않는다 (없으면 0)")
+    void current_Cached() {
+        // Given
+        when(valueOperations.get("AV:testuser")).thenReturn(null);
+
+        // When & Then
+        assertThat(authVersionService.current("testuser")).isZero();
+        assertThat(authVersionService.current("testuser")).isZero();
+        verify(valueOperations, times(1)).get("AV:testuser");
+    }
+
+    @Test
+    @DisplayName("발급용 버전은 캐시를 거치지 않고 Redis 에서 읽는다")
+    void issue_ReadsStore() {
+        // Given
+        when(valueOperations.get("AV:testuser")).thenReturn("1", "2");
+
+        // When & Then
+        assertThat(authVersionService.current("testuser")).isEqualTo(1);
+        assertThat(authVersionService.issue("testuser")).isEqualTo(2);
+        assertThat(authVersionService.current("testuser")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버전을 올리면 이 노드에는 바로 반영하고 캐시된 UserDetails 도 무효화")
+    void bump() {
+        // Given
+        when(valueOperations.get("AV:testuser")).thenReturn("4");
+        when(valueOperations.increment("AV:testuser")).thenReturn(5L);
+        authVersionService.current("testuser");
+
+        // When
+        long bumped = authVersionService.bump("testuser");
+
+        // Then
+        assertThat(bumped).isEqualTo(5);
+        assertThat(authVersionService.current("testuser")).isEqualTo(5);
+        verify(userDetailsCache).invalidate("testuser");
+    }
+}
@@ -0,0 +1,156 @@
+package org.biz.shopverse.service.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해시/비교하고 해시 시간과 대기 시간을 기록한다")
+    void encodeAndMatches() {
+        // Given
+        passwordHashingService = service(new BCryptPasswordEncoder(4), 2, 8, 5_000L);
+
+        // When
+        String encoded = passwordHashingService.encode("password123");
+
+        // Then
+        assertThat(passwordHashingService.matches("password123", encoded)).isTrue();
+        assertThat(passwordHashingService.matches("wrongpassword", encoded)).isFalse();
+        assertThat(meterRegistry.get("auth.password.hash").tag("op", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash").tag("op", "matches").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.password.queue.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 설정값과 다르면 다시 해시 대상")
+    void needsRehash() {
+        passwordHashingService = service(new BCryptPasswordEncoder(4), 1, 1, 5_000L);
+
+        assertThat(passwordHashingService.needsRehash(new BCryptPasswordEncoder(5).encode("password123"))).isTrue();
+        assertThat(passwordHashingService.needsRehash(new BCryptPasswordEncoder(4).encode("password123"))).isFalse();
+        assertThat(passwordHashingService.needsRehash("{noop}password123")).isFalse();
+        assertThat(passwordHashingService.needsRehash(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다시 해시한 결과는 설정된 cost 로 store 에 넘긴다")
+    void rehashIfNeeded() throws Exception {
+        // Given
+        passwordHashingService = service(new BCryptPasswordEncoder(4), 1, 1, 5_000L);
+        String legacy = new BCryptPasswordEncoder(5).encode("password123");
+        CompletableFuture<String> stored = new CompletableFuture<>();
+
+        // When
+        passwordHashingService.rehashIfNeeded("password123", legacy, stored::complete);
+
+        // Then
+        String rehashed = stored.get(5, TimeUnit.SECONDS);
+        assertThat(rehashed).startsWith("$2a$04$");
+        assertThat(new BCryptPasswordEncoder(4).matches("password123", rehashed)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 429")
+    void queueFull_TooManyRequests() throws Exception {
+        // Given: 스레드 1개는 작업 중, 대기열 1칸도 찼다
+        passwordHashingService = service(blockingEncoder(), 1, 1, 5_000L);
+        CompletableFuture.runAsync(() -> passwordHashingService.matches("a", "b"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> passwordHashingService.matches("a", "b"));
+        awaitQueueDepth(1);
+
+        // When
+        CustomBusinessException e = assertThrows(CustomBusinessException.class,
+                () -> passwordHashingService.matches("password123", "encodedPassword"));
+
+        // Then
+        assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(e.getErrorCode()).isEqualTo("PASSWORD_HASH_BUSY");
+        assertThat(meterRegistry.get("auth.password.rejected").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않으면 503")
+    void timeout_ServiceUnavailable() {
+        // Given
+        passwordHashingService = service(blockingEncoder(), 1, 1, 50L);
+
+        // When
+        CustomBusinessException e = assertThrows(CustomBusinessException.class,
+                () -> passwordHashingService.matches("password123", "encodedPassword"));
+
+        // Then
+        assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(e.getErrorCode()).isEqualTo("PASSWORD_HASH_TIMEOUT");
+    }
+
+    private PasswordHashingService service(PasswordEncoder encoder, int threads, int queueCapacity, long timeoutMs) {
+        PasswordHashingService service = new PasswordHashingService(encoder, meterRegistry);
+        ReflectionTestUtils.setField(service, "strength", 4);
+        ReflectionTestUtils.setField(service, "threads", threads);
+        ReflectionTestUtils.setField(service, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(service, "timeoutMs", timeoutMs);
+        service.init();
+        return service;
+    }
+
+    // release 될 때까지 끝나지 않는 encoder
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                block();
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                block();
+                return false;
+            }
+
+            private void block() {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("auth.password.queue.depth").gauge().value() < depth && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(meterRegistry.get("auth.password.queue.depth").gauge().value()).isEqualTo(depth);
+    }
+}
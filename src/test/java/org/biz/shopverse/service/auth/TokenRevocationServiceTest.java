@@ -0,0 +1,137 @@
+package org.biz.shopverse.service.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.biz.shopverse.security.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationService = new TokenRevocationService(redisTemplate, redisMessageListenerContainer, meterRegistry);
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedTokens", 1_000L);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.01);
+        tokenRevocationService.init();
+    }
+
+    @Test
+    @DisplayName("폐기하지 않은 토큰은 Redis 를 조회하지 않는다")
+    void isRevoked_NegativeSkipsRedis() {
+        assertThat(tokenRevocationService.isRevoked(token("other-id"))).isFalse();
+
+        verify(redisTemplate, never()).hasKey(anyString());
+        assertThat(meterRegistry.get("auth.revocation.check").tag("result", "negative").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("폐기 시 남은 만료 시간만큼 Redis 에 두고 다른 노드에 알린 뒤, 이 노드는 바로 거부")
+    void revoke_ThenRejected() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.hasKey("RV:token-id")).thenReturn(true);
+        VerifiedToken token = token("token-id");
+
+        // When
+        tokenRevocationService.revoke(token);
+
+        // Then
+        verify(valueOperations).set(eq("RV:token-id"), eq("1"), any(Duration.class));
+        verify(zSetOperations).add(TokenRevocationService.INDEX_KEY, "token-id", token.getExpiration().getTime());
+        verify(redisTemplate).convertAndSend(TokenRevocationService.REVOKED_CHANNEL, "token-id");
+        assertThat(tokenRevocationService.isRevoked(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 메시지를 받으면 filter 에 반영, Redis 오류 시에는 거부")
+    void onMessage_FailsClosed() {
+        // Given
+        when(redisTemplate.hasKey("RV:token-id")).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        tokenRevocationService.onMessage(new DefaultMessage(
+                TokenRevocationService.REVOKED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "token-id".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertThat(tokenRevocationService.isRevoked(token("token-id"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("재동기화는 만료 항목을 정리하고 Redis 의 목록으로 filter 를 다시 만든다")
+    void resync_Rebuilds() {
+        // Given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.range(TokenRevocationService.INDEX_KEY, 0, -1)).thenReturn(Set.of("token-id"));
+        when(redisTemplate.hasKey("RV:token-id")).thenReturn(true);
+
+        // When
+        tokenRevocationService.resync();
+
+        // Then
+        verify(zSetOperations).removeRangeByScore(eq(TokenRevocationService.INDEX_KEY), eq(Double.NEGATIVE_INFINITY), anyDouble());
+        assertThat(tokenRevocationService.isRevoked(token("token-id"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("jti 가 없는 이전 형식 토큰은 폐기 대상이 아니다")
+    void legacyToken() {
+        VerifiedToken legacy = VerifiedToken.from(Jwts.claims().setSubject("testuser"));
+
+        tokenRevocationService.revoke(legacy);
+
+        assertThat(tokenRevocationService.isRevoked(legacy)).isFalse();
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    private static VerifiedToken token(String tokenId) {
+        Claims claims = Jwts.claims().setSubject("testuser").setId(tokenId)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L));
+        return VerifiedToken.from(claims);
+    }
+}
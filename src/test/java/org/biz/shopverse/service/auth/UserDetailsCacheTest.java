@@ -0,0 +1,114 @@
+package org.biz.shopverse.service.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDetailsCache userDetailsCache;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsCache = new UserDetailsCache(redisTemplate, redisMessageListenerContainer, meterRegistry);
+        ReflectionTestUtils.setField(userDetailsCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(userDetailsCache, "ttlSeconds", 60L);
+        userDetailsCache.init();
+
+        loads = new AtomicInteger();
+        loader = loginId -> {
+            loads.incrementAndGet();
+            return User.withUsername(loginId).password("{bcrypt}hash").authorities("ROLE_USER").build();
+        };
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 DB 를 거치지 않고, 호출마다 복사본을 돌려준다")
+    void get_Cached() {
+        // When
+        UserDetails first = userDetailsCache.get("testuser", loader);
+        UserDetails second = userDetailsCache.get("testuser", loader);
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPassword()).isEqualTo("{bcrypt}hash");
+        assertThat(meterRegistry.get("auth.user.cache.load").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 회원은 캐시하지 않는다")
+    void get_NotFound() {
+        assertThat(userDetailsCache.get("nobody", loginId -> {
+            loads.incrementAndGet();
+            return null;
+        })).isNull();
+        userDetailsCache.get("nobody", loginId -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다시 로드하고 다른 노드에 메시지를 발행한다")
+    void invalidate_Publishes() {
+        // Given
+        userDetailsCache.get("testuser", loader);
+
+        // When
+        userDetailsCache.invalidate("testuser");
+        userDetailsCache.get("testuser", loader);
+
+        // Then
+        assertThat(loads).hasValue(2);
+        verify(redisTemplate).convertAndSend(UserDetailsCache.INVALIDATION_CHANNEL, "testuser");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 해당 회원만 비운다")
+    void onMessage_Invalidates() {
+        // Given
+        userDetailsCache.get("testuser", loader);
+        userDetailsCache.get("other", loader);
+
+        // When
+        userDetailsCache.onMessage(new DefaultMessage(
+                UserDetailsCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "testuser".getBytes(StandardCharsets.UTF_8)), null);
+        userDetailsCache.get("testuser", loader);
+        userDetailsCache.get("other", loader);
+
+        // Then
+        assertThat(loads).hasValue(3);
+    }
+}
@@ -1,5 +1,8 @@
 package org.biz.shopverse.service.member;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.biz.shopverse.domain.member.Member;
@@ -8,23 +11,32 @@ import org.biz.shopverse.dto.common.ApiResponse;
 import org.biz.shopverse.dto.member.MemberWithRoles;
 import org.biz.shopverse.dto.member.request.MemberLoginRequest;
 import org.biz.shopverse.exception.CustomBusinessException;
+import org.biz.shopverse.exception.auth.JwtTokenExpiredException;
 import org.biz.shopverse.mapper.member.MemberMapper;
 import org.biz.shopverse.security.JwtTokenProvider;
+import org.biz.shopverse.security.VerifiedToken;
+import org.biz.shopverse.service.auth.AuthVersionService;
 import org.biz.shopverse.service.auth.JwtTokenRedisService;
+import org.biz.shopverse.service.auth.PasswordHashingService;
+import org.biz.shopverse.service.auth.TokenRevocationService;
+import org.biz.shopverse.service.auth.UserDetailsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -37,7 +49,7 @@ class MemberServiceLoginTest {
     private MemberMapper memberMapper;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -45,6 +57,15 @@ class MemberServiceLoginTest {
     @Mock
     private JwtTokenRedisService jwtTokenRedisService;
 
+    @Mock
+    private AuthVersionService authVersionService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @Mock
     private HttpServletRequest request;
 
@@ -81,8 +102,9 @@ class MemberServiceLoginTest {
     void login_Success() {
         // Given
         when(memberMapper.findByMemberWithRoles("testuser")).thenReturn(memberWithRoles);
-        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
-        when(jwtTokenProvider.generateAccessToken(anyString(), anyList(), anyLong())).thenReturn("access-token");
+        when(passwordHashingService.matches("password123", "encodedPassword")).thenReturn(true);
+        when(authVersionService.issue("testuser")).thenReturn(2L);
+        when(jwtTokenProvider.generateAccessToken(anyString(), anyList(), anyLong(), anyLong())).thenReturn("access-token");
         when(jwtTokenProvider.generateRefreshToken(anyString(), anyLong())).thenReturn("refresh-token");
 
         // When
@@ -96,12 +118,34 @@ class MemberServiceLoginTest {
         assertEquals("로그인이 완료되었습니다.", responseEntity.getBody().getMessage());
 
         verify(memberMapper, times(1)).findByMemberWithRoles("testuser");
-        verify(passwordEncoder, times(1)).matches("password123", "encodedPassword");
-        verify(jwtTokenProvider, times(1)).generateAccessToken("testuser", Arrays.asList("ROLE_USER"), 3600000L);
+        verify(passwordHashingService, times(1)).matches("password123", "encodedPassword");
+        verify(jwtTokenProvider, times(1)).generateAccessToken("testuser", Arrays.asList("ROLE_USER"), 2L, 3600000L);
         verify(jwtTokenProvider, times(1)).generateRefreshToken("testuser", 604800000L);
         verify(jwtTokenRedisService, times(1)).saveRefreshToken("testuser", "refresh-token", 604800000L);
     }
 
+    @Test
+    @DisplayName("로그인 성공 시 다시 해시한 비밀번호로 교체하고 캐시된 사용자 정보를 무효화")
+    @SuppressWarnings("unchecked")
+    void login_RehashesPassword() {
+        // Given
+        when(memberMapper.findByMemberWithRoles("testuser")).thenReturn(memberWithRoles);
+        when(passwordHashingService.matches("password123", "encodedPassword")).thenReturn(true);
+        when(jwtTokenProvider.generateAccessToken(anyString(), anyList(), anyLong(), anyLong())).thenReturn("access-token");
+        when(jwtTokenProvider.generateRefreshToken(anyString(), anyLong())).thenReturn("refresh-token");
+        when(memberMapper.updatePassword("testuser", "encodedPassword", "rehashedPassword")).thenReturn(1);
+        memberService.login(loginRequest, response);
+        ArgumentCaptor<Consumer<String>> store = ArgumentCaptor.forClass(Consumer.class);
+        verify(passwordHashingService).rehashIfNeeded(eq("password123"), eq("encodedPassword"), store.capture());
+
+        // When: 백그라운드 해시 완료
+        store.getValue().accept("rehashedPassword");
+
+        // Then
+        verify(memberMapper, times(1)).updatePassword("testuser", "encodedPassword", "rehashedPassword");
+        verify(userDetailsCache, times(1)).invalidate("testuser");
+    }
+
     @Test
     @DisplayName("로그인 실패 - 존재하지 않는 사용자")
     void login_Failure_UserNotFound() {
@@ -118,8 +162,8 @@ class MemberServiceLoginTest {
         assertEquals("권한, 정보가 존재하지 않는 사용자입니다.", exception.getMessage());
 
         verify(memberMapper, times(1)).findByMemberWithRoles("nonexistent");
-        verify(passwordEncoder, never()).matches(anyString(), anyString());
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), anyList(), anyLong());
+        verify(passwordHashingService, never()).matches(anyString(), anyString());
+        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), anyList(), anyLong(), anyLong());
         verify(jwtTokenProvider, never()).generateRefreshToken(anyString(), anyLong());
         verify(jwtTokenRedisService, never()).saveRefreshToken(anyString(), anyString(), anyLong());
     }
@@ -129,7 +173,7 @@ class MemberServiceLoginTest {
     void login_Failure_WrongPassword() {
         // Given
         when(memberMapper.findByMemberWithRoles("testuser")).thenReturn(memberWithRoles);
-        when(passwordEncoder.matches("wrongpassword", "encodedPassword")).thenReturn(false);
+        when(passwordHashingService.matches("wrongpassword", "encodedPassword")).thenReturn(false);
 
         loginRequest.setPassword("wrongpassword");
 
@@ -141,8 +185,8 @@ class MemberServiceLoginTest {
         assertEquals("잘못된 사용자 정보를 입력 하셨습니다.", exception.getMessage());
 
         verify(memberMapper, times(1)).findByMemberWithRoles("testuser");
-        verify(passwordEncoder, times(1)).matches("wrongpassword", "encodedPassword");
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), anyList(), anyLong());
+        verify(passwordHashingService, times(1)).matches("wrongpassword", "encodedPassword");
+        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), anyList(), anyLong(), anyLong());
         verify(jwtTokenProvider, never()).generateRefreshToken(anyString(), anyLong());
         verify(jwtTokenRedisService, never()).saveRefreshToken(anyString(), anyString(), anyLong());
     }
@@ -154,8 +198,8 @@ class MemberServiceLoginTest {
         memberWithRoles.setRoles("[\"ROLE_USER\",\"ROLE_ADMIN\"]"); // JSON 문자열 형태로 설정
         
         when(memberMapper.findByMemberWithRoles("adminuser")).thenReturn(memberWithRoles);
-        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
-        when(jwtTokenProvider.generateAccessToken(anyString(), anyList(), anyLong())).thenReturn("admin-access-token");
+        when(passwordHashingService.matches("password123", "encodedPassword")).thenReturn(true);
+        when(jwtTokenProvider.generateAccessToken(anyString(), anyList(), anyLong(), anyLong())).thenReturn("admin-access-token");
         when(jwtTokenProvider.generateRefreshToken(anyString(), anyLong())).thenReturn("admin-refresh-token");
 
         loginRequest.setLoginId("adminuser");
@@ -171,8 +215,8 @@ class MemberServiceLoginTest {
         assertEquals("로그인이 완료되었습니다.", responseEntity.getBody().getMessage());
 
         verify(memberMapper, times(1)).findByMemberWithRoles("adminuser");
-        verify(passwordEncoder, times(1)).matches("password123", "encodedPassword");
-        verify(jwtTokenProvider, times(1)).generateAccessToken("adminuser", Arrays.asList("ROLE_USER", "ROLE_ADMIN"), 3600000L);
+        verify(passwordHashingService, times(1)).matches("password123", "encodedPassword");
+        verify(jwtTokenProvider, times(1)).generateAccessToken("adminuser", Arrays.asList("ROLE_USER", "ROLE_ADMIN"), 0L, 3600000L);
         verify(jwtTokenProvider, times(1)).generateRefreshToken("adminuser", 604800000L);
         verify(jwtTokenRedisService, times(1)).saveRefreshToken("adminuser", "admin-refresh-token", 604800000L);
     }
@@ -184,8 +228,8 @@ class MemberServiceLoginTest {
         memberWithRoles.setRoles("[]"); // 빈 역할 배열
         
         when(memberMapper.findByMemberWithRoles("noroleuser")).thenReturn(memberWithRoles);
-        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
-        when(jwtTokenProvider.generateAccessToken(anyString(), anyList(), anyLong())).thenReturn("no-role-access-token");
+        when(passwordHashingService.matches("password123", "encodedPassword")).thenReturn(true);
+        when(jwtTokenProvider.generateAccessToken(anyString(), anyList(), anyLong(), anyLong())).thenReturn("no-role-access-token");
         when(jwtTokenProvider.generateRefreshToken(anyString(), anyLong())).thenReturn("no-role-refresh-token");
 
         loginRequest.setLoginId("noroleuser");
@@ -201,8 +245,8 @@ class MemberServiceLoginTest {
         assertEquals("로그인이 완료되었습니다.", responseEntity.getBody().getMessage());
 
         verify(memberMapper, times(1)).findByMemberWithRoles("noroleuser");
-        verify(passwordEncoder, times(1)).matches("password123", "encodedPassword");
-        verify(jwtTokenProvider, times(1)).generateAccessToken("noroleuser", Arrays.asList(), 3600000L);
+        verify(passwordHashingService, times(1)).matches("password123", "encodedPassword");
+        verify(jwtTokenProvider, times(1)).generateAccessToken("noroleuser", Arrays.asList(), 0L, 3600000L);
         verify(jwtTokenProvider, times(1)).generateRefreshToken("noroleuser", 604800000L);
         verify(jwtTokenRedisService, times(1)).saveRefreshToken("noroleuser", "no-role-refresh-token", 604800000L);
     }
@@ -212,7 +256,7 @@ class MemberServiceLoginTest {
     @DisplayName("로그아웃 성공 테스트")
     void logout_Success() {
         // When
-        ResponseEntity<ApiResponse<String>> responseEntity = memberService.logout(response);
+        ResponseEntity<ApiResponse<String>> responseEntity = memberService.logout(request, response);
 
         // Then
         assertNotNull(responseEntity);
@@ -220,6 +264,63 @@ class MemberServiceLoginTest {
         assertNotNull(responseEntity.getBody());
         assertTrue(responseEntity.getBody().isSuccess());
         assertEquals("로그아웃이 완료되었습니다.", responseEntity.getBody().getMessage());
+        verifyNoInteractions(tokenRevocationService, jwtTokenRedisService);
+        verify(response).addCookie(argThat(cookie -> "refreshToken".equals(cookie.getName()) && cookie.getMaxAge() == 0));
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 액세스 토큰을 폐기")
+    void logout_RevokesAccessToken() {
+        // Given
+        Claims claims = Jwts.claims().setSubject("testuser").setId("token-id")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L));
+        VerifiedToken accessToken = VerifiedToken.from(claims);
+        when(request.getHeader("Authorization")).thenReturn("Bearer access-token");
+        when(jwtTokenProvider.verify("access-token")).thenReturn(accessToken);
+
+        // When
+        ResponseEntity<ApiResponse<String>> responseEntity = memberService.logout(request, response);
+
+        // Then
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        verify(tokenRevocationService, times(1)).revoke(accessToken);
+        verify(jwtTokenRedisService, times(1)).deleteRefreshToken("testuser");
+    }
+
+    @Test
+    @DisplayName("폐기 목록(Redis) 장애여도 리프레시 토큰/쿠키는 지우고 로그아웃")
+    void logout_RevokeFailure() {
+        // Given
+        VerifiedToken accessToken = VerifiedToken.from(Jwts.claims().setSubject("testuser").setId("token-id")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L)));
+        when(request.getHeader("Authorization")).thenReturn("Bearer access-token");
+        when(jwtTokenProvider.verify("access-token")).thenReturn(accessToken);
+        doThrow(new RedisConnectionFailureException("down")).when(tokenRevocationService).revoke(accessToken);
+
+        // When
+        ResponseEntity<ApiResponse<String>> responseEntity = memberService.logout(request, response);
+
+        // Then
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        verify(jwtTokenRedisService, times(1)).deleteRefreshToken("testuser");
+        verify(response).addCookie(argThat(cookie -> "refreshToken".equals(cookie.getName()) && cookie.getMaxAge() == 0));
+    }
+
+    @Test
+    @DisplayName("액세스 토큰이 만료됐으면 리프레시 토큰 쿠키의 회원으로 저장된 토큰을 지운다")
+    void logout_ExpiredAccessToken() {
+        // Given
+        when(request.getHeader("Authorization")).thenReturn("Bearer access-token");
+        when(jwtTokenProvider.verify("access-token")).thenThrow(new JwtTokenExpiredException("expired"));
+        when(request.getCookies()).thenReturn(new Cookie[]{new Cookie("refreshToken", "refresh-token")});
+        when(jwtTokenProvider.verify("refresh-token")).thenReturn(VerifiedToken.from(Jwts.claims().setSubject("testuser")));
+
+        // When
+        memberService.logout(request, response);
+
+        // Then
+        verifyNoInteractions(tokenRevocationService);
+        verify(jwtTokenRedisService, times(1)).deleteRefreshToken("testuser");
     }
 
     // ==================== 토큰 갱신 테스트 ====================
@@ -235,7 +336,7 @@ class MemberServiceLoginTest {
         when(jwtTokenProvider.getUserId(validRefreshToken)).thenReturn(loginId);
         when(jwtTokenRedisService.getRefreshToken(loginId)).thenReturn(validRefreshToken);
         when(memberMapper.findByMemberWithRoles(loginId)).thenReturn(memberWithRoles);
-        when(jwtTokenProvider.generateAccessToken(anyString(), (List<String>) any(), anyLong())).thenReturn(newAccessToken);
+        when(jwtTokenProvider.generateAccessToken(anyString(), (List<String>) any(), anyLong(), anyLong())).thenReturn(newAccessToken);
 
         // When
         ResponseEntity<ApiResponse<TokenResponse>> responseEntity = memberService.reissueAccessToken(request, response);
@@ -251,7 +352,7 @@ class MemberServiceLoginTest {
         verify(jwtTokenProvider, times(1)).getUserId(validRefreshToken);
         verify(jwtTokenRedisService, times(1)).getRefreshToken(loginId);
         verify(memberMapper, times(1)).findByMemberWithRoles(loginId);
-        verify(jwtTokenProvider, times(1)).generateAccessToken(loginId, Arrays.asList("ROLE_USER"), 3600000L);
+        verify(jwtTokenProvider, times(1)).generateAccessToken(loginId, Arrays.asList("ROLE_USER"), 0L, 3600000L);
     }
 
     @Test
@@ -274,7 +375,7 @@ class MemberServiceLoginTest {
         verify(jwtTokenProvider, never()).getUserId(anyString());
         verify(jwtTokenRedisService, never()).getRefreshToken(anyString());
         verify(memberMapper, never()).findByMemberWithRoles(anyString());
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), (List<String>) any(), anyLong());
+        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), (List<String>) any(), anyLong(), anyLong());
     }
 
     @Test
@@ -301,7 +402,7 @@ class MemberServiceLoginTest {
         verify(jwtTokenProvider, times(1)).getUserId(validRefreshToken);
         verify(jwtTokenRedisService, times(1)).getRefreshToken(loginId);
         verify(memberMapper, never()).findByMemberWithRoles(anyString());
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), (List<String>) any(), anyLong());
+        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), (List<String>) any(), anyLong(), anyLong());
     }
 
     @Test
@@ -328,6 +429,6 @@ class MemberServiceLoginTest {
         verify(jwtTokenProvider, times(1)).getUserId(validRefreshToken);
         verify(jwtTokenRedisService, times(1)).getRefreshToken(loginId);
         verify(memberMapper, times(1)).findByMemberWithRoles(loginId);
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), (List<String>) any(), anyLong());
+        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), (List<String>) any(), anyLong(), anyLong());
     }
 }
@@ -1,11 +1,18 @@
 package org.biz.shopverse.service.member;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.biz.shopverse.dto.member.request.MemberUpdateRequest;
 import org.biz.shopverse.dto.member.response.MemberResponse;
 import org.biz.shopverse.dto.common.ApiResponse;
 import org.biz.shopverse.mapper.member.MemberMapper;
+import org.biz.shopverse.exception.auth.JwtInvalidException;
 import org.biz.shopverse.security.JwtTokenProvider;
+import org.biz.shopverse.security.VerifiedToken;
+import org.biz.shopverse.service.auth.AuthVersionService;
 import org.biz.shopverse.service.auth.JwtTokenRedisService;
+import org.biz.shopverse.service.auth.PasswordHashingService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,10 +21,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -29,7 +39,7 @@ class MemberServiceUpdateProfileTest {
     private MemberMapper memberMapper;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -37,6 +47,9 @@ class MemberServiceUpdateProfileTest {
     @Mock
     private JwtTokenRedisService jwtTokenRedisService;
 
+    @Mock
+    private AuthVersionService authVersionService;
+
     @Mock
     private HttpServletRequest request;
 
@@ -70,18 +83,27 @@ class MemberServiceUpdateProfileTest {
                 .build();
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // JwtFilter 가 검증 후 보안 컨텍스트에 넣는 것과 같은 상태를 만든다
+    private void authenticate(String loginId, String role) {
+        Claims claims = Jwts.claims().setSubject(loginId);
+        claims.put("roles", List.of(role));
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(loginId, null, List.of());
+        authentication.setDetails(VerifiedToken.from(claims));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     @Test
     void updateProfile_Success() {
         // Given
-        String accessToken = "valid.access.token";
-        String bearerToken = "Bearer " + accessToken;
         String loginId = "testuser";
         String role = "USER";
 
-        when(request.getHeader("Authorization")).thenReturn(bearerToken);
-        when(jwtTokenProvider.isTokenValid(accessToken)).thenReturn(true);
-        when(jwtTokenProvider.getUserId(accessToken)).thenReturn(loginId);
-        when(jwtTokenProvider.getUserRole(accessToken)).thenReturn(role);
+        authenticate(loginId, role);
         when(memberMapper.findByLoginId(loginId)).thenReturn(currentMember);
         when(memberMapper.existsByEmail(memberUpdateRequest.getEmail())).thenReturn(false);
         when(memberMapper.updateMember(eq(loginId), any(MemberUpdateRequest.class))).thenReturn(1);
@@ -105,6 +127,31 @@ class MemberServiceUpdateProfileTest {
         assertEquals(role, result.getRole());
 
         verify(memberMapper).updateMember(eq(loginId), any(MemberUpdateRequest.class));
+        // JwtFilter 가 검증한 토큰을 쓰고 다시 파싱하지 않는다
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    void updateProfile_VerifiesHeaderTokenWithoutSecurityContext() {
+        // Given: 필터를 거치지 않은 호출은 헤더 토큰을 한 번만 검증
+        String accessToken = "valid.access.token";
+        Claims claims = Jwts.claims().setSubject("testuser");
+        claims.put("roles", List.of("ROLE_USER"));
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + accessToken);
+        when(jwtTokenProvider.verify(accessToken)).thenReturn(VerifiedToken.from(claims));
+        when(memberMapper.findByLoginId("testuser")).thenReturn(currentMember);
+        when(memberMapper.existsByEmail(memberUpdateRequest.getEmail())).thenReturn(false);
+        when(memberMapper.updateMember(eq("testuser"), any(MemberUpdateRequest.class))).thenReturn(1);
+
+        // When
+        ResponseEntity<ApiResponse<MemberResponse>> response = memberService.updateProfile(request, memberUpdateRequest);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("ROLE_USER", response.getBody().getData().getRole());
+        verify(jwtTokenProvider, times(1)).verify(accessToken);
+        verifyNoMoreInteractions(jwtTokenProvider);
     }
 
     @Test
@@ -131,7 +178,7 @@ class MemberServiceUpdateProfileTest {
         String bearerToken = "Bearer " + accessToken;
 
         when(request.getHeader("Authorization")).thenReturn(bearerToken);
-        when(jwtTokenProvider.isTokenValid(accessToken)).thenReturn(false);
+        when(jwtTokenProvider.verify(accessToken)).thenThrow(new JwtInvalidException("JWT is invalid"));
 
         // When
         ResponseEntity<ApiResponse<MemberResponse>> response = memberService.updateProfile(request, memberUpdateRequest);
@@ -148,13 +195,9 @@ class MemberServiceUpdateProfileTest {
     @Test
     void updateProfile_EmailAlreadyExists() {
         // Given
-        String accessToken = "valid.access.token";
-        String bearerToken = "Bearer " + accessToken;
         String loginId = "testuser";
 
-        when(request.getHeader("Authorization")).thenReturn(bearerToken);
-        when(jwtTokenProvider.isTokenValid(accessToken)).thenReturn(true);
-        when(jwtTokenProvider.getUserId(accessToken)).thenReturn(loginId);
+        authenticate(loginId, "ROLE_USER");
         when(memberMapper.findByLoginId(loginId)).thenReturn(currentMember);
         when(memberMapper.existsByEmail(memberUpdateRequest.getEmail())).thenReturn(true);
 
@@ -173,13 +216,9 @@ class MemberServiceUpdateProfileTest {
     @Test
     void updateProfile_UpdateFailed() {
         // Given
-        String accessToken = "valid.access.token";
-        String bearerToken = "Bearer " + accessToken;
         String loginId = "testuser";
 
-        when(request.getHeader("Authorization")).thenReturn(bearerToken);
-        when(jwtTokenProvider.isTokenValid(accessToken)).thenReturn(true);
-        when(jwtTokenProvider.getUserId(accessToken)).thenReturn(loginId);
+        authenticate(loginId, "ROLE_USER");
         when(memberMapper.findByLoginId(loginId)).thenReturn(currentMember);
         when(memberMapper.existsByEmail(memberUpdateRequest.getEmail())).thenReturn(false);
         when(memberMapper.updateMember(eq(loginId), any(MemberUpdateRequest.class))).thenReturn(0);
@@ -199,13 +238,9 @@ class MemberServiceUpdateProfileTest {
     @Test
     void updateProfile_UserNotFound() {
         // Given
-        String accessToken = "valid.access.token";
-        String bearerToken = "Bearer " + accessToken;
         String loginId = "testuser";
 
-        when(request.getHeader("Authorization")).thenReturn(bearerToken);
-        when(jwtTokenProvider.isTokenValid(accessToken)).thenReturn(true);
-        when(jwtTokenProvider.getUserId(accessToken)).thenReturn(loginId);
+        authenticate(loginId, "ROLE_USER");
         when(memberMapper.findByLoginId(loginId)).thenReturn(null);
 
         // When
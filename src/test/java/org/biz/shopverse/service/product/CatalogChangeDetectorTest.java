@@ -0,0 +1,112 @@
+package org.biz.shopverse.service.product;
+
+import org.biz.shopverse.dto.product.CategoryChange;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogChangeDetectorTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private CategoryTreeIndex categoryTreeIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CatalogChangeDetector catalogChangeDetector;
+
+    @Test
+    @DisplayName("첫 호출은 기준 시각만 기록하고, 이후 변경된 카테고리로 이벤트 발행")
+    void detect_PublishesChangedCategories() {
+        // Given
+        when(productMapper.selectCategoriesLastUpdatedAt()).thenReturn(100L);
+        when(productMapper.selectProductsLastUpdatedAt()).thenReturn(1000L);
+        when(productMapper.selectChangedCategories(1000L)).thenReturn(List.of(
+                CategoryChange.builder().categoryId(3L).updatedAtMillis(1500L).build(),
+                CategoryChange.builder().categoryId(7L).updatedAtMillis(2000L).build()
+        ));
+        when(productMapper.selectChangedCategories(2000L)).thenReturn(List.of());
+
+        // When
+        catalogChangeDetector.detect();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        catalogChangeDetector.detect();
+        catalogChangeDetector.detect();
+
+        // Then
+        ArgumentCaptor<CatalogChangedEvent> event = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().getCategoryIds()).containsExactlyInAnyOrder(3L, 7L);
+        verify(categoryTreeIndex, never()).refresh();
+    }
+
+    @Test
+    @DisplayName("overlap 구간을 다시 읽어 늦게 커밋된 변경을 발행하고, 이미 발행한 변경은 다시 발행하지 않는다")
+    void detect_OverlapCatchesLateCommit() {
+        // Given
+        ReflectionTestUtils.setField(catalogChangeDetector, "overlapMs", 500L);
+        when(productMapper.selectCategoriesLastUpdatedAt()).thenReturn(100L);
+        when(productMapper.selectProductsLastUpdatedAt()).thenReturn(1000L);
+        when(productMapper.selectChangedCategories(500L)).thenReturn(List.of(change(3L, 1500L, 1L)));
+        // 두 번째 확인: 같은 변경을 다시 읽음 → 세 번째 확인: 1200 에 시작한 트랜잭션이 늦게 커밋됨
+        when(productMapper.selectChangedCategories(1000L)).thenReturn(
+                List.of(change(3L, 1500L, 1L)),
+                List.of(change(3L, 1500L, 2L)));
+
+        // When
+        catalogChangeDetector.detect();
+        catalogChangeDetector.detect();
+        catalogChangeDetector.detect();
+        catalogChangeDetector.detect();
+
+        // Then
+        ArgumentCaptor<CatalogChangedEvent> event = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(event.capture());
+        assertThat(event.getAllValues()).allSatisfy(e -> assertThat(e.getCategoryIds()).containsExactly(3L));
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 시 트리 재구성 후 전체 무효화 이벤트 발행")
+    void detect_CategoryChanged() {
+        // Given
+        when(productMapper.selectCategoriesLastUpdatedAt()).thenReturn(100L, 200L);
+        when(productMapper.selectProductsLastUpdatedAt()).thenReturn(1000L);
+        when(productMapper.selectChangedCategories(1000L)).thenReturn(List.of());
+
+        // When
+        catalogChangeDetector.detect();
+        catalogChangeDetector.detect();
+
+        // Then
+        ArgumentCaptor<CatalogChangedEvent> event = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().isAll()).isTrue();
+        verify(categoryTreeIndex).refresh();
+    }
+
+    private static CategoryChange change(Long categoryId, long updatedAtMillis, long changeCount) {
+        return CategoryChange.builder().categoryId(categoryId).updatedAtMillis(updatedAtMillis).changeCount(changeCount).build();
+    }
+}
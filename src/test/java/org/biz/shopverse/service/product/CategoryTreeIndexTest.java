@@ -0,0 +1,85 @@
+package org.biz.shopverse.service.product;
+
+import org.biz.shopverse.dto.product.response.CategoryResponse;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeIndexTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @InjectMocks
+    private CategoryTreeIndex categoryTreeIndex;
+
+    @Test
+    @DisplayName("하위 카테고리 ID 를 자기 자신 포함으로 계산")
+    void resolve_Descendants() {
+        // Given: 1 > 2 > 4, 1 > 3, 5 (독립)
+        when(productMapper.findAllCategories()).thenReturn(categories());
+
+        // When & Then
+        assertThat(categoryTreeIndex.resolve(1L)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(categoryTreeIndex.resolve(2L)).containsExactlyInAnyOrder(2L, 4L);
+        assertThat(categoryTreeIndex.resolve(5L)).containsExactly(5L);
+        verify(productMapper, times(1)).findAllCategories();
+    }
+
+    @Test
+    @DisplayName("카테고리 미지정/인덱스에 없는 카테고리 처리")
+    void resolve_NullAndUnknown() {
+        // Given
+        when(productMapper.findAllCategories()).thenReturn(categories());
+
+        // When & Then
+        assertThat(categoryTreeIndex.resolve(null)).isNull();
+        assertThat(categoryTreeIndex.resolve(99L)).containsExactly(99L);
+    }
+
+    @Test
+    @DisplayName("상위 카테고리 ID 를 자기 자신 포함, 가까운 순으로 계산")
+    void ancestors() {
+        // Given
+        when(productMapper.findAllCategories()).thenReturn(categories());
+
+        // When & Then
+        assertThat(categoryTreeIndex.ancestors(4L)).containsExactly(4L, 2L, 1L);
+        assertThat(categoryTreeIndex.ancestors(5L)).containsExactly(5L);
+        assertThat(categoryTreeIndex.ancestors(99L)).containsExactly(99L);
+    }
+
+    @Test
+    @DisplayName("순환 참조가 있어도 재구성이 끝난다")
+    void build_WithCycle() {
+        List<CategoryResponse> cyclic = Arrays.asList(
+                CategoryResponse.builder().id(1L).parentId(2L).build(),
+                CategoryResponse.builder().id(2L).parentId(1L).build()
+        );
+
+        assertThat(CategoryTreeIndex.build(cyclic).get(1L)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private List<CategoryResponse> categories() {
+        return Arrays.asList(
+                CategoryResponse.builder().id(1L).build(),
+                CategoryResponse.builder().id(2L).parentId(1L).build(),
+                CategoryResponse.builder().id(3L).parentId(1L).build(),
+                CategoryResponse.builder().id(4L).parentId(2L).build(),
+                CategoryResponse.builder().id(5L).build()
+        );
+    }
+}
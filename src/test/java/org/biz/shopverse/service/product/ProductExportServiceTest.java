@@ -0,0 +1,105 @@
+package org.biz.shopverse.service.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.biz.shopverse.dto.product.response.ProductResponse;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductExportServiceTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private Cursor<ProductResponse> cursor;
+
+    private ProductExportService productExportService;
+
+    @BeforeEach
+    void setUp() {
+        productExportService = new ProductExportService(productMapper, new ObjectMapper());
+        productExportService.init();
+    }
+
+    @Test
+    @DisplayName("커서의 상품을 한 줄에 하나씩 NDJSON 으로 쓰고 커서를 닫는다")
+    void export_Ndjson() throws Exception {
+        // Given
+        List<ProductResponse> products = Arrays.asList(
+                ProductResponse.builder().id(1L).name("상품1").price(new BigDecimal("1000")).status("active").visibility("visible").build(),
+                ProductResponse.builder().id(2L).name("상품2").status("active").visibility("visible").build()
+        );
+        when(productMapper.streamProductsForExport(null)).thenReturn(cursor);
+        when(cursor.iterator()).thenReturn(products.iterator());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = productExportService.export(out, null);
+
+        // Then: null 필드는 생략
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"name\":\"상품1\",\"price\":1000,\"status\":\"active\",\"visibility\":\"visible\"}\n" +
+                "{\"id\":2,\"name\":\"상품2\",\"status\":\"active\",\"visibility\":\"visible\"}\n");
+        verify(cursor).close();
+    }
+
+    @Test
+    @DisplayName("증분 내보내기 - 비노출/삭제된 상품은 tombstone 행으로 쓴다")
+    void export_Tombstones() throws Exception {
+        // Given
+        List<ProductResponse> products = Arrays.asList(
+                ProductResponse.builder().id(1L).name("상품1").status("active").visibility("visible").build(),
+                ProductResponse.builder().id(2L).name("상품2").status("active").visibility("hidden").build(),
+                ProductResponse.builder().id(3L).name("상품3").status("active").visibility("visible")
+                        .deletedAt("2024-01-20T14:25:00").build()
+        );
+        when(productMapper.streamProductsForExport(1700000000000L)).thenReturn(cursor);
+        when(cursor.iterator()).thenReturn(products.iterator());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = productExportService.export(out, 1700000000000L);
+
+        // Then
+        assertThat(count).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"name\":\"상품1\",\"status\":\"active\",\"visibility\":\"visible\"}\n" +
+                "{\"id\":2,\"status\":\"active\",\"visibility\":\"hidden\",\"deleted\":true}\n" +
+                "{\"id\":3,\"status\":\"active\",\"visibility\":\"visible\",\"deletedAt\":\"2024-01-20T14:25:00\",\"deleted\":true}\n");
+    }
+
+    @Test
+    @DisplayName("내보낼 상품이 없으면 빈 본문")
+    void export_Empty() throws Exception {
+        // Given
+        when(productMapper.streamProductsForExport(1700000000000L)).thenReturn(cursor);
+        when(cursor.iterator()).thenReturn(Collections.emptyIterator());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = productExportService.export(out, 1700000000000L);
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(out.size()).isZero();
+    }
+}
@@ -0,0 +1,175 @@
+package org.biz.shopverse.service.product;
+
+import org.biz.shopverse.dto.product.FacetCountRow;
+import org.biz.shopverse.dto.product.response.ProductFacetBucket;
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.biz.shopverse.service.product.cache.ProductFacetCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductFacetServiceTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private CategoryTreeIndex categoryTreeIndex;
+
+    @Mock
+    private ProductFacetCache productFacetCache;
+
+    @InjectMocks
+    private ProductFacetService productFacetService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(productFacetService, "priceBounds", new Long[]{10000L, 30000L, 50000L});
+        ReflectionTestUtils.setField(productFacetService, "searchEngine", "like");
+        ReflectionTestUtils.setField(productFacetService, "listSource", "products");
+    }
+
+    @Test
+    @DisplayName("요청한 facet 을 한 번의 쿼리로 집계하고 facet 별 버킷으로 나눈다")
+    void getFacets_SingleQuery() {
+        // Given
+        givenCacheMiss();
+        Long[] categoryIds = {1L, 2L, 3L};
+        when(categoryTreeIndex.resolve(1L)).thenReturn(categoryIds);
+        when(productMapper.selectFacetCounts(aryEq(categoryIds), isNull(), eq(Set.of("brand", "price", "rating")), any(), eq(false)))
+                .thenReturn(Arrays.asList(
+                        row("brand", "7", 3L),
+                        row("brand", "9", 5L),
+                        row("brand", null, 2L),
+                        row("price", "3", 1L),
+                        row("price", "0", 4L),
+                        row("price", "1", 6L),
+                        row("rating", "4", 7L),
+                        row("rating", "3", 2L)
+                ));
+
+        // When
+        Map<String, List<ProductFacetBucket>> facets = productFacetService.getFacets(1L, " ", "rating,brand,price");
+
+        // Then
+        assertThat(facets).containsOnlyKeys("brand", "price", "rating");
+        assertThat(facets.get("brand")).extracting(ProductFacetBucket::getValue).containsExactly("9", "7");
+        assertThat(facets.get("price")).extracting(ProductFacetBucket::getValue).containsExactly("-10000", "10000-30000", "50000-");
+        assertThat(facets.get("rating")).extracting(ProductFacetBucket::getValue).containsExactly("4", "3");
+    }
+
+    @Test
+    @DisplayName("카테고리 facet 은 선택한 카테고리의 바로 아래 카테고리 단위로 합산")
+    void getFacets_ChildCategories() {
+        // Given: 1 > 2 > 4, 1 > 3
+        givenCacheMiss();
+        when(categoryTreeIndex.resolve(1L)).thenReturn(new Long[]{1L, 2L, 3L, 4L});
+        when(categoryTreeIndex.ancestors(1L)).thenReturn(new Long[]{1L});
+        when(categoryTreeIndex.ancestors(2L)).thenReturn(new Long[]{2L, 1L});
+        when(categoryTreeIndex.ancestors(3L)).thenReturn(new Long[]{3L, 1L});
+        when(categoryTreeIndex.ancestors(4L)).thenReturn(new Long[]{4L, 2L, 1L});
+        when(productMapper.selectFacetCounts(any(), isNull(), eq(Set.of("category")), any(), eq(false)))
+                .thenReturn(Arrays.asList(
+                        row("category", "1", 10L),
+                        row("category", "2", 1L),
+                        row("category", "3", 3L),
+                        row("category", "4", 4L)
+                ));
+
+        // When
+        List<ProductFacetBucket> buckets = productFacetService.getFacets(1L, null, "category").get("category");
+
+        // Then: 1 에 직접 속한 상품은 제외, 4 는 2 로 합산
+        assertThat(buckets).extracting(ProductFacetBucket::getValue).containsExactly("2", "3");
+        assertThat(buckets).extracting(ProductFacetBucket::getCount).containsExactly(5L, 3L);
+    }
+
+    @Test
+    @DisplayName("facet 순서가 달라도 같은 캐시 키를 사용")
+    void getFacets_NormalizedKey() {
+        // Given
+        when(productFacetCache.get(any(), any())).thenReturn(Map.of());
+
+        // When
+        productFacetService.getFacets(5L, "이어폰 ", "price,brand");
+
+        // Then
+        verify(productFacetCache).get(eq(new ProductFacetCache.Key(5L, "이어폰", "brand,price")), any());
+        verify(productMapper, never()).selectFacetCounts(any(), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("listing 원본이면 검색어가 없을 때만 product_listing 을 집계한다")
+    void getFacets_ListingSource() {
+        // Given
+        ReflectionTestUtils.setField(productFacetService, "listSource", "listing");
+        givenCacheMiss();
+        when(productMapper.selectFacetCounts(any(), any(), eq(Set.of("brand")), any(), anyBoolean())).thenReturn(List.of());
+
+        // When
+        productFacetService.getFacets(null, null, "brand");
+        productFacetService.getFacets(null, "이어폰", "brand");
+
+        // Then: 검색 결과는 LIKE 엔진이 products 에서 조회한다
+        verify(productMapper).selectFacetCounts(isNull(), isNull(), eq(Set.of("brand")), any(), eq(true));
+        verify(productMapper).selectFacetCounts(isNull(), eq("이어폰"), eq(Set.of("brand")), any(), eq(false));
+    }
+
+    @Test
+    @DisplayName("검색어가 있으면 LIKE 엔진에서만 facet 을 지원")
+    void supports() {
+        assertThat(productFacetService.supports("이어폰")).isTrue();
+
+        ReflectionTestUtils.setField(productFacetService, "searchEngine", "index");
+        assertThat(productFacetService.supports("이어폰")).isFalse();
+        assertThat(productFacetService.supports(" ")).isTrue();
+        assertThat(productFacetService.supports(null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 facet 은 예외")
+    void getFacets_Unsupported() {
+        assertThatThrownBy(() -> productFacetService.getFacets(null, null, "brand,COLOR"))
+                .isInstanceOf(CustomBusinessException.class)
+                .hasMessage("지원하지 않는 facet 입니다: color");
+    }
+
+    @Test
+    @DisplayName("최상위 / 중간 카테고리 기준 바로 아래 카테고리 계산")
+    void childOf() {
+        assertThat(ProductFacetService.childOf(null, new Long[]{4L, 2L, 1L})).isEqualTo(1L);
+        assertThat(ProductFacetService.childOf(1L, new Long[]{4L, 2L, 1L})).isEqualTo(2L);
+        assertThat(ProductFacetService.childOf(2L, new Long[]{4L, 2L, 1L})).isEqualTo(4L);
+        assertThat(ProductFacetService.childOf(4L, new Long[]{4L, 2L, 1L})).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenCacheMiss() {
+        when(productFacetCache.get(any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1, Function.class).apply(invocation.getArgument(0)));
+    }
+
+    private FacetCountRow row(String facet, String bucket, Long count) {
+        return FacetCountRow.builder().facet(facet).bucket(bucket).count(count).build();
+    }
+}
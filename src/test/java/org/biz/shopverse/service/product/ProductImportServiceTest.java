@@ -0,0 +1,116 @@
+package org.biz.shopverse.service.product;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.biz.shopverse.service.product.feed.FeedFormat;
+import org.biz.shopverse.service.product.feed.ProductImportJob;
+import org.biz.shopverse.service.product.feed.ProductImportLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceTest {
+
+    @Mock
+    private ProductImportLoader productImportLoader;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ProductImportService productImportService;
+
+    private final InputStream feed = new ByteArrayInputStream(new byte[0]);
+
+    @BeforeEach
+    void setUp() {
+        productImportService = new ProductImportService(productImportLoader, eventPublisher, new SimpleMeterRegistry());
+        productImportService.init();
+    }
+
+    @Test
+    @DisplayName("가져오기가 끝나면 영향받은 카테고리만 무효화 이벤트를 발행하고 작업을 조회할 수 있다")
+    void importFeed_Completed() throws Exception {
+        // Given
+        when(productImportLoader.load(any(), any())).thenReturn(Set.of(3L, 5L));
+
+        // When
+        ProductImportJob job = productImportService.importFeed(feed, FeedFormat.CSV);
+
+        // Then
+        assertThat(job.getPhase()).isEqualTo(ProductImportJob.Phase.COMPLETED);
+        assertThat(job.getFinishedAt()).isNotNull();
+        ArgumentCaptor<CatalogChangedEvent> event = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getCategoryIds()).containsExactlyInAnyOrder(3L, 5L);
+        assertThat(productImportService.getJob(job.getJobId())).isSameAs(job);
+        assertThat(productImportService.getRecentJobs()).containsExactly(job);
+    }
+
+    @Test
+    @DisplayName("적재 실패 시 작업은 FAILED, 이벤트 없음, 다음 가져오기는 다시 실행 가능")
+    void importFeed_Failed() throws Exception {
+        // Given
+        when(productImportLoader.load(any(), any())).thenThrow(new IOException("line 3: JSON 형식 오류"));
+
+        // When & Then
+        assertThatThrownBy(() -> productImportService.importFeed(feed, FeedFormat.NDJSON))
+                .isInstanceOf(CustomBusinessException.class)
+                .hasMessageContaining("line 3");
+        ProductImportJob failed = productImportService.getRecentJobs().get(0);
+        assertThat(failed.getPhase()).isEqualTo(ProductImportJob.Phase.FAILED);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        // 실행 표시가 해제되어 다음 가져오기 가능
+        doReturn(Set.of()).when(productImportLoader).load(any(), any());
+        assertThat(productImportService.importFeed(feed, FeedFormat.CSV).getPhase())
+                .isEqualTo(ProductImportJob.Phase.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("진행 중인 가져오기가 있으면 409")
+    void importFeed_AlreadyRunning() throws Exception {
+        // Given: 적재 중에 두 번째 요청
+        when(productImportLoader.load(any(), any())).thenAnswer(invocation -> {
+            assertThatThrownBy(() -> productImportService.importFeed(feed, FeedFormat.CSV))
+                    .isInstanceOfSatisfying(CustomBusinessException.class,
+                            e -> assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.CONFLICT));
+            return Set.of(1L);
+        });
+
+        // When
+        ProductImportJob job = productImportService.importFeed(feed, FeedFormat.CSV);
+
+        // Then
+        assertThat(job.getPhase()).isEqualTo(ProductImportJob.Phase.COMPLETED);
+        assertThat(productImportService.getRecentJobs()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("없는 작업 ID 는 404")
+    void getJob_NotFound() {
+        assertThatThrownBy(() -> productImportService.getJob("missing"))
+                .isInstanceOfSatisfying(CustomBusinessException.class,
+                        e -> assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+}
@@ -0,0 +1,252 @@
+package org.biz.shopverse.service.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.biz.shopverse.dto.product.ProductPageRow;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductPageFanOutTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductPageFanOut productPageFanOut;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productPageFanOut = new ProductPageFanOut(productMapper, meterRegistry, transactionManager);
+        ReflectionTestUtils.setField(productPageFanOut, "poolSize", 4);
+        ReflectionTestUtils.setField(productPageFanOut, "queueCapacity", 10);
+        ReflectionTestUtils.setField(productPageFanOut, "countPoolSize", 2);
+        ReflectionTestUtils.setField(productPageFanOut, "countQueueCapacity", 2);
+        ReflectionTestUtils.setField(productPageFanOut, "countStatementTimeoutMs", 500L);
+        ReflectionTestUtils.setField(productPageFanOut, "countTimeoutMs", 100L);
+        ReflectionTestUtils.setField(productPageFanOut, "pageTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(productPageFanOut, "countCacheTtlSeconds", 300L);
+        productPageFanOut.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        productPageFanOut.shutdown();
+    }
+
+    @Test
+    @DisplayName("건수가 제한 시간 안에 끝나면 정확한 건수")
+    void load_ExactCount() {
+        // Given
+        Long[] categoryIds = {1L};
+        when(productMapper.countProducts(categoryIds, null)).thenReturn(42L);
+        when(productMapper.selectProductsPaged(categoryIds, "latest", 0, 2, null)).thenReturn(rows(1, 2));
+
+        // When
+        ProductPageFanOut.Result result = productPageFanOut.load(categoryIds, "latest", 0, 2, false);
+
+        // Then
+        assertThat(result.getRows()).hasSize(2);
+        assertThat(result.getTotalCount()).isEqualTo(42);
+        assertThat(result.isEstimated()).isFalse();
+        assertThat(meterRegistry.counter("product.list.parallel.count", "result", "exact").count()).isEqualTo(1);
+        verify(productMapper).setLocalStatementTimeout(500L);
+    }
+
+    @Test
+    @DisplayName("같은 조건의 건수 쿼리가 실행 중이면 새로 시작하지 않고 그 결과를 기다린다")
+    void load_SingleInFlightCountPerKey() {
+        // Given
+        Long[] categoryIds = {7L};
+        when(productMapper.countProducts(categoryIds, null)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 30L;
+        });
+        when(productMapper.selectProductsPaged(categoryIds, null, 0, 10, null)).thenReturn(rows(1, 10));
+
+        // When: 건수가 늦는 동안 같은 조건으로 세 번 요청
+        for (int i = 0; i < 3; i++) {
+            assertThat(productPageFanOut.load(categoryIds, null, 0, 10, false).isEstimated()).isTrue();
+        }
+        release.countDown();
+        awaitCachedCount(categoryIds);
+
+        // Then
+        verify(productMapper, times(1)).countProducts(categoryIds, null);
+    }
+
+    @Test
+    @DisplayName("건수 풀이 느린 건수로 가득 차도 페이지는 바로 조회하고 건수는 추정치")
+    void load_CountPoolSaturated() {
+        // Given: 건수 풀(스레드 2 + 대기열 2)을 서로 다른 조건의 느린 건수로 채운다
+        when(productMapper.countProducts(any(), isNull())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 1L;
+        });
+        when(productMapper.selectProductsPaged(any(), isNull(), eq(0), eq(2), isNull())).thenReturn(rows(1, 2));
+        for (long categoryId = 1; categoryId <= 4; categoryId++) {
+            productPageFanOut.load(new Long[]{categoryId}, null, 0, 2, false);
+        }
+
+        // When
+        ProductPageFanOut.Result result = productPageFanOut.load(new Long[]{5L}, null, 0, 2, false);
+
+        // Then
+        assertThat(result.getRows()).hasSize(2);
+        assertThat(result.isEstimated()).isTrue();
+        verify(productMapper, never()).countProducts(new Long[]{5L}, null);
+    }
+
+    @Test
+    @DisplayName("건수가 늦으면 페이지를 기다리게 하지 않고 추정치(전체 목록은 reltuples)로 응답")
+    void load_SlowCountEstimated() {
+        // Given
+        when(productMapper.countProducts(null, null)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 1000L;
+        });
+        when(productMapper.selectProductsPaged(null, null, 0, 2, null)).thenReturn(rows(1, 2));
+        when(productMapper.estimateRowCount(false)).thenReturn(950L);
+
+        // When
+        ProductPageFanOut.Result result = productPageFanOut.load(null, null, 0, 2, false);
+
+        // Then
+        assertThat(result.getTotalCount()).isEqualTo(950);
+        assertThat(result.isEstimated()).isTrue();
+        assertThat(meterRegistry.counter("product.list.parallel.count", "result", "estimated").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("늦게 끝난 건수는 캐시해 다음 요청의 추정치로 쓴다")
+    void load_LateCountCachedForNextRequest() {
+        // Given
+        Long[] categoryIds = {3L};
+        when(productMapper.countProducts(categoryIds, null)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 80L;
+        });
+        when(productMapper.selectProductsPaged(categoryIds, null, 10, 10, null)).thenReturn(rows(11, 20));
+
+        // When: 첫 요청은 현재 페이지로 알 수 있는 최소 건수, 건수 쿼리가 끝난 뒤에는 캐시된 건수
+        ProductPageFanOut.Result first = productPageFanOut.load(categoryIds, null, 10, 10, false);
+        release.countDown();
+        verify(productMapper, timeout(2000).times(1)).countProducts(categoryIds, null);
+        awaitCachedCount(categoryIds);
+        ProductPageFanOut.Result second = productPageFanOut.load(categoryIds, null, 10, 10, false);
+
+        // Then
+        assertThat(first.getTotalCount()).isEqualTo(21);
+        assertThat(first.isEstimated()).isTrue();
+        assertThat(second.getTotalCount()).isEqualTo(80);
+        verify(productMapper, never()).estimateRowCount(false);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지에 닿으면 건수가 늦어도 정확한 건수")
+    void load_LastPageIsExact() {
+        // Given
+        when(productMapper.countListing(null, null)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 13L;
+        });
+        when(productMapper.selectListingPaged(null, null, 10, 5, null)).thenReturn(rows(11, 13));
+
+        // When
+        ProductPageFanOut.Result result = productPageFanOut.load(null, null, 10, 5, true);
+
+        // Then
+        assertThat(result.getTotalCount()).isEqualTo(13);
+        assertThat(result.isEstimated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("페이지 쿼리가 제한 시간을 넘기면 503")
+    void load_PageTimeout() {
+        // Given
+        ReflectionTestUtils.setField(productPageFanOut, "pageTimeoutMs", 50L);
+        when(productMapper.countProducts(null, null)).thenReturn(1L);
+        when(productMapper.selectProductsPaged(null, null, 0, 2, null)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return rows(1, 1);
+        });
+
+        // When & Then
+        CustomBusinessException exception = assertThrows(CustomBusinessException.class,
+                () -> productPageFanOut.load(null, null, 0, 2, false));
+        assertThat(exception.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(exception.getErrorCode()).isEqualTo("PRODUCT_LIST_TIMEOUT");
+    }
+
+    @Test
+    @DisplayName("카탈로그 변경 시 캐시된 건수를 비운다")
+    void onCatalogChanged_ClearsCounts() {
+        // Given
+        when(productMapper.countProducts(null, null)).thenReturn(5L);
+        when(productMapper.selectProductsPaged(null, null, 0, 2, null)).thenReturn(rows(1, 2));
+        productPageFanOut.load(null, null, 0, 2, false);
+        awaitCachedCount(null);
+
+        // When
+        productPageFanOut.onCatalogChanged(CatalogChangedEvent.all());
+
+        // Then
+        assertThat(cachedCount(null)).isNull();
+    }
+
+    private void awaitCachedCount(Long[] categoryIds) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (cachedCount(categoryIds) == null && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(cachedCount(categoryIds)).isNotNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long cachedCount(Long[] categoryIds) {
+        Cache<String, Long> cache = (Cache<String, Long>) ReflectionTestUtils.getField(productPageFanOut, "countCache");
+        return cache.getIfPresent(ProductPageFanOut.countKeyOf(categoryIds, false));
+    }
+
+    private static List<ProductPageRow> rows(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId).mapToObj(id -> {
+            ProductPageRow row = new ProductPageRow();
+            row.setId(id);
+            return row;
+        }).collect(Collectors.toList());
+    }
+}
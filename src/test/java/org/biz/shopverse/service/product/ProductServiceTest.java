@@ -1,22 +1,47 @@
 package org.biz.shopverse.service.product;
 
+import org.biz.shopverse.dto.product.ProductCursor;
+import org.biz.shopverse.dto.product.ProductPageRow;
+import org.biz.shopverse.dto.product.ProductSearchQuery;
+import org.biz.shopverse.dto.product.ProductSearchResult;
 import org.biz.shopverse.dto.product.request.ProductListRequest;
+import org.biz.shopverse.dto.product.response.ProductDetailResponse;
+import org.biz.shopverse.dto.product.response.ProductFacetBucket;
 import org.biz.shopverse.dto.product.response.ProductListPageResponse;
-import org.biz.shopverse.dto.product.response.ProductResponse;
+import org.biz.shopverse.dto.product.response.ProductVariantResponse;
+import org.biz.shopverse.dto.product.response.ProductSummaryResponse;
+import org.biz.shopverse.exception.CustomBusinessException;
 import org.biz.shopverse.mapper.product.ProductMapper;
+import org.biz.shopverse.service.product.cache.ProductDetailCache;
+import org.biz.shopverse.service.product.cache.ProductListCache;
+import org.biz.shopverse.service.product.counter.ProductCounter;
+import org.biz.shopverse.service.product.counter.ProductCounterBuffer;
+import org.biz.shopverse.service.product.search.ProductSearchService;
+import org.biz.shopverse.service.product.trending.ProductTrendingService;
+import org.biz.shopverse.service.product.trending.TrendingPage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +50,30 @@ class ProductServiceTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private CategoryTreeIndex categoryTreeIndex;
+
+    @Mock
+    private ProductSearchService productSearchService;
+
+    @Mock
+    private ProductListCache productListCache;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Mock
+    private ProductFacetService productFacetService;
+
+    @Mock
+    private ProductCounterBuffer productCounterBuffer;
+
+    @Mock
+    private ProductTrendingService productTrendingService;
+
+    @Mock
+    private ProductPageFanOut productPageFanOut;
+
     @InjectMocks
     private ProductService productService;
 
@@ -32,6 +81,7 @@ class ProductServiceTest {
     @DisplayName("상품 목록 페이지네이션 조회 - 기본값 페이지/사이즈")
     void getProductsPaged_Defaults() {
         // Given
+        ReflectionTestUtils.setField(productService, "listQueryMode", "separate");
         ProductListRequest req = ProductListRequest.builder().build();
         when(productMapper.countProducts(null, null)).thenReturn(0L);
 
@@ -51,6 +101,7 @@ class ProductServiceTest {
     @DisplayName("상품 목록 페이지네이션 조회 - 데이터 존재")
     void getProductsPaged_WithData() {
         // Given
+        ReflectionTestUtils.setField(productService, "listQueryMode", "separate");
         ProductListRequest req = ProductListRequest.builder()
                 .categoryId(1L)
                 .page(2)
@@ -58,13 +109,15 @@ class ProductServiceTest {
                 .sort("latest")
                 .build();
 
-        List<ProductResponse> pageData = Arrays.asList(
-                ProductResponse.builder().id(3L).name("상품3").categoryId(1L).price(new BigDecimal("1000")).build(),
-                ProductResponse.builder().id(4L).name("상품4").categoryId(1L).price(new BigDecimal("2000")).build()
+        List<ProductPageRow> pageData = Arrays.asList(
+                row(3L, "상품3", "1000", "2024-01-03 00:00:00"),
+                row(4L, "상품4", "2000", "2024-01-02 00:00:00")
         );
 
-        when(productMapper.countProducts(eq(1L), isNull())).thenReturn(5L);
-        when(productMapper.selectProductsPaged(eq(1L), eq("latest"), eq(2), eq(2), isNull())).thenReturn(pageData);
+        Long[] categoryIds = {1L, 11L, 12L};
+        when(categoryTreeIndex.resolve(1L)).thenReturn(categoryIds);
+        when(productMapper.countProducts(aryEq(categoryIds), isNull())).thenReturn(5L);
+        when(productMapper.selectProductsPaged(aryEq(categoryIds), eq("latest"), eq(2), eq(2), isNull())).thenReturn(pageData);
 
         // When
         ProductListPageResponse resp = productService.getProductsPaged(req);
@@ -76,6 +129,544 @@ class ProductServiceTest {
         assertThat(resp.getTotalPages()).isEqualTo(3);
         assertThat(resp.isHasNext()).isTrue();
         assertThat(resp.isHasPrevious()).isTrue();
+        assertThat(resp.getNextCursor()).isEqualTo(new ProductCursor("latest", "2024-01-02 00:00:00", 4L, 5L).encode());
+    }
+
+    @Test
+    @DisplayName("parallel 모드 - 건수가 늦으면 추정 건수와 요청 페이지로 응답")
+    void getProductsPaged_ParallelEstimated() {
+        // Given
+        ReflectionTestUtils.setField(productService, "listQueryMode", "parallel");
+        ProductListRequest req = ProductListRequest.builder().categoryId(1L).page(3).size(2).build();
+        Long[] categoryIds = {1L};
+        List<ProductPageRow> rows = Arrays.asList(row(5L, "상품5", "1000", "2024-01-05 00:00:00"), row(6L, "상품6", "1000", "2024-01-04 00:00:00"));
+        when(categoryTreeIndex.resolve(1L)).thenReturn(categoryIds);
+        when(productPageFanOut.load(categoryIds, null, 4, 2, false)).thenReturn(new ProductPageFanOut.Result(rows, 7, true));
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getProducts()).extracting(ProductSummaryResponse::getId).containsExactly(5L, 6L);
+        assertThat(resp.getTotalCount()).isEqualTo(7);
+        assertThat(resp.isTotalEstimated()).isTrue();
+        assertThat(resp.getCurrentPage()).isEqualTo(3);
+        assertThat(resp.isHasNext()).isTrue();
+        verify(productMapper, never()).countProducts(any(), any());
+    }
+
+    @Test
+    @DisplayName("parallel 모드 - 추정 건수로도 범위를 벗어난 페이지면 마지막 페이지로 보정하고, 추정 응답은 캐시하지 않는다")
+    void getProductsPaged_ParallelEstimatedClampsPage() {
+        // Given
+        ReflectionTestUtils.setField(productService, "listQueryMode", "parallel");
+        ProductListRequest req = ProductListRequest.builder().page(9).size(2).build();
+        when(productListCache.isCacheable(req)).thenReturn(true);
+        when(productPageFanOut.load(null, null, 16, 2, false)).thenReturn(new ProductPageFanOut.Result(List.of(), 3, true));
+        when(productMapper.selectProductsPaged(null, null, 2, 2, null)).thenReturn(List.of(row(3L, "상품3", "1000", "2024-01-01 00:00:00")));
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getCurrentPage()).isEqualTo(2);
+        assertThat(resp.getTotalPages()).isEqualTo(2);
+        assertThat(resp.isTotalEstimated()).isTrue();
+        verify(productListCache, never()).put(any(), any(), anyLong());
+        verify(productListCache).release(req);
+    }
+
+    @Test
+    @DisplayName("parallel 모드 - 정확한 건수로 범위를 벗어난 페이지면 마지막 페이지를 다시 조회")
+    void getProductsPaged_ParallelClampsPage() {
+        // Given
+        ReflectionTestUtils.setField(productService, "listQueryMode", "parallel");
+        ProductListRequest req = ProductListRequest.builder().page(9).size(2).build();
+        when(productPageFanOut.load(null, null, 16, 2, false)).thenReturn(new ProductPageFanOut.Result(List.of(), 3, false));
+        when(productMapper.selectProductsPaged(null, null, 2, 2, null)).thenReturn(List.of(row(3L, "상품3", "1000", "2024-01-01 00:00:00")));
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getCurrentPage()).isEqualTo(2);
+        assertThat(resp.getTotalPages()).isEqualTo(2);
+        assertThat(resp.isTotalEstimated()).isFalse();
+        assertThat(resp.getProducts()).extracting(ProductSummaryResponse::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("product.list.source=listing 이면 product_listing 읽기 모델에서 조회")
+    void getProductsPaged_ListingSource() {
+        // Given
+        ReflectionTestUtils.setField(productService, "listQueryMode", "separate");
+        ReflectionTestUtils.setField(productService, "listSource", "listing");
+        ProductListRequest req = ProductListRequest.builder().page(1).size(2).build();
+        when(productMapper.countListing(isNull(), isNull())).thenReturn(3L);
+        when(productMapper.selectListingPaged(isNull(), isNull(), eq(0), eq(2), isNull())).thenReturn(Arrays.asList(
+                row(1L, "상품1", "1000", "2024-01-03 00:00:00"),
+                row(2L, "상품2", "2000", "2024-01-02 00:00:00")
+        ));
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getProducts()).extracting(ProductSummaryResponse::getId).containsExactly(1L, 2L);
+        assertThat(resp.getTotalCount()).isEqualTo(3);
+        verify(productMapper, never()).countProducts(any(), any());
+        verify(productMapper, never()).selectProductsPaged(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("상품 목록 단일 쿼리 조회 - 건수와 페이지를 한 번에 조회")
+    void getProductsPaged_Combined() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder()
+                .page(2)
+                .size(2)
+                .build();
+
+        List<ProductPageRow> rows = Arrays.asList(
+                row(3L, "상품3", "1000", "2024-01-03 00:00:00", 5L),
+                row(4L, "상품4", "2000", "2024-01-02 00:00:00", 5L)
+        );
+        when(productMapper.selectProductsPageWithTotal(isNull(), isNull(), eq(2), eq(2), isNull())).thenReturn(rows);
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getProducts()).extracting(ProductSummaryResponse::getId).containsExactly(3L, 4L);
+        assertThat(resp.getTotalCount()).isEqualTo(5);
+        assertThat(resp.getCurrentPage()).isEqualTo(2);
+        assertThat(resp.getTotalPages()).isEqualTo(3);
+        assertThat(resp.isHasNext()).isTrue();
+        assertThat(resp.isHasPrevious()).isTrue();
+        verify(productMapper, never()).countProducts(any(), any());
+    }
+
+    @Test
+    @DisplayName("상품 목록 단일 쿼리 조회 - 범위를 벗어난 페이지는 마지막 페이지로 보정")
+    void getProductsPaged_Combined_ClampsPage() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder()
+                .page(10)
+                .size(2)
+                .build();
+
+        when(productMapper.selectProductsPageWithTotal(isNull(), isNull(), eq(18), eq(2), isNull()))
+                .thenReturn(List.of(row(null, null, "0", null, 5L)));
+        when(productMapper.selectProductsPageWithTotal(isNull(), isNull(), eq(4), eq(2), isNull()))
+                .thenReturn(List.of(row(5L, "상품5", "1000", "2024-01-01 00:00:00", 5L)));
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getProducts()).extracting(ProductSummaryResponse::getId).containsExactly(5L);
+        assertThat(resp.getCurrentPage()).isEqualTo(3);
+        assertThat(resp.getTotalPages()).isEqualTo(3);
+        assertThat(resp.isHasNext()).isFalse();
+        assertThat(resp.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("상품 목록 단일 쿼리 조회 - 아주 큰 페이지도 OFFSET 이 음수가 되지 않는다")
+    void getProductsPaged_Combined_HugePage() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder()
+                .page(Integer.MAX_VALUE)
+                .size(100)
+                .build();
+
+        when(productMapper.selectProductsPageWithTotal(isNull(), isNull(), eq(Integer.MAX_VALUE), eq(100), isNull()))
+                .thenReturn(List.of(row(null, null, "0", null, 5L)));
+        when(productMapper.selectProductsPageWithTotal(isNull(), isNull(), eq(0), eq(100), isNull()))
+                .thenReturn(List.of(row(5L, "상품5", "1000", "2024-01-01 00:00:00", 5L)));
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getCurrentPage()).isEqualTo(1);
+        assertThat(resp.getProducts()).extracting(ProductSummaryResponse::getId).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("상품 목록 단일 쿼리 조회 - 결과 없음")
+    void getProductsPaged_Combined_Empty() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder().build();
+        when(productMapper.selectProductsPageWithTotal(isNull(), isNull(), eq(0), eq(10), isNull()))
+                .thenReturn(List.of(row(null, null, "0", null, 0L)));
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getProducts()).isEmpty();
+        assertThat(resp.getTotalCount()).isEqualTo(0);
+        assertThat(resp.getCurrentPage()).isEqualTo(1);
+        assertThat(resp.getTotalPages()).isEqualTo(1);
+        verify(productMapper, never()).selectVariantsByProductIds(any());
+        verify(productCounterBuffer, never()).increment(any(), any());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 페이지 상품의 변형을 한 번에 조회해 상품별로 묶는다")
+    void getProductsPaged_NestsVariants() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder().size(2).build();
+        when(productMapper.selectProductsPageWithTotal(isNull(), isNull(), eq(0), eq(2), isNull())).thenReturn(Arrays.asList(
+                row(1L, "상품1", "1000", "2024-01-02 00:00:00", 2L),
+                row(2L, "상품2", "2000", "2024-01-01 00:00:00", 2L)
+        ));
+        when(productMapper.selectVariantsByProductIds(aryEq(new Long[]{1L, 2L}))).thenReturn(Arrays.asList(
+                ProductVariantResponse.builder().id(11L).productId(1L).isDefault(true).build(),
+                ProductVariantResponse.builder().id(12L).productId(1L).isDefault(false).build(),
+                ProductVariantResponse.builder().id(13L).productId(1L).isDefault(false).build()
+        ));
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then: 변형이 여러 개여도 상품은 한 번씩만 나온다
+        assertThat(resp.getProducts()).extracting(ProductSummaryResponse::getId).containsExactly(1L, 2L);
+        assertThat(resp.getProducts().get(0).getVariants()).extracting(ProductVariantResponse::getId).containsExactly(11L, 12L, 13L);
+        assertThat(resp.getProducts().get(1).getVariants()).isEmpty();
+        verify(productMapper, times(1)).selectVariantsByProductIds(any());
+    }
+
+    @Test
+    @DisplayName("검색어가 있으면 검색 엔진으로 조회하고 커서는 반환하지 않음")
+    void getProductsPaged_Search() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder()
+                .search("이어폰")
+                .sort("relevance")
+                .size(2)
+                .build();
+
+        ProductSearchResult result = new ProductSearchResult(Arrays.asList(
+                row(7L, "무선 이어폰", "1000", null),
+                row(8L, "유선 이어폰", "2000", null)
+        ), 3L);
+        when(productSearchService.search(any(ProductSearchQuery.class))).thenReturn(result);
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getProducts()).extracting(ProductSummaryResponse::getId).containsExactly(7L, 8L);
+        assertThat(resp.getTotalCount()).isEqualTo(3);
+        assertThat(resp.getTotalPages()).isEqualTo(2);
+        assertThat(resp.isHasNext()).isTrue();
+        assertThat(resp.getNextCursor()).isNull();
+        verify(productSearchService).search(argThat(q -> "이어폰".equals(q.getKeyword())
+                && "relevance".equals(q.getSort()) && q.getOffset() == 0 && q.getSize() == 2));
+        verify(productMapper, never()).selectProductsPageWithTotal(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("상품 목록 커서 조회 - 커서 이후 행 조회 및 다음 커서 반환 (건수는 커서 값 사용)")
+    void getProductsPaged_WithCursor() {
+        // Given
+        String cursor = new ProductCursor("price-low", "1000", 3L, 6L).encode();
+        ProductListRequest req = ProductListRequest.builder()
+                .sort("price-low")
+                .size(2)
+                .cursor(cursor)
+                .build();
+
+        List<ProductPageRow> rows = Arrays.asList(
+                row(4L, "상품4", "2000", "2000"),
+                row(5L, "상품5", "3000", "3000"),
+                row(6L, "상품6", "4000", "4000")
+        );
+
+        when(productMapper.selectProductsAfter(isNull(), eq("price-low"), eq("1000"), eq(3L), eq(3), isNull())).thenReturn(rows);
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getProducts()).extracting(ProductSummaryResponse::getId).containsExactly(4L, 5L);
+        assertThat(resp.getTotalCount()).isEqualTo(6);
+        assertThat(resp.isHasNext()).isTrue();
+        assertThat(resp.getNextCursor()).isEqualTo(new ProductCursor("price-low", "3000", 5L, 6L).encode());
+        verify(productMapper, never()).selectProductsPaged(any(), any(), any(), any(), any());
+        verify(productMapper, never()).countProducts(any(), any());
+    }
+
+    @Test
+    @DisplayName("상품 목록 커서 조회 - 건수가 없는 커서(이전 형식)는 한 번 세어 다음 커서에 담는다")
+    void getProductsPaged_LegacyCursorCounts() {
+        // Given
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("popular|12|3".getBytes(StandardCharsets.UTF_8));
+        ProductListRequest req = ProductListRequest.builder()
+                .sort("popular")
+                .size(2)
+                .cursor(legacy)
+                .build();
+
+        when(productMapper.countProducts(isNull(), isNull())).thenReturn(4L);
+        when(productMapper.selectProductsAfter(isNull(), eq("popular"), eq("12"), eq(3L), eq(3), isNull()))
+                .thenReturn(Arrays.asList(row(4L, "상품4", "2000", "10"), row(5L, "상품5", "3000", "9"), row(6L, "상품6", "4000", "8")));
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getTotalCount()).isEqualTo(4);
+        assertThat(resp.getNextCursor()).isEqualTo(new ProductCursor("popular", "9", 5L, 4L).encode());
+    }
+
+    @Test
+    @DisplayName("상품 목록 커서 조회 - 정렬에 맞지 않는 정렬 키는 INVALID_CURSOR (SQL 까지 가지 않는다)")
+    void getProductsPaged_InvalidCursorSortKey() {
+        String[][] cases = {
+                {"price-low", "1 OR 1=1"},
+                {"price-high", null},
+                {"price-low", "1e999999999"},
+                {"rating", "abc"},
+                {"popular", "1.5"},
+                {"latest", null},
+                {"latest", "2024-13-01 00:00:00"},
+                {"latest", "yesterday"}
+        };
+
+        for (String[] c : cases) {
+            ProductListRequest req = ProductListRequest.builder()
+                    .sort(c[0])
+                    .cursor(new ProductCursor(c[0], c[1], 3L, 6L).encode())
+                    .build();
+
+            CustomBusinessException e = assertThrows(CustomBusinessException.class, () -> productService.getProductsPaged(req));
+            assertThat(e.getErrorCode()).as("%s|%s", c[0], c[1]).isEqualTo("INVALID_CURSOR");
+        }
+        verify(productMapper, never()).selectProductsAfter(any(), any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("상품 목록 커서 조회 - PostgreSQL 텍스트 형식의 시각(오프셋 포함)과 null 평점은 허용")
+    void getProductsPaged_ValidCursorSortKeys() {
+        assertThat(ProductCursor.decode(new ProductCursor("latest", "2024-01-15 10:30:00.123456+09", 3L, 6L).encode()).getSortKey())
+                .isEqualTo("2024-01-15 10:30:00.123456+09");
+        assertThat(ProductCursor.decode(new ProductCursor("rating", null, 3L, 6L).encode()).getSortKey()).isNull();
+        assertThat(ProductCursor.decode(new ProductCursor("price-high", "199000.00", 3L, null).encode()).getTotalCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("상품 목록 커서 조회 - 정렬 조건이 커서와 다르면 예외")
+    void getProductsPaged_CursorSortMismatch() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder()
+                .sort("rating")
+                .cursor(new ProductCursor("latest", "2024-01-02 00:00:00", 4L, 5L).encode())
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> productService.getProductsPaged(req))
+                .isInstanceOf(CustomBusinessException.class);
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 캐시 적중 시 DB 조회 없음")
+    void getProductsPaged_CacheHit() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder().categoryId(1L).build();
+        ProductListPageResponse cached = ProductListPageResponse.builder().totalCount(3).currentPage(1).totalPages(1).build();
+        when(productListCache.isCacheable(req)).thenReturn(true);
+        when(productListCache.get(req)).thenReturn(cached);
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp).isSameAs(cached);
+        verify(productMapper, never()).selectProductsPageWithTotal(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 캐시 미스 시 조회 후 저장")
+    void getProductsPaged_CacheMiss() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder().categoryId(1L).build();
+        Long[] categoryIds = {1L};
+        when(productListCache.isCacheable(req)).thenReturn(true);
+        when(categoryTreeIndex.resolve(1L)).thenReturn(categoryIds);
+        when(productMapper.selectProductsPageWithTotal(aryEq(categoryIds), isNull(), eq(0), eq(10), isNull()))
+                .thenReturn(List.of(row(1L, "상품1", "1000", "2024-01-01 00:00:00", 1L)));
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getTotalCount()).isEqualTo(1);
+        verify(productListCache).put(eq(req), eq(resp), anyLong());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 다른 노드가 갱신한 값을 받으면 DB 를 조회하지 않음")
+    void getProductsPaged_RefreshedByOtherNode() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder().categoryId(1L).build();
+        ProductListPageResponse refreshed = ProductListPageResponse.builder().totalCount(4).currentPage(1).totalPages(1).build();
+        when(productListCache.isCacheable(req)).thenReturn(true);
+        when(productListCache.acquireOrAwait(req)).thenReturn(refreshed);
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp).isSameAs(refreshed);
+        verify(productMapper, never()).selectProductsPageWithTotal(any(), any(), any(), any(), any());
+        verify(productListCache, never()).put(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("single-flight 키는 기본값을 채우고 검색어를 정규화")
+    void flightKeyOf_Normalized() {
+        assertThat(ProductService.flightKeyOf(ProductListRequest.builder().build()))
+                .isEqualTo(ProductService.flightKeyOf(ProductListRequest.builder().sort("latest").page(1).size(10).facets("brand").build()));
+        assertThat(ProductService.flightKeyOf(ProductListRequest.builder().search(" Shirt ").build()))
+                .isEqualTo(ProductService.flightKeyOf(ProductListRequest.builder().search("shirt").build()));
+        assertThat(ProductService.flightKeyOf(ProductListRequest.builder().categoryId(1L).build()))
+                .isNotEqualTo(ProductService.flightKeyOf(ProductListRequest.builder().categoryId(2L).build()));
+    }
+
+    @Test
+    @DisplayName("facets 요청 시 목록 응답에 facet 집계를 붙인다")
+    void getProductsPaged_WithFacets() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder().categoryId(3L).facets("brand,price").build();
+        Map<String, List<ProductFacetBucket>> facets = Map.of("brand", List.of(new ProductFacetBucket("7", 2L)));
+        when(categoryTreeIndex.resolve(3L)).thenReturn(new Long[]{3L});
+        when(productMapper.selectProductsPageWithTotal(any(), isNull(), eq(0), eq(10), isNull()))
+                .thenReturn(List.of(row(1L, "상품1", "1000", "2024-01-01 00:00:00", 1L)));
+        when(productFacetService.supports(null)).thenReturn(true);
+        when(productFacetService.getFacets(3L, null, "brand,price")).thenReturn(facets);
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getFacets()).isEqualTo(facets);
+    }
+
+    @Test
+    @DisplayName("facet 을 지원하지 않는 검색 엔진이면 검색 결과에 facet 을 붙이지 않는다")
+    void getProductsPaged_SearchFacetsUnsupported() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder().search("이어폰").facets("brand").build();
+        when(productSearchService.search(any(ProductSearchQuery.class)))
+                .thenReturn(new ProductSearchResult(List.of(row(7L, "무선 이어폰", "1000", null)), 1L));
+        when(productFacetService.supports("이어폰")).thenReturn(false);
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getFacets()).isNull();
+        verify(productFacetService, never()).getFacets(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("트렌딩 정렬 - 순위 ID 로 상품을 한 번에 조회하고 순위 순서로 정렬")
+    void getProductsPaged_Trending() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder().categoryId(5L).sort("trending").page(2).size(2).build();
+        when(productListCache.isCacheable(req)).thenReturn(false);
+        when(productTrendingService.page(5L, 2, 2)).thenReturn(new TrendingPage(List.of(30L, 10L), 5));
+        when(productMapper.selectProductsByIds(aryEq(new Long[]{30L, 10L}), eq("trending")))
+                .thenReturn(Arrays.asList(row(10L, "상품10", "1000", null), row(30L, "상품30", "3000", null)));
+        when(productMapper.selectVariantsByProductIds(any())).thenReturn(List.of());
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getProducts()).extracting(ProductSummaryResponse::getId).containsExactly(30L, 10L);
+        assertThat(resp.getTotalCount()).isEqualTo(5);
+        assertThat(resp.getCurrentPage()).isEqualTo(2);
+        assertThat(resp.getTotalPages()).isEqualTo(3);
+        assertThat(resp.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("트렌딩 정렬 - 순위가 비어 있으면 popular 정렬로 조회")
+    void getProductsPaged_TrendingFallback() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder().sort("trending").build();
+        when(productListCache.isCacheable(req)).thenReturn(false);
+        when(productTrendingService.page(null, 0, 10)).thenReturn(new TrendingPage(List.of(), 0));
+        when(productMapper.selectProductsPageWithTotal(null, "popular", 0, 10, null)).thenReturn(List.of());
+
+        // When
+        ProductListPageResponse resp = productService.getProductsPaged(req);
+
+        // Then
+        assertThat(resp.getProducts()).isEmpty();
+        verify(productMapper, never()).selectProductsByIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 - 상세 + 변형 목록")
+    void getProductDetail_Success() {
+        // Given
+        ProductDetailResponse detail = new ProductDetailResponse();
+        detail.setId(1L);
+        detail.setSlug("wireless-earphones");
+        givenDetailCacheMiss("wireless-earphones");
+        when(productMapper.selectProductDetailBySlug("wireless-earphones")).thenReturn(detail);
+        when(productMapper.selectVariantsByProductIds(aryEq(new Long[]{1L})))
+                .thenReturn(List.of(ProductVariantResponse.builder().id(11L).productId(1L).isDefault(true).build()));
+
+        // When
+        ProductDetailResponse resp = productService.getProductDetail("wireless-earphones");
+
+        // Then
+        assertThat(resp.getId()).isEqualTo(1L);
+        assertThat(resp.getVariants()).extracting(ProductVariantResponse::getId).containsExactly(11L);
+        verify(productCounterBuffer).increment(1L, ProductCounter.VIEW);
+        verify(productTrendingService).record(1L, null, ProductCounter.VIEW);
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 - 없는 상품이면 404")
+    void getProductDetail_NotFound() {
+        // Given
+        givenDetailCacheMiss("unknown");
+        when(productMapper.selectProductDetailBySlug("unknown")).thenReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> productService.getProductDetail("unknown"))
+                .isInstanceOf(CustomBusinessException.class)
+                .hasMessage("상품을 찾을 수 없습니다.");
+        verify(productMapper, never()).selectVariantsByProductIds(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDetailCacheMiss(String slug) {
+        when(productDetailCache.get(eq(slug), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1, Function.class).apply(slug));
+    }
+
+    private ProductPageRow row(Long id, String name, String price, String sortKey) {
+        return row(id, name, price, sortKey, null);
+    }
+
+    private ProductPageRow row(Long id, String name, String price, String sortKey, Long totalCount) {
+        ProductPageRow row = new ProductPageRow();
+        row.setId(id);
+        row.setName(name);
+        row.setCategoryId(1L);
+        row.setPrice(new BigDecimal(price));
+        row.setSortKey(sortKey);
+        row.setTotalCount(totalCount);
+        return row;
     }
 }
 
@@ -0,0 +1,128 @@
+package org.biz.shopverse.service.product.cache;
+
+import org.biz.shopverse.dto.product.request.ProductListRequest;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.service.product.CategoryTreeIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogVersionTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private CategoryTreeIndex categoryTreeIndex;
+
+    @InjectMocks
+    private CatalogVersion catalogVersion;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("상품 목록 ETag = epoch.전체버전.카테고리버전 (없는 버전은 0)")
+    void productListETag() {
+        // Given
+        when(valueOperations.multiGet(List.of("PCV:epoch", "PCV:global", "PCV:5")))
+                .thenReturn(Arrays.asList("ab12cd34", "3", null));
+
+        // When
+        String eTag = catalogVersion.productListETag(ProductListRequest.builder().categoryId(5L).build());
+
+        // Then
+        assertThat(eTag).isEqualTo("\"p.ab12cd34.3.0\"");
+    }
+
+    @Test
+    @DisplayName("max-stale-seconds 가 있으면 버전이 같아도 시간 구간이 바뀌면 ETag 가 바뀐다")
+    void productListETag_TimeBucket() {
+        // Given
+        ReflectionTestUtils.setField(catalogVersion, "maxStaleSeconds", 300L);
+        when(valueOperations.multiGet(List.of("PCV:epoch", "PCV:global", "PCV:all")))
+                .thenReturn(Arrays.asList("ab12cd34", "3", "7"));
+
+        // When
+        long before = System.currentTimeMillis() / 300_000;
+        String eTag = catalogVersion.productListETag(ProductListRequest.builder().build());
+        long after = System.currentTimeMillis() / 300_000;
+
+        // Then
+        assertThat(eTag).isIn("\"p.ab12cd34.3.7." + before + "\"", "\"p.ab12cd34.3.7." + after + "\"");
+    }
+
+    @Test
+    @DisplayName("epoch 이 없으면(Redis 초기화) 새로 만든 뒤 ETag 생성")
+    void categoriesETag_NewEpoch() {
+        // Given
+        when(valueOperations.multiGet(List.of("PCV:epoch", "PCV:global")))
+                .thenReturn(Arrays.asList(null, null), Arrays.asList("ff00ff00", null));
+
+        // When
+        String eTag = catalogVersion.categoriesETag();
+
+        // Then
+        assertThat(eTag).isEqualTo("\"c.ff00ff00.0\"");
+        verify(valueOperations).setIfAbsent(eq("PCV:epoch"), anyString());
+    }
+
+    @Test
+    @DisplayName("검색어/트렌딩 요청과 Redis 오류는 ETag 없음")
+    void productListETag_NotApplicable() {
+        assertThat(catalogVersion.productListETag(ProductListRequest.builder().search("셔츠").build())).isNull();
+        assertThat(catalogVersion.productListETag(ProductListRequest.builder().sort("trending").build())).isNull();
+
+        when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+        assertThat(catalogVersion.productListETag(ProductListRequest.builder().build())).isNull();
+    }
+
+    @Test
+    @DisplayName("상품 변경은 카테고리와 상위 카테고리, 전체 목록 버전을 올린다")
+    void onCatalogChanged_Categories() {
+        // Given
+        when(categoryTreeIndex.ancestors(5L)).thenReturn(new Long[]{5L, 1L});
+
+        // When
+        catalogVersion.onCatalogChanged(CatalogChangedEvent.categories(List.of(5L)));
+
+        // Then
+        verify(valueOperations).increment("PCV:all");
+        verify(valueOperations).increment("PCV:5");
+        verify(valueOperations).increment("PCV:1");
+        verify(valueOperations, never()).increment("PCV:global");
+    }
+
+    @Test
+    @DisplayName("전체 변경은 전체 버전을 올린다")
+    void onCatalogChanged_All() {
+        catalogVersion.onCatalogChanged(CatalogChangedEvent.all());
+
+        verify(valueOperations).increment("PCV:global");
+    }
+}
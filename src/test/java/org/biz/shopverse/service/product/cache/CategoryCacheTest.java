@@ -0,0 +1,134 @@
+package org.biz.shopverse.service.product.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.biz.shopverse.dto.common.ApiResponse;
+import org.biz.shopverse.dto.product.response.CategoryResponse;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCacheTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CategoryCache categoryCache;
+
+    @BeforeEach
+    void setUp() {
+        categoryCache = new CategoryCache(productMapper, redisTemplate, redisMessageListenerContainer, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(categoryCache, "localTtlSeconds", 60L);
+        ReflectionTestUtils.setField(categoryCache, "redisTtlSeconds", 3600L);
+        categoryCache.init();
+    }
+
+    @Test
+    @DisplayName("로컬 → Redis → DB 순으로 조회하고, 로컬 적중 시 Redis/DB 를 거치지 않음")
+    void get_TwoTier() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("CAT:all")).thenReturn(null);
+        when(productMapper.findAllCategories()).thenReturn(categories());
+
+        // When
+        List<CategoryResponse> first = categoryCache.get(CategoryCache.ALL);
+        List<CategoryResponse> second = categoryCache.get(CategoryCache.ALL);
+
+        // Then
+        assertThat(first).isEqualTo(categories());
+        assertThat(second).isSameAs(first);
+        verify(productMapper, times(1)).findAllCategories();
+        verify(valueOperations, times(1)).get(anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 에 있으면 DB 를 조회하지 않음")
+    void get_FromRedis() throws Exception {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("CAT:active")).thenReturn(objectMapper.writeValueAsString(categories()));
+
+        // When & Then
+        assertThat(categoryCache.get(CategoryCache.ACTIVE)).isEqualTo(categories());
+        verify(productMapper, never()).findActiveCategories();
+    }
+
+    @Test
+    @DisplayName("미리 직렬화한 응답은 ApiResponse 직렬화 결과와 timestamp 외에 동일")
+    void render_MatchesApiResponse() throws Exception {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(productMapper.findAllCategories()).thenReturn(categories());
+
+        // When
+        byte[] body = categoryCache.render(CategoryCache.ALL, "카테고리 목록을 조회했습니다.");
+
+        // Then
+        JsonNode rendered = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+        JsonNode expected = objectMapper.valueToTree(ApiResponse.success(categories(), "카테고리 목록을 조회했습니다."));
+        assertThat(rendered.get("timestamp").asText()).matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}");
+        ((ObjectNode) rendered).remove("timestamp");
+        ((ObjectNode) expected).remove("timestamp");
+        assertThat(rendered).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 시 로컬/Redis 항목 삭제 후 다른 노드에 무효화 메시지 발행")
+    void onCatalogChanged_Invalidates() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(productMapper.findAllCategories()).thenReturn(categories());
+        categoryCache.get(CategoryCache.ALL);
+
+        // When
+        categoryCache.onCatalogChanged(CatalogChangedEvent.all());
+        categoryCache.get(CategoryCache.ALL);
+
+        // Then
+        verify(redisTemplate).delete(any(Collection.class));
+        verify(redisTemplate).convertAndSend(CategoryCache.INVALIDATION_CHANNEL, "all");
+        verify(productMapper, times(2)).findAllCategories();
+    }
+
+    private List<CategoryResponse> categories() {
+        return List.of(
+                CategoryResponse.builder().id(1L).name("전자기기").sortOrder(1).isActive(true).build(),
+                CategoryResponse.builder().id(2L).name("이어폰").parentId(1L).sortOrder(1).isActive(true).build()
+        );
+    }
+}
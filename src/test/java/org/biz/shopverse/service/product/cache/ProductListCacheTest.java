@@ -0,0 +1,194 @@
+package org.biz.shopverse.service.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.biz.shopverse.dto.product.request.ProductListRequest;
+import org.biz.shopverse.dto.product.response.ProductListPageResponse;
+import org.biz.shopverse.dto.product.response.ProductSummaryResponse;
+import org.biz.shopverse.event.CatalogChangedEvent;
+import org.biz.shopverse.service.product.CategoryTreeIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductListCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private CategoryTreeIndex categoryTreeIndex;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductListCache productListCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productListCache = new ProductListCache(redisTemplate, new ObjectMapper(), categoryTreeIndex, meterRegistry);
+        ReflectionTestUtils.setField(productListCache, "enabled", true);
+        ReflectionTestUtils.setField(productListCache, "ttlSeconds", 300L);
+        productListCache.init();
+    }
+
+    @Test
+    @DisplayName("캐시 키는 기본값을 채워 정규화")
+    void keyOf_Normalized() {
+        assertThat(ProductListCache.keyOf(ProductListRequest.builder().build())).isEqualTo("PL:all:latest:1:10");
+        assertThat(ProductListCache.keyOf(ProductListRequest.builder().categoryId(3L).sort("popular").page(2).size(20).build()))
+                .isEqualTo("PL:3:popular:2:20");
+    }
+
+    @Test
+    @DisplayName("검색어/커서/트렌딩 요청은 캐시하지 않음")
+    void isCacheable() {
+        assertThat(productListCache.isCacheable(ProductListRequest.builder().categoryId(1L).build())).isTrue();
+        assertThat(productListCache.isCacheable(ProductListRequest.builder().search("셔츠").build())).isFalse();
+        assertThat(productListCache.isCacheable(ProductListRequest.builder().cursor("abc").build())).isFalse();
+        assertThat(productListCache.isCacheable(ProductListRequest.builder().sort("trending").build())).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장한 응답을 그대로 읽고 적중/미스 지표 기록")
+    void putAndGet_RoundTrip() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder().categoryId(1L).build();
+        ProductListPageResponse response = ProductListPageResponse.builder()
+                .products(List.of(ProductSummaryResponse.builder().id(1L).name("상품1").price(new BigDecimal("1000")).build()))
+                .totalCount(1)
+                .currentPage(1)
+                .totalPages(1)
+                .build();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        productListCache.put(req, response, 120L);
+        verify(valueOperations).set(eq("PL:1:latest:1:10"), json.capture(), eq(Duration.ofSeconds(300)));
+        verify(setOperations).add("PLT:1", "PL:1:latest:1:10");
+        verify(redisTemplate).delete("PLL:PL:1:latest:1:10");
+
+        when(valueOperations.get("PL:1:latest:1:10")).thenReturn(json.getValue(), (String) null);
+
+        // When & Then
+        assertThat(productListCache.get(req)).isEqualTo(response);
+        assertThat(productListCache.get(req)).isNull();
+        assertThat(json.getValue()).doesNotContain("null");
+        assertThat(meterRegistry.counter("product.list.cache.requests", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("product.list.cache.requests", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조기 갱신 - 만료가 가까울수록, 계산이 오래 걸릴수록 먼저 갱신")
+    void shouldRefreshEarly() {
+        // Given: 계산 100ms, 만료 시각 10000
+        ReflectionTestUtils.setField(productListCache, "earlyRefreshBeta", 1.0);
+        ProductListCache.Entry entry = new ProductListCache.Entry(100L, 10_000L, new ProductListPageResponse());
+
+        // When & Then: -ln(1 - 0.5) * 100 ≈ 69ms 앞당겨진다
+        assertThat(productListCache.shouldRefreshEarly(entry, 9_900L, 0.5)).isFalse();
+        assertThat(productListCache.shouldRefreshEarly(entry, 9_950L, 0.5)).isTrue();
+        assertThat(productListCache.shouldRefreshEarly(entry, 10_000L, 0.0)).isTrue();
+        assertThat(productListCache.shouldRefreshEarly(entry, 1_000L, 0.999)).isFalse();
+
+        // beta 0 이면 끔
+        ReflectionTestUtils.setField(productListCache, "earlyRefreshBeta", 0.0);
+        assertThat(productListCache.shouldRefreshEarly(entry, 9_999L, 0.999)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 형식(응답 JSON 그대로)의 값은 미스로 처리")
+    void get_LegacyFormatIsMiss() {
+        // Given
+        ProductListRequest req = ProductListRequest.builder().build();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("PL:all:latest:1:10")).thenReturn("{\"totalCount\":3,\"currentPage\":1}");
+
+        // When & Then
+        assertThat(productListCache.get(req)).isNull();
+        assertThat(meterRegistry.counter("product.list.cache.requests", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신 락을 잡으면 null 을 돌려 직접 로드하게 한다")
+    void acquireOrAwait_Acquired() {
+        // Given
+        ReflectionTestUtils.setField(productListCache, "lockTtlMs", 5000L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent("PLL:PL:all:latest:1:10", "1", Duration.ofMillis(5000))).thenReturn(true);
+
+        // When & Then
+        assertThat(productListCache.acquireOrAwait(ProductListRequest.builder().build())).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 갱신 중이면 저장되는 값을 기다려 사용")
+    void acquireOrAwait_WaitsForOtherNode() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(productListCache, "lockTtlMs", 5000L);
+        ReflectionTestUtils.setField(productListCache, "lockWaitMs", 1000L);
+        ProductListPageResponse page = ProductListPageResponse.builder().totalCount(7).currentPage(1).totalPages(1).build();
+        String json = new ObjectMapper().writeValueAsString(new ProductListCache.Entry(50L, Long.MAX_VALUE, page));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get("PL:all:latest:1:10")).thenReturn(null, json);
+
+        // When
+        ProductListPageResponse result = productListCache.acquireOrAwait(ProductListRequest.builder().build());
+
+        // Then
+        assertThat(result).isEqualTo(page);
+        verify(valueOperations, times(2)).get("PL:all:latest:1:10");
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 시 해당 카테고리/상위 카테고리/전체 목록 태그만 무효화")
+    @SuppressWarnings("unchecked")
+    void onCatalogChanged_EvictsAncestorTags() {
+        // Given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(categoryTreeIndex.ancestors(4L)).thenReturn(new Long[]{4L, 2L, 1L});
+        when(setOperations.members(anyString())).thenReturn(Set.of());
+        when(setOperations.members("PLT:2")).thenReturn(Set.of("PL:2:latest:1:10"));
+        when(redisTemplate.delete(any(Collection.class))).thenReturn(1L);
+
+        // When
+        productListCache.onCatalogChanged(CatalogChangedEvent.categories(List.of(4L)));
+
+        // Then
+        ArgumentCaptor<Collection<String>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(redisTemplate, times(2)).delete(deleted.capture());
+        assertThat(deleted.getAllValues().get(0)).containsExactly("PL:2:latest:1:10");
+        assertThat(deleted.getAllValues().get(1)).containsExactlyInAnyOrder("PLT:all", "PLT:4", "PLT:2", "PLT:1");
+        assertThat(meterRegistry.counter("product.list.cache.evictions").count()).isEqualTo(1);
+    }
+}
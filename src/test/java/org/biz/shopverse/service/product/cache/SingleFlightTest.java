@@ -0,0 +1,158 @@
+package org.biz.shopverse.service.product.cache;
+
+import org.biz.shopverse.exception.CustomBusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 로드하고 결과를 공유")
+    void execute_CoalescesConcurrentCalls() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("k", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "v";
+            }, 5000));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When: 리더 로드 중에 같은 키로 7건 요청
+            List<Thread> waiting = new CopyOnWriteArrayList<>();
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(executor.submit(() -> {
+                    waiting.add(Thread.currentThread());
+                    return singleFlight.execute("k", () -> {
+                        loads.incrementAndGet();
+                        return "other";
+                    }, 5000);
+                }));
+            }
+            awaitBlocked(waiting, 7);
+            release.countDown();
+
+            // Then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(singleFlight.inFlight()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("리더의 예외는 대기 요청에도 그대로 전달")
+    void execute_PropagatesLeaderException() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("k", () -> {
+                loading.countDown();
+                await(release);
+                throw new CustomBusinessException("실패", "LOAD_FAILED");
+            }, 5000));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Thread> waiting = new CopyOnWriteArrayList<>();
+            Future<String> follower = executor.submit(() -> {
+                waiting.add(Thread.currentThread());
+                return singleFlight.execute("k", () -> "other", 5000);
+            });
+            awaitBlocked(waiting, 1);
+
+            // When
+            release.countDown();
+
+            // Then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(CustomBusinessException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(CustomBusinessException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("리더를 기다리다 시간이 지나면 503")
+    void execute_FollowerTimeout() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> singleFlight.execute("k", () -> {
+                loading.countDown();
+                await(release);
+                return "v";
+            }, 5000));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When & Then
+            CustomBusinessException exception = assertThrows(CustomBusinessException.class,
+                    () -> singleFlight.execute("k", () -> "other", 50));
+            assertThat(exception.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(exception.getErrorCode()).isEqualTo("REQUEST_COALESCE_TIMEOUT");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("로드가 끝나면 다음 요청은 새로 로드")
+    void execute_DoesNotRetainResult() {
+        assertThat(singleFlight.execute("k", () -> "first", 100)).isEqualTo("first");
+        assertThat(singleFlight.execute("k", () -> "second", 100)).isEqualTo("second");
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    // 대기 요청이 모두 리더의 결과를 기다리는 상태(TIMED_WAITING)가 될 때까지
+    private static void awaitBlocked(List<Thread> threads, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (threads.size() < count || threads.stream().anyMatch(t -> t.getState() != Thread.State.TIMED_WAITING)) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
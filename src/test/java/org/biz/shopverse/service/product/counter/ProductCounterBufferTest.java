@@ -0,0 +1,132 @@
+package org.biz.shopverse.service.product.counter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.biz.shopverse.dto.product.ProductCounterDelta;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCounterBufferTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    private ProductCounterBuffer buffer;
+
+    // mapper 에 넘어간 배치 (호출 후 재사용되는 리스트라 복사해 둔다)
+    private final List<List<ProductCounterDelta>> batches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ProductCounterBuffer(productMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(buffer, "batchSize", 2);
+        buffer.init();
+    }
+
+    @Test
+    @DisplayName("상품별 증분을 합쳐 id 순으로 배치 크기만큼 나눠 반영한다")
+    void flush_MergesAndBatches() {
+        // Given
+        givenMapperRecordsBatches();
+        buffer.increment(3L, ProductCounter.VIEW);
+        buffer.increment(1L, ProductCounter.VIEW);
+        buffer.increment(1L, ProductCounter.VIEW);
+        buffer.add(1L, ProductCounter.SALES, 2);
+        buffer.add(2L, ProductCounter.WISHLIST, -1);
+
+        // When
+        int flushed = buffer.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(3);
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).containsExactly(
+                ProductCounterDelta.builder().productId(1L).viewCount(2).salesCount(2).build(),
+                ProductCounterDelta.builder().productId(2L).wishlistCount(-1).build());
+        assertThat(batches.get(1)).containsExactly(ProductCounterDelta.builder().productId(3L).viewCount(1).build());
+
+        // 반영된 증분은 비워진다
+        assertThat(buffer.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증분을 되돌려 다음 플러시에서 다시 반영한다")
+    void flush_RestoresOnFailure() {
+        // Given
+        buffer.add(1L, ProductCounter.VIEW, 5);
+        doThrow(new RuntimeException("db down")).when(productMapper).addProductCounters(anyList());
+
+        // When & Then
+        assertThatThrownBy(() -> buffer.flush()).hasMessage("db down");
+
+        // 장애 해소 후 재시도
+        givenMapperRecordsBatches();
+        buffer.increment(1L, ProductCounter.VIEW);
+        assertThat(buffer.flush()).isEqualTo(1);
+        assertThat(batches.get(batches.size() - 1))
+                .containsExactly(ProductCounterDelta.builder().productId(1L).viewCount(6).build());
+    }
+
+    @Test
+    @DisplayName("여러 스레드의 증분이 누락 없이 합산된다")
+    void increment_Concurrent() throws Exception {
+        // Given
+        givenMapperRecordsBatches();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When: 8 스레드 x 10,000 회, 중간에 플러시
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    buffer.increment(1L, ProductCounter.VIEW);
+                }
+            });
+        }
+        buffer.flush();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        buffer.flush();
+
+        // Then
+        long total = batches.stream()
+                .flatMap(List::stream)
+                .mapToLong(ProductCounterDelta::getViewCount)
+                .sum();
+        assertThat(total).isEqualTo(80_000);
+    }
+
+    @Test
+    @DisplayName("증분이 없으면 DB 를 호출하지 않는다")
+    void flush_Empty() {
+        assertThat(buffer.flush()).isZero();
+        verify(productMapper, never()).addProductCounters(anyList());
+    }
+
+    private void givenMapperRecordsBatches() {
+        doAnswer(invocation -> {
+            List<ProductCounterDelta> batch = invocation.getArgument(0);
+            batches.add(new ArrayList<>(batch));
+            return batch.size();
+        }).when(productMapper).addProductCounters(anyList());
+    }
+}
@@ -0,0 +1,108 @@
+package org.biz.shopverse.service.product.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.biz.shopverse.dto.product.ProductFeedRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductFeedReaderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV: BOM/컬럼 순서/따옴표 안의 구분자·줄바꿈을 처리하고 줄 번호를 유지한다")
+    void csv_QuotedFields() throws IOException {
+        String csv = "\uFEFFname,Product_SKU,price,unknown,options\r\n"
+                + "\"무선, 이어폰\",P-1,1000.50,x,\"{\"\"color\"\":\"\"black\"\"}\"\r\n"
+                + "\"여러\n줄\",P-2,2000,,\r\n";
+
+        try (CsvProductFeedReader reader = new CsvProductFeedReader(new StringReader(csv), objectMapper)) {
+            ProductFeedRow first = reader.next();
+            assertThat(first.getLineNo()).isEqualTo(2);
+            assertThat(first.getProductSku()).isEqualTo("P-1");
+            assertThat(first.getName()).isEqualTo("무선, 이어폰");
+            assertThat(first.getPrice()).isEqualByComparingTo(new BigDecimal("1000.50"));
+            assertThat(first.getOptions()).isEqualTo("{\"color\":\"black\"}");
+
+            ProductFeedRow second = reader.next();
+            assertThat(second.getLineNo()).isEqualTo(3);
+            assertThat(second.getName()).isEqualTo("여러\n줄");
+            assertThat(second.getOptions()).isNull();
+
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("CSV: 값 오류 행은 FeedRowException 으로 알리고 다음 행은 계속 읽는다")
+    void csv_RejectedRow() throws IOException {
+        String csv = "product_sku,name,price\nP-1,상품,abc\nP-2,상품2,100\n";
+
+        try (CsvProductFeedReader reader = new CsvProductFeedReader(new StringReader(csv), objectMapper)) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(FeedRowException.class)
+                    .hasMessageContaining("line 2");
+            assertThat(reader.next().getProductSku()).isEqualTo("P-2");
+        }
+    }
+
+    @Test
+    @DisplayName("NDJSON: options 객체는 JSON 문자열로, null 은 값 없음으로 읽는다")
+    void ndjson_Rows() throws IOException {
+        String ndjson = "{\"product_sku\":\"P-1\",\"name\":\"상품\",\"price\":1000,\"options\":{\"size\":\"L\"},\"is_default\":true}\n"
+                + "{\"product_sku\":\"P-2\",\"name\":\"상품2\",\"price\":\"2000\",\"brand_id\":null}\n";
+
+        try (NdjsonProductFeedReader reader = new NdjsonProductFeedReader(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), objectMapper)) {
+            ProductFeedRow first = reader.next();
+            assertThat(first.getLineNo()).isEqualTo(1);
+            assertThat(first.getOptions()).isEqualTo("{\"size\":\"L\"}");
+            assertThat(first.getIsDefault()).isTrue();
+
+            ProductFeedRow second = reader.next();
+            assertThat(second.getLineNo()).isEqualTo(2);
+            assertThat(second.getBrandId()).isNull();
+
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("NDJSON: 객체가 아닌 줄은 전체 실패")
+    void ndjson_NotObject() throws IOException {
+        try (NdjsonProductFeedReader reader = new NdjsonProductFeedReader(
+                new ByteArrayInputStream("[1,2]\n".getBytes(StandardCharsets.UTF_8)), objectMapper)) {
+            assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("COPY 입력: 값은 따옴표로 감싸고 NULL 은 빈 칸, 숫자는 지수 표기 없이 쓴다")
+    void stagingCopyWriter_Csv() throws IOException {
+        ProductFeedRow row = ProductFeedRow.builder()
+                .lineNo(7)
+                .productSku("P-1")
+                .name("say \"hi\"")
+                .price(new BigDecimal("1E+3"))
+                .options("{\"a\":1}")
+                .isDefault(true)
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (StagingCopyWriter writer = new StagingCopyWriter(out)) {
+            writer.write(row);
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("7,\"P-1\",\"say \"\"hi\"\"\",,,,,\"1000\",,,,,,,,,,\"{\"\"a\"\":1}\",\"true\"\n");
+    }
+}
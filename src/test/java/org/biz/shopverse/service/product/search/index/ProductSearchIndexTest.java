@@ -0,0 +1,177 @@
+package org.biz.shopverse.service.product.search.index;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.biz.shopverse.dto.product.ProductSearchDocument;
+import org.biz.shopverse.mapper.product.ProductMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex(productMapper, transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(productSearchIndex, "refreshOverlapMs", 60000L);
+        ReflectionTestUtils.setField(productSearchIndex, "maxPendingDocuments", 1000);
+        productSearchIndex.init();
+    }
+
+    @Test
+    @DisplayName("인덱스 구성 전에는 null")
+    void search_NotReady() {
+        assertThat(productSearchIndex.isReady()).isFalse();
+        assertThat(productSearchIndex.search("셔츠", null, null, 0, 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("모든 토큰 접두어 일치 + 카테고리 필터 + 정렬/페이징")
+    void search_PrefixCategorySort() {
+        // Given
+        givenFullScan(List.of(
+                doc(1L, "Cotton Shirt", 10L, 30000.0, 5L, 1000L),
+                doc(2L, "Linen Shirt", 10L, 50000.0, 20L, 2000L),
+                doc(3L, "Cotton Pants", 20L, 40000.0, 7L, 3000L),
+                doc(4L, "Cotton Shirts Slim", 20L, 20000.0, null, 4000L)
+        ));
+        productSearchIndex.rebuild();
+
+        // When & Then
+        ProductSearchHits latest = productSearchIndex.search("shirt", null, "latest", 0, 10);
+        assertThat(latest.getTotalHits()).isEqualTo(3);
+        assertThat(latest.getProductIds()).containsExactly(4L, 2L, 1L);
+
+        ProductSearchHits cotton = productSearchIndex.search("COTTON shi", null, "price-low", 0, 10);
+        assertThat(cotton.getProductIds()).containsExactly(4L, 1L);
+
+        ProductSearchHits category = productSearchIndex.search("cotton", new Long[]{20L}, "popular", 0, 10);
+        assertThat(category.getProductIds()).containsExactly(3L, 4L);
+
+        ProductSearchHits page = productSearchIndex.search("shirt", null, "price-high", 1, 1);
+        assertThat(page.getTotalHits()).isEqualTo(3);
+        assertThat(page.getProductIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("relevance 정렬: 용어 전체 일치가 접두어 일치보다 먼저")
+    void search_Relevance() {
+        // Given
+        givenFullScan(List.of(
+                doc(1L, "Shirts Pack", 10L, 10000.0, 100L, 1000L),
+                doc(2L, "Shirt", 10L, 10000.0, 1L, 2000L)
+        ));
+        productSearchIndex.rebuild();
+
+        // When
+        ProductSearchHits hits = productSearchIndex.search("shirt", null, "relevance", 0, 10);
+
+        // Then
+        assertThat(hits.getProductIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("한글 초성/입력 중인 글자/단어 중간 일치")
+    void search_Hangul() {
+        // Given
+        givenFullScan(List.of(
+                doc(1L, "무선 블루투스 이어폰", 10L, 30000.0, 5L, 1000L),
+                doc(2L, "유선 헤드폰", 10L, 50000.0, 20L, 2000L),
+                doc(3L, "이어링 세트", 20L, 10000.0, 1L, 3000L)
+        ));
+        productSearchIndex.rebuild();
+
+        // When & Then
+        assertThat(productSearchIndex.search("ㅇㅇㅍ", null, "latest", 0, 10).getProductIds()).containsExactly(1L);
+        assertThat(productSearchIndex.search("이어", null, "latest", 0, 10).getProductIds()).containsExactly(3L, 1L);
+        assertThat(productSearchIndex.search("이어포", null, "latest", 0, 10).getProductIds()).containsExactly(1L);
+        assertThat(productSearchIndex.search("폰", null, "latest", 0, 10).getProductIds()).containsExactly(2L, 1L);
+        assertThat(productSearchIndex.search("ㅂㄹㅌㅅ 이어폰", null, "latest", 0, 10).getProductIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("변경분 반영: 수정 문서는 새 내용으로, 비노출 전환 문서는 제외")
+    void refreshChanges_AppliesDelta() {
+        // Given
+        givenFullScan(List.of(
+                doc(1L, "Cotton Shirt", 10L, 30000.0, 5L, 1000L),
+                doc(2L, "Linen Shirt", 10L, 50000.0, 20L, 2000L)
+        ));
+        productSearchIndex.rebuild();
+
+        ProductSearchDocument hidden = doc(1L, "Cotton Shirt", 10L, 30000.0, 5L, 1000L);
+        hidden.setListable(false);
+        givenDeltaScan(List.of(
+                hidden,
+                doc(2L, "Linen Blouse", 10L, 50000.0, 20L, 2000L),
+                doc(3L, "Denim Shirt", 10L, 45000.0, 1L, 3000L)
+        ));
+
+        // When
+        productSearchIndex.refreshChanges();
+
+        // Then
+        assertThat(productSearchIndex.search("shirt", null, "latest", 0, 10).getProductIds()).containsExactly(3L);
+        assertThat(productSearchIndex.search("blouse", null, "latest", 0, 10).getProductIds()).containsExactly(2L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenFullScan(List<ProductSearchDocument> docs) {
+        doAnswer(invocation -> {
+            stream(docs, invocation.getArgument(1, ResultHandler.class));
+            return null;
+        }).when(productMapper).scanSearchDocuments(isNull(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDeltaScan(List<ProductSearchDocument> docs) {
+        doAnswer(invocation -> {
+            stream(docs, invocation.getArgument(1, ResultHandler.class));
+            return null;
+        }).when(productMapper).scanSearchDocuments(notNull(), any());
+    }
+
+    private void stream(List<ProductSearchDocument> docs, ResultHandler<ProductSearchDocument> handler) {
+        DefaultResultContext<ProductSearchDocument> context = new DefaultResultContext<>();
+        for (ProductSearchDocument doc : docs) {
+            context.nextResultObject(doc);
+            handler.handleResult(context);
+        }
+    }
+
+    private ProductSearchDocument doc(Long id, String name, Long categoryId, Double price, Long salesCount, Long createdAtMillis) {
+        return ProductSearchDocument.builder()
+                .id(id)
+                .name(name)
+                .categoryId(categoryId)
+                .price(price)
+                .salesCount(salesCount)
+                .createdAtMillis(createdAtMillis)
+                .updatedAtMillis(createdAtMillis)
+                .listable(true)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package org.biz.shopverse.service.product.search.index;
+
+import org.biz.shopverse.dto.product.ProductSearchDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductTextAnalyzerTest {
+
+    @Test
+    @DisplayName("음절 분해: 겹모음/겹받침은 기본 자모로")
+    void decompose() {
+        assertThat(HangulJamo.decompose("이어폰")).isEqualTo("ㅇㅣㅇㅓㅍㅗㄴ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("과자")).isEqualTo("ㄱㅗㅏㅈㅏ");
+        assertThat(HangulJamo.choseong("갤럭시s24")).isEqualTo("ㄱㄹㅅs24");
+    }
+
+    @Test
+    @DisplayName("검색어 변환: 초성/한글/그 외")
+    void queryTokens() {
+        assertThat(ProductTextAnalyzer.queryTokens("ㅇㅇㅍ 이어ㅍ USB"))
+                .containsExactly("#c:ㅇㅇㅍ", "#j:ㅇㅣㅇㅓㅍ", "usb");
+    }
+
+    @Test
+    @DisplayName("한글 토큰은 음절 경계 접미사의 초성/자모열도 색인")
+    void indexTerms() {
+        ProductSearchDocument doc = ProductSearchDocument.builder().name("무선 이어폰").build();
+
+        assertThat(ProductTextAnalyzer.indexTerms(doc))
+                .contains("이어폰", "#c:ㅇㅇㅍ", "#c:ㅇㅍ", "#c:ㅍ", "#j:ㅇㅓㅍㅗㄴ", "#c:ㅁㅅ");
+    }
+}
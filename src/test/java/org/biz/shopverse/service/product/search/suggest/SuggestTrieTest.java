@@ -0,0 +1,50 @@
+package org.biz.shopverse.service.product.search.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestTrieTest {
+
+    @Test
+    @DisplayName("접두어 하위 항목을 가중치 순으로, 노드별 상위 K 개까지")
+    void lookup_TopKByWeight() {
+        // Given
+        Map<String, SuggestTrie.Entry> entries = new HashMap<>();
+        ProductSuggestService.addEntry(entries, "Apple", 5);
+        ProductSuggestService.addEntry(entries, "App", 9);
+        ProductSuggestService.addEntry(entries, "Apricot", 7);
+        ProductSuggestService.addEntry(entries, "Banana", 100);
+
+        SuggestTrie trie = SuggestTrie.build(entries, 2);
+
+        // When & Then
+        assertThat(trie.lookup(ProductSuggestService.normalize("AP"), 10)).containsExactly("App", "Apricot");
+        assertThat(trie.lookup(ProductSuggestService.normalize("appl"), 10)).containsExactly("Apple");
+        assertThat(trie.lookup(ProductSuggestService.normalize("ap"), 1)).containsExactly("App");
+        assertThat(trie.lookup(ProductSuggestService.normalize("x"), 10)).isEmpty();
+        assertThat(trie.lookup(ProductSuggestService.normalize("ap"), 0)).isEmpty();
+        assertThat(trie.lookup(ProductSuggestService.normalize("ap"), -5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 키는 합쳐서 가중치 합산, 입력 중인 한글 음절도 일치")
+    void lookup_MergedAndHangul() {
+        // Given
+        Map<String, SuggestTrie.Entry> entries = new HashMap<>();
+        ProductSuggestService.addEntry(entries, "이어링", 10);
+        ProductSuggestService.addEntry(entries, "이어폰", 6);
+        ProductSuggestService.addEntry(entries, " 이어폰 ", 6);
+
+        SuggestTrie trie = SuggestTrie.build(entries, 10);
+
+        // When & Then
+        assertThat(trie.size()).isEqualTo(2);
+        assertThat(trie.lookup(ProductSuggestService.normalize("이어"), 10)).containsExactly("이어폰", "이어링");
+        assertThat(trie.lookup(ProductSuggestService.normalize("이어포"), 10)).containsExactly("이어폰");
+    }
+}
@@ -0,0 +1,131 @@
+package org.biz.shopverse.service.product.trending;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.biz.shopverse.service.product.CategoryTreeIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductTrendingServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private CategoryTreeIndex categoryTreeIndex;
+
+    private ProductTrendingService productTrendingService;
+
+    @BeforeEach
+    void setUp() {
+        productTrendingService = new ProductTrendingService(redisTemplate, categoryTreeIndex, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(productTrendingService, "halfLifeMinutes", 60L);
+        ReflectionTestUtils.setField(productTrendingService, "decayIntervalMs", 600_000L);
+        ReflectionTestUtils.setField(productTrendingService, "maxSize", 3L);
+        productTrendingService.init();
+    }
+
+    @Test
+    @DisplayName("감쇠 계수: 반감기 동안 누적하면 0.5")
+    void decayFactor() {
+        double factor = ProductTrendingService.decayFactor(600_000, 3_600_000);
+        assertThat(Math.pow(factor, 6)).isCloseTo(0.5, within(1e-9));
+        assertThat(ProductTrendingService.decayFactor(3_600_000, 3_600_000)).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("카테고리 순위의 offset 부터 점수 내림차순 상품 ID")
+    void page_Ranked() {
+        // Given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.zCard("PTR:5")).thenReturn(12L);
+        when(zSetOperations.reverseRange("PTR:5", 10, 19)).thenReturn(new LinkedHashSet<>(List.of("7", "3")));
+
+        // When
+        TrendingPage page = productTrendingService.page(5L, 10, 10);
+
+        // Then
+        assertThat(page.getProductIds()).containsExactly(7L, 3L);
+        assertThat(page.getTotalCount()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Redis 오류면 null (목록 조회는 popular 로 대체)")
+    void page_RedisError() {
+        when(redisTemplate.opsForZSet()).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(productTrendingService.page(null, 0, 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("감쇠: 모든 순위에 계수를 곱하고 작은 점수와 상한 밖 순위를 잘라낸다")
+    void decay_AppliesFactorAndTrims() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("PTR-LOCK:decay"), eq("1"), any(Duration.class))).thenReturn(true);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members("PTRS")).thenReturn(Set.of("PTR:all"));
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        double factor = ProductTrendingService.decayFactor(600_000, 3_600_000);
+        when(zSetOperations.unionAndStore("PTR:all", List.of(), "PTR:all", Aggregate.SUM, Weights.of(factor))).thenReturn(5L);
+
+        // When
+        int decayed = productTrendingService.decay();
+
+        // Then
+        assertThat(decayed).isEqualTo(1);
+        verify(zSetOperations).removeRangeByScore("PTR:all", Double.NEGATIVE_INFINITY, 0.01);
+        verify(zSetOperations).removeRange("PTR:all", 0, -4);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이번 주기 감쇠를 실행했으면 건너뛴다")
+    void decay_LockedByOtherNode() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("PTR-LOCK:decay"), eq("1"), any(Duration.class))).thenReturn(false);
+
+        // When
+        int decayed = productTrendingService.decay();
+
+        // Then
+        assertThat(decayed).isEqualTo(-1);
+        verify(redisTemplate, never()).opsForZSet();
+        verify(zSetOperations, never()).removeRange(any(), anyLong(), anyLong());
+    }
+}